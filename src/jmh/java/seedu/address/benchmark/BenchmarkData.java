@@ -0,0 +1,225 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.attribute.NameAttribute;
+import seedu.address.model.person.attribute.SexAttribute;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.model.person.relationship.BioParentsRelationship;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.model.person.relationship.SiblingRelationship;
+import seedu.address.model.person.relationship.SpousesRelationship;
+import seedu.address.model.util.FamilyTreeGenerator;
+
+/**
+ * Builds the address books that the benchmarks run on.
+ * The same seed always gives the same address book, so that results of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = 42;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Hui Min", "Kumar", "Siti", "Aaron", "Grace", "Marcus", "Nadia", "Oliver", "Priya"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Goh", "Chua", "Raj", "Abdullah", "Koh", "Teo"};
+    // at least two root couples are needed, as the children of the same couple never marry each other
+    private static final int ROOT_COUPLES = 2;
+    private static final int CHILDREN_PER_COUPLE = 3;
+    private static final int MAX_EXTRA_ATTRIBUTE_COUNT = 26;
+    private static final int FRIENDS_PER_PERSON = 3;
+
+    /**
+     * Ways the relationships between the persons of a generated address book can be laid out.
+     */
+    public enum Shape {
+        /** Generations of married couples, each with their children, who marry children of other couples. */
+        FAMILY_TREE,
+        /** Every person is a friend of the person added before them, giving a single long path. */
+        CHAIN,
+        /** Every person is a friend of a few persons added before them, picked at random. */
+        RANDOM,
+        /** Families generated by {@code FamilyTreeGenerator}, with the attributes it gives each person. */
+        GENEALOGY
+    }
+
+    private BenchmarkData() {} // prevents instantiation
+
+    /**
+     * Returns a UUID for the {@code index}-th generated person. The last four characters of the UUIDs of the first
+     * 65536 persons are all different, as they would be in an address book that refers to persons by them.
+     */
+    public static UUID createUuid(Random random, int index) {
+        return new UUID(random.nextLong(), (random.nextLong() & ~0xFFFFL) | (index & 0xFFFF));
+    }
+
+    /**
+     * Returns {@code count} persons with a name, a sex and {@code extraAttributeCount} other attributes each.
+     * Every other person is male, starting with the first. At most 26 other attributes are supported.
+     */
+    public static List<Person> createPersons(int count, int extraAttributeCount, Random random) {
+        if (extraAttributeCount > MAX_EXTRA_ATTRIBUTE_COUNT) {
+            throw new IllegalArgumentException("At most " + MAX_EXTRA_ATTRIBUTE_COUNT + " other attributes supported");
+        }
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Attribute[] attributes = new Attribute[extraAttributeCount + 2];
+            attributes[0] = new NameAttribute("Name", FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            attributes[1] = new SexAttribute("Sex", i % 2 == 0 ? SexAttribute.Gender.MALE : SexAttribute.Gender.FEMALE);
+            for (int j = 0; j < extraAttributeCount; j++) {
+                // attribute names can only have letters
+                attributes[j + 2] = new StringAttribute("Attribute" + (char) ('A' + j),
+                        Long.toString(random.nextLong() >>> 1, Character.MAX_RADIX));
+            }
+            persons.add(new Person(createUuid(random, i), attributes));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons with no extra attributes, related in the given
+     * {@code shape}.
+     */
+    public static AddressBook createAddressBook(int personCount, Shape shape, long seed) {
+        return createAddressBook(personCount, 0, shape, seed);
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons with {@code extraAttributeCount} attributes other than
+     * their name and sex, related in the given {@code shape}. Persons in a {@code GENEALOGY} have the attributes
+     * given by {@code FamilyTreeGenerator} instead.
+     */
+    public static AddressBook createAddressBook(int personCount, int extraAttributeCount, Shape shape, long seed) {
+        if (shape == Shape.GENEALOGY) {
+            return new FamilyTreeGenerator(seed).generate(personCount);
+        }
+        Random random = new Random(seed);
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = createPersons(personCount, extraAttributeCount, random);
+        persons.forEach(addressBook::addPerson);
+        switch (shape) {
+        case FAMILY_TREE:
+            addFamilyTree(addressBook, persons);
+            break;
+        case CHAIN:
+            for (int i = 1; i < persons.size(); i++) {
+                addressBook.addRelationship(new Relationship(persons.get(i - 1).getUuid(),
+                        persons.get(i).getUuid(), "friends"));
+            }
+            break;
+        case RANDOM:
+            addRandomFriends(addressBook, persons, random);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons with {@code extraAttributeCount} attributes other than
+     * their name and sex, and {@code friendshipCount} friendships between persons picked at random.
+     */
+    public static AddressBook createAddressBookWithFriends(int personCount, int extraAttributeCount,
+            int friendshipCount, long seed) {
+        Random random = new Random(seed);
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = createPersons(personCount, extraAttributeCount, random);
+        persons.forEach(addressBook::addPerson);
+        if (personCount < 2 && friendshipCount > 0) {
+            throw new IllegalArgumentException("Friendships need at least two persons");
+        }
+        Set<Long> pairs = new HashSet<>();
+        while (pairs.size() < friendshipCount) {
+            int person1 = random.nextInt(personCount);
+            int person2 = random.nextInt(personCount);
+            long pair = (long) Math.min(person1, person2) * personCount + Math.max(person1, person2);
+            if (person1 != person2 && pairs.add(pair)) {
+                addressBook.addRelationship(new Relationship(persons.get(person1).getUuid(),
+                        persons.get(person2).getUuid(), "friends"));
+            }
+        }
+        return addressBook;
+    }
+
+    private static boolean isMale(Person person) {
+        return ((SexAttribute) person.getAttribute("Sex")).getGender() == SexAttribute.Gender.MALE;
+    }
+
+    /**
+     * Relates {@code persons} as generations of families. The first few persons are married couples, and the persons
+     * after them are the children of the couples before them, each child marrying a child of another couple once one
+     * of the opposite sex is unmarried.
+     */
+    private static void addFamilyTree(AddressBook addressBook, List<Person> persons) {
+        ArrayDeque<Person[]> couples = new ArrayDeque<>();
+        ArrayDeque<Person> unmarriedMen = new ArrayDeque<>();
+        ArrayDeque<Person> unmarriedWomen = new ArrayDeque<>();
+        int next = 0;
+        for (int i = 0; i < ROOT_COUPLES && next + 1 < persons.size(); i++) {
+            marry(addressBook, persons.get(next), persons.get(next + 1), couples);
+            next += 2;
+        }
+
+        while (next < persons.size() && !couples.isEmpty()) {
+            Person[] parents = couples.poll();
+            List<Person> children = new ArrayList<>();
+            for (int i = 0; i < CHILDREN_PER_COUPLE && next < persons.size(); i++) {
+                Person child = persons.get(next++);
+                addressBook.addRelationship(new BioParentsRelationship(parents[0].getUuid(), child.getUuid(),
+                        "parent", "child"));
+                addressBook.addRelationship(new BioParentsRelationship(parents[1].getUuid(), child.getUuid(),
+                        "parent", "child"));
+                if (!children.isEmpty()) {
+                    Person previousChild = children.get(children.size() - 1);
+                    addressBook.addRelationship(new SiblingRelationship(previousChild.getUuid(), child.getUuid(),
+                            isMale(previousChild) ? "brother" : "sister", isMale(child) ? "brother" : "sister"));
+                }
+                children.add(child);
+            }
+
+            // siblings only join the unmarried persons once they have all been matched, so they never marry
+            List<Person> unmatchedChildren = new ArrayList<>();
+            for (Person child : children) {
+                ArrayDeque<Person> unmarriedSpouses = isMale(child) ? unmarriedWomen : unmarriedMen;
+                if (unmarriedSpouses.isEmpty()) {
+                    unmatchedChildren.add(child);
+                } else {
+                    marry(addressBook, child, unmarriedSpouses.poll(), couples);
+                }
+            }
+            for (Person child : unmatchedChildren) {
+                (isMale(child) ? unmarriedMen : unmarriedWomen).add(child);
+            }
+        }
+    }
+
+    private static void marry(AddressBook addressBook, Person person1, Person person2, ArrayDeque<Person[]> couples) {
+        addressBook.addRelationship(new SpousesRelationship(person1.getUuid(), person2.getUuid(),
+                isMale(person1) ? "husband" : "wife", isMale(person2) ? "husband" : "wife"));
+        couples.add(new Person[] {person1, person2});
+    }
+
+    private static void addRandomFriends(AddressBook addressBook, List<Person> persons, Random random) {
+        for (int i = 1; i < persons.size(); i++) {
+            Set<Integer> friends = new HashSet<>();
+            for (int j = 0; j < FRIENDS_PER_PERSON && friends.size() < i; j++) {
+                int friend = random.nextInt(i);
+                if (friends.add(friend)) {
+                    addressBook.addRelationship(new Relationship(persons.get(friend).getUuid(),
+                            persons.get(i).getUuid(), "friends"));
+                }
+            }
+        }
+    }
+}
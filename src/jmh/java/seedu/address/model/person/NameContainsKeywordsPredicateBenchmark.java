@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks filtering a whole list of persons with a {@code NameContainsKeywordsPredicate}, as the find command
+ * does, for keywords that match a few of the persons and for keywords that match none of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    private static final int EXTRA_ATTRIBUTE_COUNT = 4;
+
+    @Param({"10000", "100000"})
+    private int personCount;
+
+    @Param({"balakrishnan", "nadia koh", "nobody"})
+    private String keywords;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.createPersons(personCount, EXTRA_ATTRIBUTE_COUNT, new Random(BenchmarkData.SEED));
+        predicate = new NameContainsKeywordsPredicate(List.of(keywords.split(" ")));
+    }
+
+    @Benchmark
+    public int filter() {
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks narrowing down the persons of a {@code UniquePersonList} with its trigram index, and finding the
+ * positions of the matching candidates to show them as the find command does. The persons and keywords are the same
+ * as in {@code NameContainsKeywordsPredicateBenchmark}, which filters the list without the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonTrigramIndexBenchmark {
+
+    private static final int EXTRA_ATTRIBUTE_COUNT = 4;
+
+    @Param({"10000", "100000"})
+    private int personCount;
+
+    @Param({"balakrishnan", "nadia koh", "nobody"})
+    private String keywords;
+
+    private UniquePersonList personList;
+    private List<String> phrases;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons =
+                BenchmarkData.createPersons(personCount, EXTRA_ATTRIBUTE_COUNT, new Random(BenchmarkData.SEED));
+        personList = new UniquePersonList();
+        persons.forEach(personList::add);
+        phrases = List.of(keywords.split(" "));
+        predicate = new NameContainsKeywordsPredicate(phrases);
+        // the index is built by the first lookup, which is not measured
+        personList.getCandidatesContainingAny(phrases);
+    }
+
+    @Benchmark
+    public Optional<Set<UUID>> getCandidates() {
+        return personList.getCandidatesContainingAny(phrases);
+    }
+
+    @Benchmark
+    public int[] filter() {
+        Set<UUID> candidates = personList.getCandidatesContainingAny(phrases).get();
+        List<UUID> matches = new ArrayList<>();
+        for (UUID uuid : candidates) {
+            if (predicate.test(personList.getPersonByUuid(uuid))) {
+                matches.add(uuid);
+            }
+        }
+        return personList.getPositions(matches);
+    }
+}
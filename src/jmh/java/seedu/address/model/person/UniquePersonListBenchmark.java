@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks looking persons up in a {@code UniquePersonList} by their full UUID and by the last four characters of
+ * their UUID, going through the persons in a random order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    private static final int LOOKUP_COUNT = 1024;
+
+    @Param({"1000", "10000", "50000"})
+    private int personCount;
+
+    private UniquePersonList personList;
+    private UUID[] uuids;
+    private String[] shortUuids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        List<Person> persons = BenchmarkData.createPersons(personCount, 0, random);
+        personList = new UniquePersonList();
+        persons.forEach(personList::add);
+
+        uuids = new UUID[LOOKUP_COUNT];
+        shortUuids = new String[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            Person person = persons.get(random.nextInt(personCount));
+            uuids[i] = person.getUuid();
+            shortUuids[i] = person.getLastFourCharacterOfUuid();
+        }
+    }
+
+    @Benchmark
+    public Person getPersonByUuid() {
+        next = (next + 1) % LOOKUP_COUNT;
+        return personList.getPersonByUuid(uuids[next]);
+    }
+
+    @Benchmark
+    public UUID getFullUuid() {
+        next = (next + 1) % LOOKUP_COUNT;
+        return personList.getFullUuid(shortUuids[next]);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person.relationship;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.util.ResultContainer;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks the path searches of {@code RelationshipUtil} between the first and the last person of address books
+ * of different sizes and shapes, which is the longest path in a family tree or a chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelationshipSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int personCount;
+
+    @Param({"FAMILY_TREE", "CHAIN", "RANDOM", "GENEALOGY"})
+    private BenchmarkData.Shape shape;
+
+    private RelationshipUtil relationships;
+    private UUID origin;
+    private UUID target;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = BenchmarkData.createAddressBook(personCount, shape, BenchmarkData.SEED);
+        relationships = addressBook.getRelationshipDescriptors();
+        List<Person> persons = addressBook.getPersonList();
+        origin = persons.get(0).getUuid();
+        target = persons.get(persons.size() - 1).getUuid();
+    }
+
+    @Benchmark
+    public ResultContainer anySearch() {
+        return relationships.anySearchForTreeMap(origin, target);
+    }
+
+    @Benchmark
+    public ResultContainer familySearch() {
+        return relationships.familySearchForTreeMap(origin, target);
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.person.relationship;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks the checks that {@code RelationshipUtil} makes before a relationship is added to a family tree, for a
+ * relationship that passes all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelationshipValidationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int personCount;
+
+    private Model model;
+    private RelationshipUtil relationships;
+    // the first two persons are a married couple at the root of the tree, with no bioparents
+    private Person husband;
+    private Person wife;
+    // the first two children in the tree are their son and daughter
+    private Person son;
+    private Person daughter;
+    // the last person, who is not related to the couple at the root
+    private Person stranger;
+    private Relationship newFriends;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.createAddressBook(personCount, BenchmarkData.Shape.FAMILY_TREE,
+                BenchmarkData.SEED), new UserPrefs());
+        relationships = model.getAddressBook().getRelationshipDescriptors();
+        List<Person> persons = model.getAddressBook().getPersonList();
+        husband = persons.get(0);
+        wife = persons.get(1);
+        son = persons.get(4);
+        daughter = persons.get(5);
+        stranger = persons.get(persons.size() - 1);
+        newFriends = new FriendsRelationship(husband.getUuid(), stranger.getUuid());
+    }
+
+    @Benchmark
+    public Relationship relationshipChecks() throws CommandException {
+        return relationships.relationshipChecks(newFriends, newFriends.getPerson1(), newFriends.getPerson2(),
+                husband.getLastFourCharacterOfUuid(), stranger.getLastFourCharacterOfUuid(), null, null, model,
+                "friends", "friends", true);
+    }
+
+    @Benchmark
+    public RoleBasedRelationship getBioparentsCount() throws CommandException {
+        return relationships.getBioparentsCount(model, husband.getLastFourCharacterOfUuid(),
+                wife.getLastFourCharacterOfUuid(), "parent", "child");
+    }
+
+    @Benchmark
+    public RoleBasedRelationship checkSiblingsSpousesGender() throws CommandException {
+        return relationships.checkSiblingsSpousesGender(model, son.getLastFourCharacterOfUuid(),
+                daughter.getLastFourCharacterOfUuid(), "brother", "sister", true);
+    }
+
+    @Benchmark
+    public RoleBasedRelationship getRelationshipRoleBased() throws CommandException {
+        return relationships.getRelationshipRoleBased(son.getUuid(), daughter.getUuid(), model,
+                son.getLastFourCharacterOfUuid(), daughter.getLastFourCharacterOfUuid(), "brother", "sister",
+                "siblings");
+    }
+
+    @Benchmark
+    public void genderCheck() throws CommandException {
+        relationships.genderCheck(son.getUuid(), "male");
+    }
+}
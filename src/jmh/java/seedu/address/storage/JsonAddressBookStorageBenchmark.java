@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks reading and saving address books of different sizes in JSON, both through {@code JsonUtil} and through
+ * {@code JsonAddressBookStorage}, which also converts them from and into the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000"})
+    private int personCount;
+
+    /** Number of attributes of each person, including their name and sex. */
+    @Param({"2", "10"})
+    private int attributeCount;
+
+    @Param({"0", "10000"})
+    private int relationshipCount;
+
+    private Path folder;
+    private Path savedFilePath;
+    private Path saveFilePath;
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook serializableAddressBook;
+    private String json;
+    private JsonAddressBookStorage savedStorage;
+    private JsonAddressBookStorage saveStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkData.createAddressBookWithFriends(personCount, attributeCount - 2,
+                relationshipCount, BenchmarkData.SEED);
+        serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+        json = JsonUtil.toJsonString(serializableAddressBook);
+
+        folder = Files.createTempDirectory("benchmark");
+        savedFilePath = folder.resolve("saved.json");
+        saveFilePath = folder.resolve("save.json");
+        savedStorage = new JsonAddressBookStorage(savedFilePath);
+        savedStorage.saveAddressBook(addressBook);
+        saveStorage = new JsonAddressBookStorage(saveFilePath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedFilePath);
+        Files.deleteIfExists(saveFilePath);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public String toJsonString() throws IOException {
+        return JsonUtil.toJsonString(serializableAddressBook);
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook fromJsonString() throws IOException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+    }
+
+    @Benchmark
+    public void saveJsonFile() throws IOException {
+        JsonUtil.saveJsonFile(serializableAddressBook, saveFilePath);
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook readJsonFile() throws DataLoadingException {
+        return JsonUtil.readJsonFile(savedFilePath, JsonSerializableAddressBook.class).get();
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return savedStorage.readAddressBook().get();
+    }
+}
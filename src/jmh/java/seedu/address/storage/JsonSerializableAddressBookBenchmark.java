@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Benchmarks converting address books of different sizes between the model and {@code JsonSerializableAddressBook}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000"})
+    private int personCount;
+
+    /** Number of attributes of each person, including their name and sex. */
+    @Param({"2", "10"})
+    private int attributeCount;
+
+    @Param({"0", "10000"})
+    private int relationshipCount;
+
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook serializableAddressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.createAddressBookWithFriends(personCount, attributeCount - 2,
+                relationshipCount, BenchmarkData.SEED);
+        serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook fromModelType() {
+        return new JsonSerializableAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+}
@@ -17,6 +17,15 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // Whether changes to the address book are appended to a journal instead of rewriting the whole data file.
+    // Off by default, as the data file alone does not hold the latest changes until the journal is compacted.
+    private boolean addressBookJournalEnabled = false;
+    // Whether the address book data file is written with line breaks and indentation
+    private boolean addressBookPrettyPrinted = true;
+    // Whether the status bar shows how long each command took
+    private boolean commandStatsShown = false;
+    // Whether commands, relationship searches and data file reads and writes are recorded by Java Flight Recorder
+    private boolean flightRecorderEventsEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +43,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    public boolean isCommandStatsShown() {
+        return commandStatsShown;
+    }
+
+    public void setCommandStatsShown(boolean commandStatsShown) {
+        this.commandStatsShown = commandStatsShown;
+    }
+
+    public boolean isFlightRecorderEventsEnabled() {
+        return flightRecorderEventsEnabled;
+    }
+
+    public void setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+        this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +88,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookJournalEnabled == otherConfig.addressBookJournalEnabled
+                && addressBookPrettyPrinted == otherConfig.addressBookPrettyPrinted
+                && commandStatsShown == otherConfig.commandStatsShown
+                && flightRecorderEventsEnabled == otherConfig.flightRecorderEventsEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookJournalEnabled, addressBookPrettyPrinted,
+                commandStatsShown, flightRecorderEventsEnabled);
     }
 
     @Override
@@ -60,6 +106,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookJournalEnabled", addressBookJournalEnabled)
+                .add("addressBookPrettyPrinted", addressBookPrettyPrinted)
+                .add("commandStatsShown", commandStatsShown)
+                .add("flightRecorderEventsEnabled", flightRecorderEventsEnabled)
                 .toString();
     }
 
@@ -0,0 +1,51 @@
+package seedu.address.commons.jfr;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * Flight Recorder event of reading the address book from its data file, or writing it to the file.
+ */
+@Name(FlightRecorderEvents.EVENT_NAME_PREFIX + "AddressBookFile")
+@Label("Address Book File")
+@Category({FlightRecorderEvents.CATEGORY, "Storage"})
+@Description("The address book read from or written to a data file")
+@Registered(false)
+public class AddressBookFileEvent extends Event {
+
+    /** Operations on a data file. */
+    public enum Operation {
+        READ, WRITE
+    }
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Size")
+    @Description("Size of the data file, or 0 if it could not be found")
+    @DataAmount
+    private long bytes;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    /**
+     * Sets the {@code operation} on the data file at {@code filePath}, which has {@code bytes} after it.
+     */
+    public void setOperation(Operation operation, Path filePath, long bytes, boolean isSuccessful) {
+        this.operation = operation.toString().toLowerCase();
+        this.filePath = String.valueOf(filePath);
+        this.bytes = bytes;
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * Flight Recorder event of one command, from parsing the command text to saving the address book.
+ */
+@Name(FlightRecorderEvents.EVENT_NAME_PREFIX + "Command")
+@Label("Command")
+@Category({FlightRecorderEvents.CATEGORY, "Commands"})
+@Description("A command entered by the user, from parsing it to saving the address book")
+@Registered(false)
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Successful")
+    @Description("Whether the command was parsed, executed and saved without an error")
+    private boolean isSuccessful;
+
+    /**
+     * Sets the outcome of the command entered with {@code commandWord}.
+     */
+    public void setOutcome(String commandWord, boolean isSuccessful) {
+        this.commandWord = commandWord;
+        this.isSuccessful = isSuccessful;
+    }
+}
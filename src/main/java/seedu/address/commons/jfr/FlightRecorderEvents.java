@@ -0,0 +1,55 @@
+package seedu.address.commons.jfr;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Registers the app's own Java Flight Recorder events, so that recordings of the app, such as those started with
+ * {@code -XX:StartFlightRecording} or {@code jcmd}, have its commands, relationship searches and data file reads and
+ * writes alongside the JVM's own events.
+ * The events are not registered unless enabled in the {@code Config}, and cost next to nothing until then.
+ */
+public class FlightRecorderEvents {
+
+    public static final String EVENT_NAME_PREFIX = "seedu.address.";
+    public static final String CATEGORY = "Address Book";
+
+    static final List<Class<? extends Event>> EVENT_CLASSES =
+            List.of(CommandEvent.class, RelationshipSearchEvent.class, AddressBookFileEvent.class);
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecorderEvents.class);
+
+    private FlightRecorderEvents() {} // prevents instantiation
+
+    /**
+     * Registers the events if {@code config} enables them, and unregisters them otherwise.
+     */
+    public static void init(Config config) {
+        setEnabled(config.isFlightRecorderEventsEnabled());
+    }
+
+    /**
+     * Registers the events if {@code isEnabled}, and unregisters them otherwise. Does nothing if the JVM has no
+     * Flight Recorder.
+     */
+    public static void setEnabled(boolean isEnabled) {
+        if (!FlightRecorder.isAvailable()) {
+            if (isEnabled) {
+                logger.warning("Flight Recorder events are enabled, but this JVM has no Flight Recorder.");
+            }
+            return;
+        }
+        for (Class<? extends Event> eventClass : EVENT_CLASSES) {
+            if (isEnabled) {
+                FlightRecorder.register(eventClass);
+            } else {
+                FlightRecorder.unregister(eventClass);
+            }
+        }
+    }
+}
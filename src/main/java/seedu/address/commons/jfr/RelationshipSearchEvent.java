@@ -0,0 +1,61 @@
+package seedu.address.commons.jfr;
+
+import java.util.UUID;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * Flight Recorder event of one search for a path of relationships between two persons.
+ */
+@Name(FlightRecorderEvents.EVENT_NAME_PREFIX + "RelationshipSearch")
+@Label("Relationship Search")
+@Category({FlightRecorderEvents.CATEGORY, "Relationships"})
+@Description("A search for a shortest path of relationships between two persons")
+@Registered(false)
+public class RelationshipSearchEvent extends Event {
+
+    @Label("Origin")
+    private String origin;
+
+    @Label("Target")
+    private String target;
+
+    @Label("Family Only")
+    @Description("Whether only family relationships could be used")
+    private boolean isFamilyOnly;
+
+    @Label("Bidirectional")
+    @Description("Whether the search expanded from both the origin and the target")
+    private boolean isBidirectional;
+
+    @Label("Persons Expanded")
+    @Description("Number of persons whose relationships the search went through")
+    private int expandedCount;
+
+    @Label("Path Length")
+    @Description("Number of relationships in the path found, or -1 if there is none")
+    private int pathLength;
+
+    /**
+     * Sets what was searched for: a path from {@code origin} to {@code target}.
+     */
+    public void setSearch(UUID origin, UUID target, boolean isFamilyOnly, boolean isBidirectional) {
+        this.origin = String.valueOf(origin);
+        this.target = String.valueOf(target);
+        this.isFamilyOnly = isFamilyOnly;
+        this.isBidirectional = isBidirectional;
+    }
+
+    /**
+     * Sets how much of the graph the search went through, and the length of the path it found.
+     */
+    public void setResult(int expandedCount, int pathLength) {
+        this.expandedCount = expandedCount;
+        this.pathLength = pathLength;
+    }
+}
@@ -0,0 +1,12 @@
+package seedu.address.logic;
+
+/**
+ * Is told how long each command executed by a {@code LogicManager} took, whether or not it succeeded.
+ */
+@FunctionalInterface
+public interface CommandListener {
+    /**
+     * Called after each command, on the thread that executed it.
+     */
+    void commandExecuted(CommandTiming timing);
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Time taken by each phase of one command executed by a {@code LogicManager}: parsing the command text, executing
+ * the parsed command and saving the address book. Phases that were not reached, because an earlier phase failed or
+ * there was nothing to save, take no time.
+ */
+public class CommandTiming {
+
+    /** Phases of a command, and all of them together as {@code TOTAL}. */
+    public enum Phase {
+        TOTAL, PARSE, EXECUTE, SAVE
+    }
+
+    private final String commandWord;
+    private final long parseNanos;
+    private final long executeNanos;
+    private final long saveNanos;
+    private final boolean isSuccessful;
+
+    /**
+     * Creates a {@code CommandTiming} of a command entered with {@code commandWord}.
+     */
+    public CommandTiming(String commandWord, long parseNanos, long executeNanos, long saveNanos,
+            boolean isSuccessful) {
+        this.commandWord = commandWord;
+        this.parseNanos = parseNanos;
+        this.executeNanos = executeNanos;
+        this.saveNanos = saveNanos;
+        this.isSuccessful = isSuccessful;
+    }
+
+    /**
+     * Returns the first word of {@code commandText} in lower case, as it is matched by the parser, or an empty string
+     * if there is none.
+     */
+    public static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        int end = 0;
+        while (end < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(end))) {
+            end++;
+        }
+        return trimmedText.substring(0, end).toLowerCase();
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    public long getSaveNanos() {
+        return saveNanos;
+    }
+
+    public long getTotalNanos() {
+        return parseNanos + executeNanos + saveNanos;
+    }
+
+    /**
+     * Returns the time taken by {@code phase}.
+     */
+    public long getNanos(Phase phase) {
+        switch (phase) {
+        case PARSE:
+            return parseNanos;
+        case EXECUTE:
+            return executeNanos;
+        case SAVE:
+            return saveNanos;
+        default:
+            return getTotalNanos();
+        }
+    }
+
+    /**
+     * Returns true if the command was parsed, executed and saved without an exception.
+     */
+    public boolean isSuccessful() {
+        return isSuccessful;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandWord", commandWord)
+                .add("parseNanos", parseNanos)
+                .add("executeNanos", executeNanos)
+                .add("saveNanos", saveNanos)
+                .add("isSuccessful", isSuccessful)
+                .toString();
+    }
+}
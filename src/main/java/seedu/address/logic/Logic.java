@@ -6,6 +6,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -24,6 +25,21 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Adds {@code listener} to be told how long each command executed from now on takes.
+     */
+    void addCommandListener(CommandListener listener);
+
+    /**
+     * Removes {@code listener}, which is told nothing more.
+     */
+    void removeCommandListener(CommandListener listener);
+
+    /**
+     * Returns the stats of the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns the AddressBook.
      *
@@ -1,16 +1,23 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommandEvent;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -28,11 +35,18 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Comes right before the text of each command in the log, which is followed by a closing bracket. */
+    public static final String COMMAND_LOG_MARKER = "[USER COMMAND][";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // Modification count of the address book when it was last saved, -1 if it has not been saved yet
+    private long savedModificationCount;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final List<CommandListener> commandListeners = new CopyOnWriteArrayList<>(List.of(commandMetrics));
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,26 +54,85 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(commandMetrics);
+        savedModificationCount = FileUtil.isFileExists(storage.getAddressBookFilePath())
+                ? model.getAddressBook().getModificationCount()
+                : -1;
+    }
+
+    @Override
+    public void addCommandListener(CommandListener listener) {
+        requireNonNull(listener);
+        commandListeners.add(listener);
+    }
+
+    @Override
+    public void removeCommandListener(CommandListener listener) {
+        commandListeners.remove(listener);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info("----------------" + COMMAND_LOG_MARKER + commandText + "]");
+
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        // the end of each phase, or -1 if it did not complete
+        long startTime = System.nanoTime();
+        long parsedTime = -1;
+        long executedTime = -1;
+        boolean isSuccessful = false;
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            parsedTime = System.nanoTime();
+            CommandResult commandResult = command.execute(model);
+            executedTime = System.nanoTime();
+            saveAddressBookIfModified();
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setOutcome(CommandTiming.getCommandWord(commandText), isSuccessful);
+                event.commit();
+            }
+            if (!commandListeners.isEmpty()) {
+                notifyCommandListeners(commandText, startTime, parsedTime, executedTime, isSuccessful);
+            }
+        }
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    private void saveAddressBookIfModified() throws CommandException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long modificationCount = addressBook.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(addressBook);
+            savedModificationCount = modificationCount;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
+
+    private void notifyCommandListeners(String commandText, long startTime, long parsedTime, long executedTime,
+            boolean isSuccessful) {
+        long endTime = System.nanoTime();
+        long parseEndTime = parsedTime == -1 ? endTime : parsedTime;
+        long executeEndTime = executedTime == -1 ? endTime : executedTime;
+        CommandTiming timing = new CommandTiming(CommandTiming.getCommandWord(commandText),
+                parseEndTime - startTime, executeEndTime - parseEndTime, endTime - executeEndTime, isSuccessful);
+        for (CommandListener listener : commandListeners) {
+            listener.commandExecuted(timing);
+        }
+    }
 
-        return commandResult;
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
     }
 
     @Override
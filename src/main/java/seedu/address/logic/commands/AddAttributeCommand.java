@@ -61,7 +61,7 @@ public class AddAttributeCommand extends Command {
                 model.genderCheck(uuidToUse, attributeValue);
             }
             Attribute attribute = AttributeUtil.createAttribute(attributeName, attributeValue);
-            person.updateAttribute(attribute);
+            model.updateAttribute(uuidToUse.toString(), attribute);
         }
         return new CommandResult("Attributes updated successfully.");
     }
@@ -35,6 +35,12 @@ public class AddCommand extends Command {
             + "/Address 311, Clementi Ave 2, #02-25 ";
 
     public static final String MESSAGE_SUCCESS = "New person added.\n%1$s";
+    public static final String MESSAGE_NO_FREE_UUID = "Could not find a UUID for the new person whose last four "
+            + "characters are not used by another person, as the address book has too many persons.";
+
+    // Number of random UUIDs to try for a new person before giving up, as the last four characters of every UUID
+    // may be taken once the address book has tens of thousands of persons
+    static final int MAX_UUID_ATTEMPTS = 100;
 
     private final HashMap<String, String> attributeMap;
 
@@ -64,10 +70,21 @@ public class AddCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(addedPerson)));
     }
 
-    private Person addPersonToModel(Model model, Attribute[] attributesToAdd) {
-        Person personToAdd = new Person(attributesToAdd);
-        model.addPerson(personToAdd);
-        return personToAdd;
+    private Person addPersonToModel(Model model, Attribute[] attributesToAdd) throws CommandException {
+        // persons are referred to by the last four characters of their UUID, so these must not be taken already
+        for (int attempt = 0; attempt < MAX_UUID_ATTEMPTS; attempt++) {
+            Person personToAdd = new Person(attributesToAdd);
+            if (!isShortUuidTaken(model, personToAdd)) {
+                model.addPerson(personToAdd);
+                return personToAdd;
+            }
+        }
+        throw new CommandException(MESSAGE_NO_FREE_UUID);
+    }
+
+    private static boolean isShortUuidTaken(Model model, Person person) throws CommandException {
+        String shortUuid = person.getLastFourCharacterOfUuid();
+        return model.hasShortUuidCollision(shortUuid) || model.getFullUuid(shortUuid) != null;
     }
 
     private Attribute[] generateAttributeList() throws CommandException {
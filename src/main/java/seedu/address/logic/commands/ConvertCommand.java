@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+
+/**
+ * Saves a copy of the address book to a file in the JSON, binary or segmented format, going by the extension of the
+ * file.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String COMMAND_WORD_SHORT = "cv";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves a copy of the address book to a new file. "
+            + "Files ending in " + BinaryAddressBookStorage.FILE_EXTENSION + " are saved in a compact binary format, "
+            + "files ending in " + SegmentedAddressBookStorage.FILE_EXTENSION + " are saved in segments whose persons "
+            + "are loaded when they are first needed, and files ending in .json are saved as JSON.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/addressbook" + BinaryAddressBookStorage.FILE_EXTENSION;
+
+    public static final String MESSAGE_SUCCESS = "Address book saved to %1$s.\n"
+            + "Set addressBookFilePath in preferences.json to this file to use it.";
+    public static final String MESSAGE_FILE_EXISTS = "%1$s already exists.";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save the address book to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates a {@code ConvertCommand} to save a copy of the address book to {@code filePath}.
+     */
+    public ConvertCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // the data file is checked too, as it is written by the storage of the app
+        if (Files.exists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_EXISTS, filePath));
+        }
+
+        try {
+            createStorage(filePath).saveAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_SAVE_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath));
+    }
+
+    /**
+     * Returns the storage for the format of {@code filePath}, going by its extension.
+     */
+    static AddressBookStorage createStorage(Path filePath) {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return new BinaryAddressBookStorage(filePath);
+        } else if (SegmentedAddressBookStorage.isSegmentedFile(filePath)) {
+            return new SegmentedAddressBookStorage(filePath);
+        } else {
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand)) {
+            return false;
+        }
+
+        ConvertCommand otherConvertCommand = (ConvertCommand) other;
+        return filePath.equals(otherConvertCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
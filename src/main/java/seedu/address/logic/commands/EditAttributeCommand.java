@@ -59,7 +59,7 @@ public class EditAttributeCommand extends Command {
 
             Attribute attribute = AttributeUtil.createAttribute(attributeName, attributeValue);
 
-            person.updateAttribute(attribute);
+            model.updateAttribute(uuidToUse.toString(), attribute);
         }
 
         return new CommandResult("Attributes edited successfully.");
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RELATIONSHIPS;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.AttributeRange;
+
+/**
+ * Lists all persons in address book whose attributes are in every one of the given ranges, such as the persons born
+ * in a given year. The persons are found with the sorted indexes of the model and shown by their UUIDs, rather than
+ * by checking every person.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String COMMAND_WORD_SHORT = "fl";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose attributes match all of the "
+            + "specified conditions. Whole numbers, dates in the format yyyy-mm-dd and the sex can be compared.\n"
+            + "Parameters: /ATTRIBUTE_NAME OPERATOR VALUE [/MORE_CONDITIONS] ...\n"
+            + "OPERATOR is one of =, <, <=, >, >= or between, which takes two values and includes both.\n"
+            + "Example: " + COMMAND_WORD + " /Birthday between 1990-01-01 1999-12-31 /Sex = female /Age > 30";
+
+    private final List<AttributeRange<?>> ranges;
+
+    /**
+     * Creates a FilterCommand to list the persons with attribute values in every one of {@code ranges}.
+     */
+    public FilterCommand(List<AttributeRange<?>> ranges) {
+        requireNonNull(ranges);
+        this.ranges = ranges;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<UUID> persons = model.getPersonsInAllRanges(ranges);
+        model.showPersons(persons);
+        model.updateFilteredRelationshipList(PREDICATE_SHOW_ALL_RELATIONSHIPS);
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, persons.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return ranges.equals(otherFilterCommand.ranges);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ranges", ranges)
+                .toString();
+    }
+}
@@ -3,14 +3,23 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RELATIONSHIPS;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The persons are first narrowed down with the index of the model, so that only the persons that may match are checked
+ * and shown.
  */
 public class FindCommand extends Command {
 
@@ -30,9 +39,20 @@ public class FindCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<Set<UUID>> candidates = model.getCandidatesContainingAny(predicate.getKeywords());
+        if (candidates.isPresent()) {
+            List<UUID> matches = new ArrayList<>();
+            for (UUID uuid : candidates.get()) {
+                if (predicate.test(model.getPersonByUuid(uuid))) {
+                    matches.add(uuid);
+                }
+            }
+            model.showPersons(matches);
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         model.updateFilteredRelationshipList(PREDICATE_SHOW_ALL_RELATIONSHIPS);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
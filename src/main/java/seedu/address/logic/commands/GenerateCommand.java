@@ -0,0 +1,166 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.util.FamilyTreeGenerator;
+import seedu.address.storage.BinaryAddressBookStorage;
+
+/**
+ * Saves an address book of generated families to a file in the JSON, binary or segmented format, going by the
+ * extension of the file. The address book in use is left as it is.
+ * Large address books take several seconds to generate, so they are generated and saved in the background, one at a
+ * time. The outcome of each is logged, and shown by the next generate command.
+ */
+public class GenerateCommand extends Command {
+
+    public static final String COMMAND_WORD = "generate";
+
+    public static final String COMMAND_WORD_SHORT = "gn";
+
+    public static final long DEFAULT_SEED = 0;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves an address book of made-up families with the "
+            + "given number of persons to a new file, in the same formats as " + ConvertCommand.COMMAND_WORD + ". "
+            + "The same seed always gives the same families.\n"
+            + "Parameters: PERSON_COUNT FILE_PATH [SEED]\n"
+            + "Example: " + COMMAND_WORD + " 100000 data/families" + BinaryAddressBookStorage.FILE_EXTENSION + " 42";
+
+    public static final String MESSAGE_STARTED = "Generating an address book of %1$d persons in the background, to be "
+            + "saved to %2$s. Its outcome is shown by the next " + COMMAND_WORD + " command.";
+    public static final String MESSAGE_SUCCESS = "Address book of %1$d persons and %2$d relationships saved to %3$s.\n"
+            + "Set addressBookFilePath in preferences.json to this file to use it.";
+    public static final String MESSAGE_GENERATION_PENDING = "An address book is already being generated for %1$s.";
+    public static final String MESSAGE_FINISHED = "%1$s\n\nGenerated since the last " + COMMAND_WORD
+            + " command:\n%2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(GenerateCommand.class);
+
+    // Generates the address books one at a time, as each may take up much of the heap
+    private static final ExecutorService generator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Files that address books are being generated for, but have not been saved to yet
+    private static final Set<Path> pendingFilePaths = ConcurrentHashMap.newKeySet();
+    // Outcomes of the generations finished since they were last shown
+    private static final Queue<String> finishedGenerations = new ConcurrentLinkedQueue<>();
+
+    private final int personCount;
+    private final Path filePath;
+    private final long seed;
+
+    /**
+     * Creates a {@code GenerateCommand} to save an address book of {@code personCount} generated persons to
+     * {@code filePath}.
+     */
+    public GenerateCommand(int personCount, Path filePath, long seed) {
+        requireNonNull(filePath);
+        this.personCount = personCount;
+        this.filePath = filePath;
+        this.seed = seed;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (pendingFilePaths.contains(filePath)) {
+            throw new CommandException(String.format(MESSAGE_GENERATION_PENDING, filePath));
+        }
+        if (Files.exists(filePath)) {
+            throw new CommandException(String.format(ConvertCommand.MESSAGE_FILE_EXISTS, filePath));
+        }
+
+        // taken before this generation starts, whose own outcome is only shown by the next command
+        List<String> outcomes = takeFinishedGenerations();
+        pendingFilePaths.add(filePath);
+        generator.execute(this::generateAndSave);
+        String feedback = String.format(MESSAGE_STARTED, personCount, filePath);
+        return new CommandResult(outcomes.isEmpty()
+                ? feedback
+                : String.format(MESSAGE_FINISHED, feedback, String.join("\n", outcomes)));
+    }
+
+    /**
+     * Generates the address book and saves it to the file, recording the outcome to be shown later.
+     */
+    private void generateAndSave() {
+        try {
+            AddressBook addressBook = new FamilyTreeGenerator(seed).generate(personCount);
+            ConvertCommand.createStorage(filePath).saveAddressBook(addressBook);
+            String outcome = String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(),
+                    addressBook.getRelationshipList().size(), filePath);
+            logger.info(outcome);
+            finishedGenerations.add(outcome);
+        } catch (IOException e) {
+            String outcome = String.format(ConvertCommand.MESSAGE_SAVE_FAILED, filePath, e.getMessage());
+            logger.warning(outcome);
+            finishedGenerations.add(outcome);
+        } finally {
+            pendingFilePaths.remove(filePath);
+        }
+    }
+
+    /**
+     * Returns the outcomes of the generations finished since this was last called, oldest first.
+     */
+    static List<String> takeFinishedGenerations() {
+        List<String> outcomes = new ArrayList<>();
+        for (String outcome = finishedGenerations.poll(); outcome != null; outcome = finishedGenerations.poll()) {
+            outcomes.add(outcome);
+        }
+        return outcomes;
+    }
+
+    /**
+     * Waits for the address books being generated to be saved.
+     */
+    static void awaitGenerations() throws InterruptedException, ExecutionException {
+        generator.submit(() -> { }).get();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GenerateCommand)) {
+            return false;
+        }
+
+        GenerateCommand otherGenerateCommand = (GenerateCommand) other;
+        return personCount == otherGenerateCommand.personCount
+                && filePath.equals(otherGenerateCommand.filePath)
+                && seed == otherGenerateCommand.seed;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", personCount)
+                .add("filePath", filePath)
+                .add("seed", seed)
+                .toString();
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands executed since the app started took, for each command word.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String COMMAND_WORD_SHORT = "st";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the latency percentiles of each command, "
+            + "split into parsing, executing and saving.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Stats of the commands since the app started:\n%1$s";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed since the app started.";
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the stats in {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        if (commandMetrics.getCommandCount() == 0) {
+            return new CommandResult(MESSAGE_NO_COMMANDS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandMetrics));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics;
+    }
+}
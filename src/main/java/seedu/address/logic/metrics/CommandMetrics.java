@@ -0,0 +1,70 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandListener;
+import seedu.address.logic.CommandTiming;
+
+/**
+ * Registry of the {@code CommandStats} of each command word, kept up to date with every command executed since the
+ * app started. Commands can be recorded and read by many threads at once without locking.
+ */
+public class CommandMetrics implements CommandListener {
+
+    /** Command word under which the commands of all command words are recorded together. */
+    public static final String ALL_COMMANDS = "(all)";
+
+    private final ConcurrentMap<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    private final CommandStats allStats = new CommandStats(ALL_COMMANDS);
+
+    @Override
+    public void commandExecuted(CommandTiming timing) {
+        requireNonNull(timing);
+        statsByCommandWord.computeIfAbsent(timing.getCommandWord(), CommandStats::new).record(timing);
+        allStats.record(timing);
+    }
+
+    /**
+     * Returns the stats of the commands entered with {@code commandWord}, or of all commands if it is
+     * {@code ALL_COMMANDS}, if any such command was recorded.
+     */
+    public Optional<CommandStats> getStats(String commandWord) {
+        requireNonNull(commandWord);
+        if (commandWord.equals(ALL_COMMANDS)) {
+            return allStats.getCommandCount() == 0 ? Optional.empty() : Optional.of(allStats);
+        }
+        return Optional.ofNullable(statsByCommandWord.get(commandWord));
+    }
+
+    /**
+     * Returns the stats of each command word recorded, in order of command word.
+     */
+    public List<CommandStats> getAllStats() {
+        return statsByCommandWord.values().stream()
+                .sorted(Comparator.comparing(CommandStats::getCommandWord))
+                .collect(Collectors.toList());
+    }
+
+    public long getCommandCount() {
+        return allStats.getCommandCount();
+    }
+
+    /**
+     * Returns a line of stats for each command word recorded, in order, followed by one for all commands.
+     */
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        for (CommandStats stats : getAllStats()) {
+            summary.append(stats).append('\n');
+        }
+        return summary.append(allStats).toString();
+    }
+}
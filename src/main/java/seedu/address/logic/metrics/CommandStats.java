@@ -0,0 +1,87 @@
+package seedu.address.logic.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.logic.CommandTiming;
+import seedu.address.logic.CommandTiming.Phase;
+
+/**
+ * Latencies of each phase of the commands entered with one command word.
+ */
+public class CommandStats {
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final String commandWord;
+    private final Map<Phase, Histogram> latencies;
+    private final AtomicLong failedCount = new AtomicLong();
+
+    /**
+     * Creates an empty {@code CommandStats} for the commands entered with {@code commandWord}.
+     */
+    public CommandStats(String commandWord) {
+        this.commandWord = commandWord;
+        Map<Phase, Histogram> phaseLatencies = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseLatencies.put(phase, new Histogram());
+        }
+        latencies = Collections.unmodifiableMap(phaseLatencies);
+    }
+
+    /**
+     * Records the timing of one command.
+     */
+    public void record(CommandTiming timing) {
+        for (Phase phase : Phase.values()) {
+            latencies.get(phase).record(timing.getNanos(phase));
+        }
+        if (!timing.isSuccessful()) {
+            failedCount.incrementAndGet();
+        }
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public long getCommandCount() {
+        return latencies.get(Phase.TOTAL).getCount();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Returns the latencies of {@code phase} in nanoseconds.
+     */
+    public Histogram getLatencies(Phase phase) {
+        return latencies.get(phase);
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds, with the unit.
+     */
+    public static String formatMillis(long nanos) {
+        return String.format("%.2f ms", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Returns a line with the number of commands, their total latency percentiles and the 95th percentile latency of
+     * each phase.
+     */
+    @Override
+    public String toString() {
+        Histogram totalLatencies = latencies.get(Phase.TOTAL);
+        return String.format("%s: %d commands, %d failed; total p50 %s, p95 %s, p99 %s; p95 parse %s, "
+                + "execute %s, save %s", commandWord, getCommandCount(), getFailedCount(),
+                formatMillis(totalLatencies.getPercentile(50)), formatMillis(totalLatencies.getPercentile(95)),
+                formatMillis(totalLatencies.getPercentile(99)),
+                formatMillis(latencies.get(Phase.PARSE).getPercentile(95)),
+                formatMillis(latencies.get(Phase.EXECUTE).getPercentile(95)),
+                formatMillis(latencies.get(Phase.SAVE).getPercentile(95)));
+    }
+}
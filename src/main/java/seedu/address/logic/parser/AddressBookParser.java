@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -14,6 +15,7 @@ import seedu.address.logic.commands.AddRelationshipCommand;
 import seedu.address.logic.commands.AnySearchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteAttributeCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteRelationshipCommand;
@@ -21,11 +23,15 @@ import seedu.address.logic.commands.EditAttributeCommand;
 import seedu.address.logic.commands.EditRelationshipCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FamilySearchCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GenerateCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListRelationshipTypesCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -39,6 +45,23 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands show the stats in {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands show the stats of no commands.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -78,6 +101,10 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD_SHORT:
             return new FindCommandParser().parse(arguments);
 
+        case FilterCommand.COMMAND_WORD:
+        case FilterCommand.COMMAND_WORD_SHORT:
+            return new FilterCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
         case ListCommand.COMMAND_WORD_SHORT:
             return new ListCommand();
@@ -126,6 +153,18 @@ public class AddressBookParser {
         case EditAttributeCommand.COMMAND_WORD_SHORT:
             return new EditCommandParser().parse(userInput.trim());
 
+        case ConvertCommand.COMMAND_WORD:
+        case ConvertCommand.COMMAND_WORD_SHORT:
+            return new ConvertCommandParser().parse(arguments);
+
+        case GenerateCommand.COMMAND_WORD:
+        case GenerateCommand.COMMAND_WORD_SHORT:
+            return new GenerateCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+        case StatsCommand.COMMAND_WORD_SHORT:
+            return new StatsCommand(commandMetrics);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
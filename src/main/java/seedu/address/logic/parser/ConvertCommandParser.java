@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+
+/**
+ * Parses input arguments and creates a new ConvertCommand object
+ */
+public class ConvertCommandParser implements Parser<ConvertCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "%1$s is not a valid file path.";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file name must end in .json, "
+            + BinaryAddressBookStorage.FILE_EXTENSION + " or " + SegmentedAddressBookStorage.FILE_EXTENSION + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertCommand
+     * and returns a ConvertCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConvertCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE));
+        }
+        return new ConvertCommand(parseFilePath(trimmedArgs));
+    }
+
+    /**
+     * Parses {@code filePath} into the path of a data file in one of the formats the address book can be saved in.
+     * @throws ParseException if {@code filePath} is not a valid path or does not end in the extension of a format
+     */
+    static Path parseFilePath(String filePath) throws ParseException {
+        if (!FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePath));
+        }
+
+        Path path = Paths.get(filePath);
+        if (!BinaryAddressBookStorage.isBinaryFile(path) && !SegmentedAddressBookStorage.isSegmentedFile(path)
+                && !filePath.toLowerCase().endsWith(".json")) {
+            throw new ParseException(MESSAGE_UNKNOWN_FORMAT);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AttributeRange;
+import seedu.address.model.person.attribute.SexAttribute;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String MESSAGE_INVALID_OPERATOR = "The operator must be one of =, <, <=, >, >= or between.";
+    public static final String MESSAGE_INVALID_VALUE = "%1$s is not a whole number or a date in the format "
+            + "yyyy-mm-dd.";
+    public static final String MESSAGE_INVALID_SEX = "Sex must only be male or female.";
+    public static final String MESSAGE_SEX_NOT_EQUAL = "Sex can only be compared with =.";
+    public static final String MESSAGE_INVALID_RANGE = "The first value of between cannot be above the second.";
+
+    private static final String BETWEEN = "between";
+    private static final List<String> OPERATORS = Arrays.asList("=", "<", "<=", ">", ">=", BETWEEN);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.startsWith("/")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<AttributeRange<?>> ranges = new ArrayList<>();
+        for (String condition : trimmedArgs.substring(1).split("/", -1)) {
+            ranges.add(parseCondition(condition.trim()));
+        }
+        return new FilterCommand(ranges);
+    }
+
+    /**
+     * Parses a condition of the form {@code ATTRIBUTE_NAME OPERATOR VALUE}, or
+     * {@code ATTRIBUTE_NAME between VALUE VALUE}, into the range of values it matches.
+     */
+    private static AttributeRange<?> parseCondition(String condition) throws ParseException {
+        String[] words = condition.split("\\s+");
+        if (words.length < 3) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+        String attributeName = words[0];
+        String operator = words[1].toLowerCase();
+        if (!OPERATORS.contains(operator)) {
+            throw new ParseException(MESSAGE_INVALID_OPERATOR);
+        }
+        List<String> values = Arrays.asList(words).subList(2, words.length);
+        if (values.size() != (operator.equals(BETWEEN) ? 2 : 1)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        if (attributeName.equalsIgnoreCase("sex")) {
+            if (!operator.equals("=")) {
+                throw new ParseException(MESSAGE_SEX_NOT_EQUAL);
+            }
+            return createRange(attributeName, operator, values, FilterCommandParser::parseSex);
+        }
+        // Like Attribute.fromString, a value that is a whole number is compared as one, and as a date otherwise
+        if (values.get(0).matches("[+-]?\\d+")) {
+            return createRange(attributeName, operator, values, FilterCommandParser::parseInteger);
+        }
+        return createRange(attributeName, operator, values, FilterCommandParser::parseDate);
+    }
+
+    private static <V extends Comparable<? super V>> AttributeRange<V> createRange(
+            String attributeName, String operator, List<String> values, ValueParser<V> valueParser)
+            throws ParseException {
+        V value = valueParser.parse(values.get(0));
+        switch (operator) {
+        case "=":
+            return AttributeRange.equalTo(attributeName, value);
+        case "<":
+            return AttributeRange.lessThan(attributeName, value);
+        case "<=":
+            return AttributeRange.atMost(attributeName, value);
+        case ">":
+            return AttributeRange.greaterThan(attributeName, value);
+        case ">=":
+            return AttributeRange.atLeast(attributeName, value);
+        case BETWEEN:
+            V upper = valueParser.parse(values.get(1));
+            if (value.compareTo(upper) > 0) {
+                throw new ParseException(MESSAGE_INVALID_RANGE);
+            }
+            return AttributeRange.between(attributeName, value, upper);
+        default:
+            throw new ParseException(MESSAGE_INVALID_OPERATOR);
+        }
+    }
+
+    private static Integer parseInteger(String value) throws ParseException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value), e);
+        }
+    }
+
+    private static LocalDate parseDate(String value) throws ParseException {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value), e);
+        }
+    }
+
+    private static SexAttribute.Gender parseSex(String value) throws ParseException {
+        if (value.equalsIgnoreCase("female") || value.equalsIgnoreCase("f")) {
+            return SexAttribute.Gender.FEMALE;
+        } else if (value.equalsIgnoreCase("male") || value.equalsIgnoreCase("m")) {
+            return SexAttribute.Gender.MALE;
+        }
+        throw new ParseException(MESSAGE_INVALID_SEX);
+    }
+
+    /**
+     * Parses a value of a condition.
+     */
+    @FunctionalInterface
+    private interface ValueParser<V> {
+        V parse(String value) throws ParseException;
+    }
+}
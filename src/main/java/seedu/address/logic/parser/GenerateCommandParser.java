@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.util.FamilyTreeGenerator;
+
+/**
+ * Parses input arguments and creates a new GenerateCommand object
+ */
+public class GenerateCommandParser implements Parser<GenerateCommand> {
+
+    public static final String MESSAGE_INVALID_PERSON_COUNT = "The number of persons must be a whole number from 1 to "
+            + FamilyTreeGenerator.MAX_PERSON_COUNT + ".";
+    public static final String MESSAGE_INVALID_SEED = "The seed must be a whole number.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GenerateCommand
+     * and returns a GenerateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GenerateCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+");
+        if (words.length < 2 || words.length > 3) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE));
+        }
+
+        int personCount;
+        try {
+            personCount = Integer.parseInt(words[0]);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_PERSON_COUNT, e);
+        }
+        if (personCount < 1 || personCount > FamilyTreeGenerator.MAX_PERSON_COUNT) {
+            throw new ParseException(MESSAGE_INVALID_PERSON_COUNT);
+        }
+
+        Path filePath = ConvertCommandParser.parseFilePath(words[1]);
+
+        long seed = GenerateCommand.DEFAULT_SEED;
+        if (words.length == 3) {
+            try {
+                seed = Long.parseLong(words[2]);
+            } catch (NumberFormatException e) {
+                throw new ParseException(MESSAGE_INVALID_SEED, e);
+            }
+        }
+        return new GenerateCommand(personCount, filePath, seed);
+    }
+}
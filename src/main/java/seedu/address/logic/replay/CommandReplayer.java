@@ -0,0 +1,173 @@
+package seedu.address.logic.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.jfr.FlightRecorderEvents;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a script of commands through {@code LogicManager}, with the same model and storage as the app but without
+ * its user interface, and reports how long the commands took.
+ * Commands that fail are timed and counted like any other, as recorded sessions have them too.
+ */
+public class CommandReplayer {
+
+    public static final String MESSAGE_USAGE = "Usage: CommandReplayer SCRIPT_FILE [DATA_FILE [CONFIG_FILE]]\n"
+            + "SCRIPT_FILE has one command per line, or is a log written by the app whose commands are replayed.\n"
+            + "DATA_FILE is copied and the commands are replayed on the copy, which is deleted afterwards. Without "
+            + "it, the commands are replayed on the sample data.\n"
+            + "CONFIG_FILE is the config of the app whose storage settings are used, the default config without it.";
+
+    private final LogicManager logic;
+    private final Storage storage;
+
+    /**
+     * Creates a {@code CommandReplayer} that replays commands through {@code logic}, which saves to {@code storage}.
+     */
+    public CommandReplayer(LogicManager logic, Storage storage) {
+        requireNonNull(logic);
+        requireNonNull(storage);
+        this.logic = logic;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns a {@code CommandReplayer} for the address book at {@code dataFilePath}, saved by the storage
+     * {@code config} sets up for its format. The sample data is used if there is no address book there yet.
+     *
+     * @throws DataLoadingException if the address book cannot be read.
+     */
+    public static CommandReplayer create(Path dataFilePath, Path userPrefsFilePath, Config config)
+            throws DataLoadingException {
+        Storage storage = new StorageManager(StorageManager.createAddressBookStorage(dataFilePath, config),
+                new JsonUserPrefsStorage(userPrefsFilePath));
+        ReadOnlyAddressBook initialData = storage.readAddressBook()
+                .orElseGet(SampleDataUtil::getSampleAddressBook);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataFilePath);
+        Model model = new ModelManager(initialData, userPrefs);
+        return new CommandReplayer(new LogicManager(model, storage), storage);
+    }
+
+    /**
+     * Executes {@code commands} in order and returns the timings of their phases. Saves that are still pending once
+     * the last command is done are written out before the replay ends.
+     */
+    public ReplayReport replay(List<String> commands) throws IOException {
+        requireNonNull(commands);
+        ReplayReport report = new ReplayReport();
+        logic.addCommandListener(report);
+        long startTime = System.nanoTime();
+        try {
+            for (String command : commands) {
+                try {
+                    logic.execute(command);
+                } catch (CommandException | ParseException e) {
+                    // counted as failed by the report
+                }
+            }
+        } finally {
+            logic.removeCommandListener(report);
+        }
+        long commandsDoneTime = System.nanoTime();
+        storage.flushAddressBook();
+        long endTime = System.nanoTime();
+        report.setElapsedNanos(endTime - startTime, endTime - commandsDoneTime);
+        return report;
+    }
+
+    /**
+     * Replays the script given in {@code args} and prints the report, as described by {@code MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        Config config = new Config();
+        if (args.length == 3) {
+            Optional<Config> configOptional = ConfigUtil.readConfig(Paths.get(args[2]));
+            if (configOptional.isEmpty()) {
+                System.err.println("Config file " + args[2] + " not found.");
+                System.exit(1);
+                return;
+            }
+            config = configOptional.get();
+        }
+        if (args.length >= 2 && !Files.isRegularFile(Paths.get(args[1]))) {
+            System.err.println("Data file " + args[1] + " not found.");
+            System.exit(1);
+            return;
+        }
+        LogsCenter.init(config);
+        FlightRecorderEvents.init(config);
+
+        List<String> commands = CommandScript.read(Paths.get(args[0]));
+        Path workingFolder = Files.createTempDirectory("replay");
+        try {
+            Path dataFilePath;
+            if (args.length >= 2) {
+                dataFilePath = copyDataFile(Paths.get(args[1]), workingFolder);
+            } else {
+                dataFilePath = workingFolder.resolve("addressbook.json");
+            }
+            CommandReplayer replayer = create(dataFilePath, workingFolder.resolve("preferences.json"), config);
+            System.out.println(replayer.replay(commands));
+        } finally {
+            deleteFolder(workingFolder);
+        }
+    }
+
+    /**
+     * Copies the data file at {@code dataFilePath} into {@code folder}, together with the files next to it whose names
+     * start with its name and a dot, such as the segments and journals of some formats.
+     *
+     * @return the path of the copy.
+     */
+    static Path copyDataFile(Path dataFilePath, Path folder) throws IOException {
+        Path fileName = dataFilePath.getFileName();
+        Path sourceFolder = dataFilePath.toAbsolutePath().getParent();
+        try (Stream<Path> files = Files.list(sourceFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.equals(fileName.toString()) || name.startsWith(fileName + ".")) {
+                    Files.copy(file, folder.resolve(name));
+                }
+            }
+        }
+        return folder.resolve(fileName);
+    }
+
+    private static void deleteFolder(Path folder) throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
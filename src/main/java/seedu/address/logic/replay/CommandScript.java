@@ -0,0 +1,67 @@
+package seedu.address.logic.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.LogicManager;
+
+/**
+ * Reads the commands to replay from a script, which is either a file with one command per line or a log written by
+ * the app.
+ * In a script, blank lines and lines starting with {@code #} are skipped. In a log, only the commands that
+ * {@code LogicManager} logged are read, and everything else is skipped.
+ */
+public class CommandScript {
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private CommandScript() {} // prevents instantiation
+
+    /**
+     * Returns the commands in the script or log at {@code filePath}, in order.
+     */
+    public static List<String> read(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return parse(Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the commands in {@code lines} of a script or log, in order. The lines are taken to be from a log if any
+     * of them has a logged command.
+     */
+    public static List<String> parse(List<String> lines) {
+        requireNonNull(lines);
+        boolean isLog = lines.stream().anyMatch(CommandScript::isLoggedCommand);
+        List<String> commands = new ArrayList<>();
+        for (String line : lines) {
+            if (isLog) {
+                if (isLoggedCommand(line)) {
+                    commands.add(getLoggedCommand(line));
+                }
+            } else if (!line.isBlank() && !line.trim().startsWith(COMMENT_PREFIX)) {
+                commands.add(line.trim());
+            }
+        }
+        return commands;
+    }
+
+    private static boolean isLoggedCommand(String line) {
+        int start = line.indexOf(LogicManager.COMMAND_LOG_MARKER);
+        return start != -1 && line.lastIndexOf(']') >= start + LogicManager.COMMAND_LOG_MARKER.length();
+    }
+
+    /**
+     * Returns the command in a logged {@code line}, which runs up to the last closing bracket of the line as the
+     * command itself may have brackets.
+     */
+    private static String getLoggedCommand(String line) {
+        int start = line.indexOf(LogicManager.COMMAND_LOG_MARKER) + LogicManager.COMMAND_LOG_MARKER.length();
+        return line.substring(start, line.lastIndexOf(']'));
+    }
+}
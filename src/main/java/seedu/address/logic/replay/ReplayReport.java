@@ -0,0 +1,157 @@
+package seedu.address.logic.replay;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.logic.CommandListener;
+import seedu.address.logic.CommandTiming;
+import seedu.address.logic.CommandTiming.Phase;
+
+/**
+ * Collects the timings of replayed commands, and reports the latency percentiles of each phase of the commands of
+ * each command word, as well as the throughput of the whole replay.
+ */
+public class ReplayReport implements CommandListener {
+
+    public static final String ALL_COMMANDS = "(all)";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final int[] PERCENTILES = {50, 95, 99};
+
+    // Latencies of the commands of each command word, and of all commands under ALL_COMMANDS
+    private final Map<String, Latencies> latenciesByCommandWord = new TreeMap<>();
+    private long elapsedNanos;
+    private long flushNanos;
+
+    @Override
+    public void commandExecuted(CommandTiming timing) {
+        latenciesByCommandWord.computeIfAbsent(timing.getCommandWord(), unused -> new Latencies()).add(timing);
+        latenciesByCommandWord.computeIfAbsent(ALL_COMMANDS, unused -> new Latencies()).add(timing);
+    }
+
+    /**
+     * Sets the time taken by the whole replay, and by writing out the saves that were still pending at its end.
+     */
+    public void setElapsedNanos(long elapsedNanos, long flushNanos) {
+        this.elapsedNanos = elapsedNanos;
+        this.flushNanos = flushNanos;
+    }
+
+    public int getCommandCount() {
+        return getCommandCount(ALL_COMMANDS);
+    }
+
+    public int getCommandCount(String commandWord) {
+        Latencies latencies = latenciesByCommandWord.get(commandWord);
+        return latencies == null ? 0 : latencies.count;
+    }
+
+    public int getFailedCount(String commandWord) {
+        Latencies latencies = latenciesByCommandWord.get(commandWord);
+        return latencies == null ? 0 : latencies.failedCount;
+    }
+
+    /**
+     * Returns the number of commands replayed per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getCommandCount() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Returns the latency of {@code phase} in nanoseconds that {@code percentile} percent of the commands of
+     * {@code commandWord} took at most, or 0 if there are no such commands.
+     */
+    public long getPercentile(String commandWord, Phase phase, int percentile) {
+        Latencies latencies = latenciesByCommandWord.get(commandWord);
+        return latencies == null ? 0 : latencies.getPercentile(phase, percentile);
+    }
+
+    /**
+     * Returns the report as a table with a row for each phase of each command word, followed by the commands of all
+     * command words together.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Replayed %d commands in %.3f s (%.1f commands/s), %d failed\n",
+                getCommandCount(), elapsedNanos / NANOS_PER_SECOND, getThroughput(), getFailedCount(ALL_COMMANDS)));
+        report.append(String.format("Writing out pending saves at the end took %.3f ms\n\n",
+                flushNanos / NANOS_PER_MILLI));
+        report.append(String.format("%-12s %8s %8s  %-8s", "Command", "Count", "Failed", "Phase"));
+        for (int percentile : PERCENTILES) {
+            report.append(String.format(" %11s", "p" + percentile + " (ms)"));
+        }
+        report.append('\n');
+
+        latenciesByCommandWord.keySet().stream()
+                .filter(commandWord -> !commandWord.equals(ALL_COMMANDS))
+                .forEach(commandWord -> appendRows(report, commandWord));
+        if (latenciesByCommandWord.containsKey(ALL_COMMANDS)) {
+            appendRows(report, ALL_COMMANDS);
+        }
+        return report.toString();
+    }
+
+    private void appendRows(StringBuilder report, String commandWord) {
+        for (Phase phase : Phase.values()) {
+            if (phase == Phase.TOTAL) {
+                report.append(String.format("%-12s %8d %8d  ", commandWord, getCommandCount(commandWord),
+                        getFailedCount(commandWord)));
+            } else {
+                report.append(String.format("%-12s %8s %8s  ", "", "", ""));
+            }
+            report.append(String.format("%-8s", phase.toString().toLowerCase()));
+            for (int percentile : PERCENTILES) {
+                report.append(String.format(" %11.3f", getPercentile(commandWord, phase, percentile)
+                        / NANOS_PER_MILLI));
+            }
+            report.append('\n');
+        }
+    }
+
+    /**
+     * Latencies of each phase of a number of commands, kept in full so that percentiles are exact.
+     */
+    private static class Latencies {
+        private int count = 0;
+        private int failedCount = 0;
+        private long[][] nanos = new long[Phase.values().length][16];
+        private boolean isSorted = true;
+
+        void add(CommandTiming timing) {
+            if (count == nanos[0].length) {
+                for (int i = 0; i < nanos.length; i++) {
+                    nanos[i] = Arrays.copyOf(nanos[i], count * 2);
+                }
+            }
+            for (Phase phase : Phase.values()) {
+                nanos[phase.ordinal()][count] = timing.getNanos(phase);
+            }
+            count++;
+            if (!timing.isSuccessful()) {
+                failedCount++;
+            }
+            isSorted = false;
+        }
+
+        /**
+         * Returns the nearest-rank percentile of the latencies of {@code phase}.
+         */
+        long getPercentile(Phase phase, int percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!isSorted) {
+                for (long[] phaseNanos : nanos) {
+                    Arrays.sort(phaseNanos, 0, count);
+                }
+                isSorted = true;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * count);
+            return nanos[phase.ordinal()][Math.max(rank, 1) - 1];
+        }
+    }
+}
@@ -3,7 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import javafx.collections.ObservableList;
@@ -11,8 +14,10 @@ import javafx.util.Pair;
 import seedu.address.commons.util.ResultContainer;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.AttributeRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.attribute.Attribute;
 import seedu.address.model.person.relationship.Relationship;
 import seedu.address.model.person.relationship.RelationshipUtil;
 import seedu.address.model.person.relationship.RoleBasedRelationship;
@@ -24,8 +29,17 @@ import seedu.address.model.person.relationship.RoleBasedRelationship;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final String MESSAGE_AMBIGUOUS_UUID = "The UUID %1$s is ambiguous, as the UUIDs of more than "
+            + "one person end with it.";
+
+    private static final int MAX_RECORDED_CHANGES = 1000;
+
     private final UniquePersonList persons;
     private final RelationshipUtil relationships;
+    // Number of changes made to this address book, used to tell whether it has changed since it was last saved
+    private long modificationCount = 0;
+    // Most recent changes made to this address book, the last of which brought it to modificationCount
+    private final ArrayList<AddressBookChange> recordedChanges = new ArrayList<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -57,6 +71,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        recordReplacement();
     }
 
     /**
@@ -65,12 +80,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setRelationships(List<Relationship> relationships) {
         this.relationships.setRelationships(relationships);
+        recordReplacement();
     }
 
     public void setRelationshipDescriptors(Pair<ArrayList<String>,
             ArrayList<ArrayList<String>>> relationshipDescriptors) {
         this.relationships.setRelationshipDescriptors(relationshipDescriptors.getKey(),
                 relationshipDescriptors.getValue());
+        recordReplacement();
     }
 
     /**
@@ -80,12 +97,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
         setRelationships(newData.getRelationshipList());
-        ArrayList<String> rolelessDescriptors = newData.getRelationshipDescriptors().getRolelessDescriptors();
-        ArrayList<ArrayList<String>> roleBasedDescriptors =
-                newData.getRelationshipDescriptors().getRoleBasedDescriptors();
-        Pair<ArrayList<String>, ArrayList<ArrayList<String>>> relationshipDescriptors =
-                new Pair<>(rolelessDescriptors, roleBasedDescriptors);
-        setRelationshipDescriptors(relationshipDescriptors);
+        relationships.setRelationshipDescriptors(newData.getRelationshipDescriptors().getDescriptorRegistry());
+        recordReplacement();
     }
 
     //// person-level operations
@@ -104,6 +117,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        record(AddressBookChange.addPerson(p));
     }
 
     /**
@@ -115,6 +129,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        record(AddressBookChange.setPerson(target.getUuid(), editedPerson));
     }
 
     /**
@@ -123,6 +138,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        record(AddressBookChange.removePerson(key.getUuid()));
     }
 
     //// util methods
@@ -150,11 +166,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         return relationships;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long modificationCount) {
+        long firstRecordedCount = this.modificationCount - recordedChanges.size();
+        if (modificationCount < firstRecordedCount || modificationCount > this.modificationCount) {
+            return Optional.empty();
+        }
+        int from = (int) (modificationCount - firstRecordedCount);
+        return Optional.of(List.copyOf(recordedChanges.subList(from, recordedChanges.size())));
+    }
+
+    /**
+     * Records {@code change} as the latest change made to this address book.
+     */
+    private void record(AddressBookChange change) {
+        modificationCount++;
+        recordedChanges.add(change);
+        if (recordedChanges.size() > MAX_RECORDED_CHANGES) {
+            recordedChanges.subList(0, MAX_RECORDED_CHANGES / 2).clear();
+        }
+    }
+
+    /**
+     * Records that the data of this address book has been replaced as a whole, which cannot be described by changes.
+     */
+    private void recordReplacement() {
+        modificationCount++;
+        recordedChanges.clear();
+    }
+
     public void addRelationship(Relationship toAdd) {
         relationships.addRelationship(toAdd);
+        record(AddressBookChange.addRelationship(toAdd));
     }
     public void deleteRelationship(Relationship toDelete) {
         relationships.deleteRelationship(toDelete);
+        record(AddressBookChange.deleteRelationship(toDelete));
     }
     public boolean hasRelationship(Relationship toFind) {
         return relationships.hasRelationship(toFind);
@@ -168,14 +220,15 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void deleteRelationshipsOfPerson(UUID personUuid) {
         relationships.deleteRelationshipsOfPerson(personUuid);
+        record(AddressBookChange.deleteRelationshipsOfPerson(personUuid));
     }
 
     public ResultContainer anySearch(UUID originUuid, UUID targetUuid) {
-        return relationships.anySearchForTreeMap(originUuid, targetUuid);
+        return relationships.bidirectionalSearchForTreeMap(originUuid, targetUuid, false);
     }
 
     public ResultContainer familySearch(UUID originUuid, UUID targetUuid) {
-        return relationships.familySearchForTreeMap(originUuid, targetUuid);
+        return relationships.bidirectionalSearchForTreeMap(originUuid, targetUuid, true);
     }
 
     @Override
@@ -201,6 +254,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void deleteAttribute(String uuid, String attributeName) {
         persons.deleteAttribute(uuid, attributeName);
+        record(AddressBookChange.deleteAttribute(UUID.fromString(uuid), attributeName));
+    }
+
+    public void updateAttribute(String uuid, Attribute attribute) {
+        persons.updateAttribute(uuid, attribute);
+        record(AddressBookChange.updateAttribute(UUID.fromString(uuid), attribute));
     }
 
     public Person getPersonByUuid(UUID id) throws CommandException {
@@ -211,11 +270,59 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getPersonByUuid(id);
     }
 
-    public UUID getFullUuid(String digits) {
+    /**
+     * Returns the person with the given UUID, or null if there is no such person.
+     */
+    Person findPersonByUuid(UUID uuid) {
+        return persons.getPersonByUuid(uuid);
+    }
+
+    /**
+     * Returns the full UUID of the person whose UUID ends with {@code digits}, or null if there is none.
+     *
+     * @throws CommandException if the UUIDs of more than one person end with {@code digits}.
+     */
+    public UUID getFullUuid(String digits) throws CommandException {
         requireNonNull(digits);
+        if (persons.hasShortUuidCollision(digits)) {
+            throw new CommandException(String.format(MESSAGE_AMBIGUOUS_UUID, digits));
+        }
         return persons.getFullUuid(digits);
     }
 
+    /**
+     * Returns true if the UUIDs of more than one person end with {@code digits}.
+     */
+    public boolean hasShortUuidCollision(String digits) {
+        requireNonNull(digits);
+        return persons.hasShortUuidCollision(digits);
+    }
+
+    /**
+     * Returns the UUIDs of the persons that may have a short UUID or attribute value containing any of
+     * {@code phrases}, ignoring case, or an empty {@code Optional} if any person may.
+     */
+    public Optional<Set<UUID>> getCandidatesContainingAny(List<String> phrases) {
+        requireNonNull(phrases);
+        return persons.getCandidatesContainingAny(phrases);
+    }
+
+    /**
+     * Returns the positions in the person list of the persons with the given UUIDs, in ascending order.
+     */
+    public int[] getPersonPositions(Collection<UUID> uuids) {
+        requireNonNull(uuids);
+        return persons.getPositions(uuids);
+    }
+
+    /**
+     * Returns the UUIDs of the persons with a value in every one of {@code ranges}.
+     */
+    public Set<UUID> getPersonsInAllRanges(List<AttributeRange<?>> ranges) {
+        requireNonNull(ranges);
+        return persons.getPersonsInAllRanges(ranges);
+    }
+
     /**
      * Checks if the specified person identified by their UUID string has a particular attribute.
      * This method requires both the UUID of the person and the name of the attribute to be non-null.
@@ -234,6 +341,34 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void deleteRelationType(String relationType) {
         relationships.deleteRelationType(relationType);
+        record(AddressBookChange.deleteRelationType(relationType));
+    }
+
+    public String showRelationshipTypes() {
+        return relationships.showRelationshipTypes();
+    }
+
+    public boolean isRelationRoleless(String descriptor) {
+        return relationships.isRelationRoleless(descriptor);
+    }
+
+    public boolean hasRoleBasedDescriptor(String descriptor, String role1, String role2) {
+        return relationships.getDescriptorRegistry().hasRoles(descriptor, role1, role2);
+    }
+
+    public void addRolelessDescriptor(String descriptor) {
+        relationships.addRolelessDescriptor(descriptor);
+        record(AddressBookChange.addRolelessDescriptor(descriptor));
+    }
+
+    public void addRoleBasedDescriptor(String descriptor, String role1, String role2) {
+        relationships.addRoleBasedDescriptor(descriptor, role1, role2);
+        record(AddressBookChange.addRoleBasedDescriptor(descriptor, role1, role2));
+    }
+
+    public void resetRelationshipDescriptors() {
+        relationships.resetRelationshipDescriptors();
+        record(AddressBookChange.resetRelationshipDescriptors());
     }
 
     public boolean hasRelationshipWithRoles(RoleBasedRelationship relationship, UUID uuid, UUID uuid2) {
@@ -315,7 +450,16 @@ public class AddressBook implements ReadOnlyAddressBook {
                                    String targetUuid, String role1, String role2, Model model,
                                    String oldRelationshipDescriptor, String newRelationshipDescriptor,
                                    boolean b) throws CommandException {
-        relationships.relationshipChecks(toEditIn, fullOriginUuid, fullTargetUuid, originUuid, targetUuid, role1,
-                role2, model, oldRelationshipDescriptor, newRelationshipDescriptor, b);
+        Relationship added = relationships.relationshipChecks(toEditIn, fullOriginUuid, fullTargetUuid, originUuid,
+                targetUuid, role1, role2, model, oldRelationshipDescriptor, newRelationshipDescriptor, b);
+        if (added == null) {
+            return;
+        }
+        record(AddressBookChange.addRelationship(added));
+        if (role1 != null && role2 != null) {
+            record(AddressBookChange.addRoleBasedDescriptor(newRelationshipDescriptor, role1, role2));
+        } else {
+            record(AddressBookChange.addRolelessDescriptor(newRelationshipDescriptor));
+        }
     }
 }
@@ -0,0 +1,247 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.UUID;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.relationship.Relationship;
+
+/**
+ * Represents a single change made to an {@code AddressBook}, so that the change can be recorded and applied again
+ * to another address book.
+ * Applying a change to an address book that already contains it leaves the address book unchanged.
+ */
+public class AddressBookChange {
+
+    /**
+     * Kinds of changes that can be made to an address book.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON, UPDATE_ATTRIBUTE, DELETE_ATTRIBUTE, ADD_RELATIONSHIP,
+        DELETE_RELATIONSHIP, DELETE_RELATIONSHIPS_OF_PERSON, DELETE_RELATION_TYPE, ADD_ROLELESS_DESCRIPTOR,
+        ADD_ROLE_BASED_DESCRIPTOR, RESET_RELATIONSHIP_DESCRIPTORS
+    }
+
+    private final Type type;
+    private final Person person;
+    private final UUID personUuid;
+    private final Attribute attribute;
+    private final String attributeName;
+    private final Relationship relationship;
+    private final String descriptor;
+    private final String role1;
+    private final String role2;
+
+    private AddressBookChange(Type type, Person person, UUID personUuid, Attribute attribute, String attributeName,
+                              Relationship relationship, String descriptor, String role1, String role2) {
+        this.type = type;
+        this.person = person;
+        this.personUuid = personUuid;
+        this.attribute = attribute;
+        this.attributeName = attributeName;
+        this.relationship = relationship;
+        this.descriptor = descriptor;
+        this.role1 = role1;
+        this.role2 = role2;
+    }
+
+    public static AddressBookChange addPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD_PERSON, person, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the change that replaces the person with the UUID {@code targetUuid} with {@code editedPerson}.
+     */
+    public static AddressBookChange setPerson(UUID targetUuid, Person editedPerson) {
+        requireNonNull(targetUuid);
+        requireNonNull(editedPerson);
+        return new AddressBookChange(Type.SET_PERSON, editedPerson, targetUuid, null, null, null, null, null, null);
+    }
+
+    public static AddressBookChange removePerson(UUID personUuid) {
+        requireNonNull(personUuid);
+        return new AddressBookChange(Type.REMOVE_PERSON, null, personUuid, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the change that adds {@code attribute} to the person with the UUID {@code personUuid}, replacing any
+     * attribute with the same name.
+     */
+    public static AddressBookChange updateAttribute(UUID personUuid, Attribute attribute) {
+        requireNonNull(personUuid);
+        requireNonNull(attribute);
+        return new AddressBookChange(Type.UPDATE_ATTRIBUTE, null, personUuid, attribute, null, null, null, null,
+                null);
+    }
+
+    /**
+     * Returns the change that deletes the attribute named {@code attributeName} of the person with the UUID
+     * {@code personUuid}.
+     */
+    public static AddressBookChange deleteAttribute(UUID personUuid, String attributeName) {
+        requireNonNull(personUuid);
+        requireNonNull(attributeName);
+        return new AddressBookChange(Type.DELETE_ATTRIBUTE, null, personUuid, null, attributeName, null, null, null,
+                null);
+    }
+
+    public static AddressBookChange addRelationship(Relationship relationship) {
+        requireNonNull(relationship);
+        return new AddressBookChange(Type.ADD_RELATIONSHIP, null, null, null, null, relationship, null, null, null);
+    }
+
+    public static AddressBookChange deleteRelationship(Relationship relationship) {
+        requireNonNull(relationship);
+        return new AddressBookChange(Type.DELETE_RELATIONSHIP, null, null, null, null, relationship, null, null,
+                null);
+    }
+
+    public static AddressBookChange deleteRelationshipsOfPerson(UUID personUuid) {
+        requireNonNull(personUuid);
+        return new AddressBookChange(Type.DELETE_RELATIONSHIPS_OF_PERSON, null, personUuid, null, null, null, null,
+                null, null);
+    }
+
+    public static AddressBookChange deleteRelationType(String descriptor) {
+        requireNonNull(descriptor);
+        return new AddressBookChange(Type.DELETE_RELATION_TYPE, null, null, null, null, null, descriptor, null, null);
+    }
+
+    public static AddressBookChange addRolelessDescriptor(String descriptor) {
+        requireNonNull(descriptor);
+        return new AddressBookChange(Type.ADD_ROLELESS_DESCRIPTOR, null, null, null, null, null, descriptor, null,
+                null);
+    }
+
+    /**
+     * Returns the change that adds {@code descriptor} as a role-based relationship type with the given roles.
+     */
+    public static AddressBookChange addRoleBasedDescriptor(String descriptor, String role1, String role2) {
+        requireNonNull(descriptor);
+        requireNonNull(role1);
+        requireNonNull(role2);
+        return new AddressBookChange(Type.ADD_ROLE_BASED_DESCRIPTOR, null, null, null, null, null, descriptor, role1,
+                role2);
+    }
+
+    public static AddressBookChange resetRelationshipDescriptors() {
+        return new AddressBookChange(Type.RESET_RELATIONSHIP_DESCRIPTORS, null, null, null, null, null, null, null,
+                null);
+    }
+
+    /**
+     * Makes this change to {@code addressBook}.
+     * Parts of the change that are already in the address book, or that no longer apply to it, are skipped.
+     */
+    public void applyTo(AddressBook addressBook) {
+        switch (type) {
+        case ADD_PERSON:
+            if (!addressBook.hasPerson(person)) {
+                addressBook.addPerson(person);
+            }
+            break;
+        case SET_PERSON:
+            Person target = addressBook.findPersonByUuid(personUuid);
+            if (target != null) {
+                addressBook.setPerson(target, person);
+            }
+            break;
+        case REMOVE_PERSON:
+            Person toRemove = addressBook.findPersonByUuid(personUuid);
+            if (toRemove != null) {
+                addressBook.removePerson(toRemove);
+            }
+            break;
+        case UPDATE_ATTRIBUTE:
+            addressBook.updateAttribute(personUuid.toString(), attribute);
+            break;
+        case DELETE_ATTRIBUTE:
+            addressBook.deleteAttribute(personUuid.toString(), attributeName);
+            break;
+        case ADD_RELATIONSHIP:
+            if (!addressBook.hasRelationship(relationship)) {
+                addressBook.addRelationship(relationship);
+            }
+            break;
+        case DELETE_RELATIONSHIP:
+            addressBook.deleteRelationship(relationship);
+            break;
+        case DELETE_RELATIONSHIPS_OF_PERSON:
+            addressBook.deleteRelationshipsOfPerson(personUuid);
+            break;
+        case DELETE_RELATION_TYPE:
+            try {
+                addressBook.deleteRelationType(descriptor);
+            } catch (IllegalArgumentException e) {
+                // the relation type is already deleted, or has been used again since
+            }
+            break;
+        case ADD_ROLELESS_DESCRIPTOR:
+            addressBook.addRolelessDescriptor(descriptor);
+            break;
+        case ADD_ROLE_BASED_DESCRIPTOR:
+            addressBook.addRoleBasedDescriptor(descriptor, role1, role2);
+            break;
+        case RESET_RELATIONSHIP_DESCRIPTORS:
+            addressBook.resetRelationshipDescriptors();
+            break;
+        default:
+            throw new IllegalStateException("Unknown change type: " + type);
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public UUID getPersonUuid() {
+        return personUuid;
+    }
+
+    public Attribute getAttribute() {
+        return attribute;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    public Relationship getRelationship() {
+        return relationship;
+    }
+
+    public String getDescriptor() {
+        return descriptor;
+    }
+
+    public String getRole1() {
+        return role1;
+    }
+
+    public String getRole2() {
+        return role2;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("person", person)
+                .add("personUuid", personUuid)
+                .add("attribute", attribute)
+                .add("attributeName", attributeName)
+                .add("relationship", relationship)
+                .add("descriptor", descriptor)
+                .add("role1", role1)
+                .add("role2", role2)
+                .toString();
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
@@ -8,7 +12,9 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.util.ResultContainer;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.AttributeRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
 import seedu.address.model.person.relationship.Relationship;
 import seedu.address.model.person.relationship.RoleBasedRelationship;
 
@@ -94,6 +100,27 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Shows only the persons with the given UUIDs in the filtered person list, in the order of the address book.
+     * Takes time in the number of UUIDs given rather than in the number of persons in the address book.
+     * The persons stay shown when they are edited, until the filter is next updated.
+     * @throws NullPointerException if {@code uuids} is null.
+     */
+    void showPersons(Collection<UUID> uuids);
+
+    /**
+     * Returns the UUIDs of the persons that may have a short UUID or attribute value containing any of
+     * {@code phrases}, ignoring case, which include all the persons that do. Returns an empty {@code Optional} if
+     * the persons cannot be narrowed down, in which case any person may.
+     */
+    Optional<Set<UUID>> getCandidatesContainingAny(List<String> phrases);
+
+    /**
+     * Returns the UUIDs of the persons with a whole number, date or sex attribute value in every one of
+     * {@code ranges}, found without going through every person.
+     */
+    Set<UUID> getPersonsInAllRanges(List<AttributeRange<?>> ranges);
     void updateFilteredRelationshipList(Predicate<Relationship> predicate);
     boolean hasRelationship(Relationship target);
 
@@ -112,7 +139,22 @@ public interface Model {
 
     void deleteAttribute(String uuid, String attributeName);
 
-    UUID getFullUuid(String digits);
+    /**
+     * Adds {@code attribute} to the person with the given UUID, replacing any attribute with the same name.
+     */
+    void updateAttribute(String uuid, Attribute attribute);
+
+    /**
+     * Returns the full UUID of the person whose UUID ends with {@code digits}, or null if there is none.
+     *
+     * @throws CommandException if the UUIDs of more than one person end with {@code digits}.
+     */
+    UUID getFullUuid(String digits) throws CommandException;
+
+    /**
+     * Returns true if the UUIDs of more than one person end with {@code digits}, so that they cannot be told apart.
+     */
+    boolean hasShortUuidCollision(String digits);
 
     Person getPersonByUuid(UUID id) throws CommandException;
 
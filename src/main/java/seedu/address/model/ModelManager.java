@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -14,9 +18,10 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ResultContainer;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.AttributeRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
 import seedu.address.model.person.relationship.Relationship;
-import seedu.address.model.person.relationship.RelationshipUtil;
 import seedu.address.model.person.relationship.RoleBasedRelationship;
 
 /**
@@ -28,6 +33,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final ShownPersonList shownPersons;
     private final FilteredList<Relationship> filteredRelationships;
 
     /**
@@ -41,6 +47,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        shownPersons = new ShownPersonList(filteredPersons);
         filteredRelationships = new FilteredList<>(this.addressBook.getRelationshipList());
     }
 
@@ -137,7 +144,7 @@ public class ModelManager implements Model {
     }
 
     public String showRelationshipTypes() {
-        return Relationship.showRelationshipTypes();
+        return addressBook.showRelationshipTypes();
     }
 
     public void deleteRelationType(String relationType) {
@@ -165,17 +172,17 @@ public class ModelManager implements Model {
 
     @Override
     public void addRolelessDescriptor(String newRelationshipDescriptor) {
-        RelationshipUtil.addRolelessDescriptor(newRelationshipDescriptor);
+        addressBook.addRolelessDescriptor(newRelationshipDescriptor);
     }
 
     @Override
     public void addRolebasedDescriptor(String newRelationshipDescriptor, String role1, String role2) {
-        RelationshipUtil.addRoleBasedDescriptor(newRelationshipDescriptor, role1, role2);
+        addressBook.addRoleBasedDescriptor(newRelationshipDescriptor, role1, role2);
     }
 
     @Override
     public void resetRelationshipDescriptors() {
-        RelationshipUtil.resetRelationshipDescriptors();
+        addressBook.resetRelationshipDescriptors();
     }
 
     @Override
@@ -200,24 +207,51 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return shownPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        shownPersons.showAll();
         filteredPersons.setPredicate(predicate);
     }
+
+    @Override
+    public void showPersons(Collection<UUID> uuids) {
+        requireNonNull(uuids);
+        // the positions of the persons in the address book are only their positions in the filtered list when it
+        // is not filtered
+        if (filteredPersons.getPredicate() != null && filteredPersons.getPredicate() != PREDICATE_SHOW_ALL_PERSONS) {
+            filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        }
+        shownPersons.showOnly(addressBook.getPersonPositions(uuids));
+    }
+    @Override
+    public Optional<Set<UUID>> getCandidatesContainingAny(List<String> phrases) {
+        return addressBook.getCandidatesContainingAny(phrases);
+    }
+
+    @Override
+    public Set<UUID> getPersonsInAllRanges(List<AttributeRange<?>> ranges) {
+        return addressBook.getPersonsInAllRanges(ranges);
+    }
+
     @Override
     public void updateFilteredRelationshipList(Predicate<Relationship> predicate) {
         requireNonNull(predicate);
         filteredRelationships.setPredicate(predicate);
     }
     @Override
-    public UUID getFullUuid(String digits) {
+    public UUID getFullUuid(String digits) throws CommandException {
         return addressBook.getFullUuid(digits);
     }
 
+    @Override
+    public boolean hasShortUuidCollision(String digits) {
+        return addressBook.hasShortUuidCollision(digits);
+    }
+
     @Override
     public Person getPersonByUuid(UUID id) throws CommandException {
         return addressBook.getPersonByUuid(id);
@@ -237,7 +271,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && shownPersons.equals(otherModelManager.shownPersons);
     }
 
     @Override
@@ -245,6 +279,11 @@ public class ModelManager implements Model {
         addressBook.deleteAttribute(uuid, attributeName);
     }
 
+    @Override
+    public void updateAttribute(String uuid, Attribute attribute) {
+        addressBook.updateAttribute(uuid, attribute);
+    }
+
     @Override
     public boolean hasAttribute(String uuidString, String attributeName) {
         return addressBook.hasAttribute(uuidString, attributeName);
@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.relationship.Relationship;
@@ -17,4 +20,18 @@ public interface ReadOnlyAddressBook {
     ObservableList<Person> getPersonList();
     ObservableList<Relationship> getRelationshipList();
     RelationshipUtil getRelationshipDescriptors();
+
+    /**
+     * Returns the number of changes made to the address book so far.
+     * The address book is unchanged between two calls that return the same count.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the changes that brought the address book from {@code modificationCount} to its current modification
+     * count, in the order they were made.
+     * Returns {@code Optional.empty()} if these changes are no longer known, such as when the data of the address book
+     * has since been replaced as a whole.
+     */
+    Optional<List<AddressBookChange>> getChangesSince(long modificationCount);
 }
@@ -0,0 +1,213 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of a list of persons that either shows all of them, or only the persons chosen by their positions in it.
+ * Unlike a {@code FilteredList}, choosing the persons to show takes time in the number of persons chosen rather than
+ * in the size of the list, as the list is not gone through to test each person.
+ * Chosen persons stay shown while they are edited or moved in the list, until all persons are shown again.
+ */
+class ShownPersonList extends TransformationList<Person, Person> {
+
+    // Positions in the source of the persons shown in ascending order, or null if all persons are shown
+    private int[] shownPositions;
+    // Persons at shownPositions, and their UUIDs, or null if all persons are shown
+    private List<Person> shownPersons;
+    private Set<UUID> shownUuids;
+
+    /**
+     * Creates a {@code ShownPersonList} showing all the persons of {@code source}.
+     */
+    ShownPersonList(ObservableList<Person> source) {
+        super(source);
+    }
+
+    /**
+     * Returns true if all the persons of the source are shown.
+     */
+    boolean isShowingAll() {
+        return shownPositions == null;
+    }
+
+    /**
+     * Shows all the persons of the source.
+     */
+    void showAll() {
+        if (isShowingAll()) {
+            return;
+        }
+        List<Person> removed = shownPersons;
+        shownPositions = null;
+        shownPersons = null;
+        shownUuids = null;
+        fireReplacement(removed);
+    }
+
+    /**
+     * Shows only the persons at {@code positions} in the source, which must be in ascending order.
+     */
+    void showOnly(int[] positions) {
+        requireNonNull(positions);
+        // the source is not changed here, so when all persons were shown, it still holds them
+        List<? extends Person> removed = isShowingAll() ? getSource() : shownPersons;
+        setShownPositions(positions.clone());
+        shownUuids = new HashSet<>();
+        for (Person person : shownPersons) {
+            shownUuids.add(person.getUuid());
+        }
+        fireReplacement(removed);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> change) {
+        if (isShowingAll()) {
+            forwardChange(change);
+            return;
+        }
+        List<Person> removed = shownPersons;
+        int[] positions = shownPositions;
+        while (change.next()) {
+            positions = change.wasPermutated() ? permute(positions, change) : shift(positions, change);
+        }
+        setShownPositions(positions);
+        fireReplacement(removed);
+    }
+
+    private void setShownPositions(int[] positions) {
+        shownPositions = positions;
+        shownPersons = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            shownPersons.add(getSource().get(position));
+        }
+    }
+
+    /**
+     * Returns {@code positions} after the sub-change {@code change} moved the persons of the source around.
+     */
+    private static int[] permute(int[] positions, Change<? extends Person> change) {
+        int[] permutedPositions = positions.clone();
+        for (int i = 0; i < permutedPositions.length; i++) {
+            if (permutedPositions[i] >= change.getFrom() && permutedPositions[i] < change.getTo()) {
+                permutedPositions[i] = change.getPermutation(permutedPositions[i]);
+            }
+        }
+        Arrays.sort(permutedPositions);
+        return permutedPositions;
+    }
+
+    /**
+     * Returns {@code positions} after the sub-change {@code change} added, removed, replaced or updated persons of
+     * the source. Replacing a shown person with a person of the same UUID keeps it shown.
+     */
+    private int[] shift(int[] positions, Change<? extends Person> change) {
+        if (change.wasUpdated()) {
+            return positions;
+        }
+        int from = change.getFrom();
+        int removedEnd = from + change.getRemovedSize();
+        int shift = change.getAddedSize() - change.getRemovedSize();
+        List<Integer> shiftedPositions = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            if (position < from) {
+                shiftedPositions.add(position);
+            }
+        }
+        for (int position = from; position < from + change.getAddedSize(); position++) {
+            if (shownUuids.contains(getSource().get(position).getUuid())) {
+                shiftedPositions.add(position);
+            }
+        }
+        for (int position : positions) {
+            if (position >= removedEnd) {
+                shiftedPositions.add(position + shift);
+            }
+        }
+        return shiftedPositions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Passes {@code change} on to the listeners of this list, which shows the same persons as the source.
+     */
+    private void forwardChange(Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Tells the listeners of this list that {@code removed}, which it showed before, were replaced by all the persons
+     * it shows now.
+     */
+    private void fireReplacement(List<? extends Person> removed) {
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return isShowingAll() ? getSource().get(index) : shownPersons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return isShowingAll() ? getSource().size() : shownPersons.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (isShowingAll()) {
+            return index;
+        }
+        if (index < 0 || index >= shownPositions.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return shownPositions[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (isShowingAll()) {
+            return index;
+        }
+        int viewIndex = Arrays.binarySearch(shownPositions, index);
+        return viewIndex < 0 ? -1 : viewIndex;
+    }
+}
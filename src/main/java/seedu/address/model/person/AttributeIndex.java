@@ -0,0 +1,170 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.attribute.DateAttribute;
+import seedu.address.model.person.attribute.IntegerAttribute;
+import seedu.address.model.person.attribute.SexAttribute;
+
+/**
+ * Sorted indexes of the typed attribute values of persons, one for each attribute name and value type, used to find
+ * the persons with a value in an {@code AttributeRange} without going through every person.
+ * The values of {@code IntegerAttribute}, {@code DateAttribute} and {@code SexAttribute}, including their subclasses
+ * such as phone numbers and birthdays, are indexed. Other attributes can only be searched for with {@code find}.
+ * Like {@code PersonTrigramIndex}, the index is only built when {@link #build(Iterable)} is called, and changes to
+ * persons before then are ignored.
+ */
+class AttributeIndex {
+
+    // Map of each value type and lowercased attribute name to the persons with each value of that attribute
+    private final HashMap<String, TreeMap<Object, HashSet<UUID>>> personsByValue = new HashMap<>();
+    // Map of the UUID of each person to the values they are indexed under, keyed as in personsByValue
+    private final HashMap<UUID, List<Map.Entry<String, Object>>> valuesByPerson = new HashMap<>();
+    private boolean isBuilt = false;
+
+    boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Indexes {@code persons}, replacing the persons indexed before.
+     */
+    void build(Iterable<Person> persons) {
+        personsByValue.clear();
+        valuesByPerson.clear();
+        isBuilt = true;
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Discards the index, which has to be built again before it is queried.
+     */
+    void clear() {
+        personsByValue.clear();
+        valuesByPerson.clear();
+        isBuilt = false;
+    }
+
+    /**
+     * Indexes {@code person}, which must not be indexed yet, if the index has been built.
+     */
+    void add(Person person) {
+        if (!isBuilt) {
+            return;
+        }
+        List<Map.Entry<String, Object>> values = new ArrayList<>();
+        for (Attribute attribute : person.getAttributesMap().values()) {
+            Comparable<?> value = getIndexedValue(attribute);
+            if (value == null) {
+                continue;
+            }
+            String key = getKey(attribute.getName(), value.getClass());
+            personsByValue.computeIfAbsent(key, unused -> new TreeMap<>())
+                    .computeIfAbsent(value, unused -> new HashSet<>())
+                    .add(person.getUuid());
+            values.add(Map.entry(key, value));
+        }
+        valuesByPerson.put(person.getUuid(), values);
+    }
+
+    /**
+     * Unindexes {@code person} if the index has been built.
+     */
+    void remove(Person person) {
+        List<Map.Entry<String, Object>> values = valuesByPerson.remove(person.getUuid());
+        if (values == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> value : values) {
+            TreeMap<Object, HashSet<UUID>> index = personsByValue.get(value.getKey());
+            HashSet<UUID> persons = index.get(value.getValue());
+            persons.remove(person.getUuid());
+            if (persons.isEmpty()) {
+                index.remove(value.getValue());
+            }
+            if (index.isEmpty()) {
+                personsByValue.remove(value.getKey());
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code person} again after its attributes have changed, if the index has been built.
+     */
+    void update(Person person) {
+        remove(person);
+        add(person);
+    }
+
+    /**
+     * Returns the UUIDs of the persons with a value in every one of {@code ranges}.
+     * The index must have been built.
+     */
+    Set<UUID> getPersonsInAll(List<AttributeRange<?>> ranges) {
+        assert isBuilt;
+        List<Set<UUID>> personsInRanges = new ArrayList<>(ranges.size());
+        for (AttributeRange<?> range : ranges) {
+            personsInRanges.add(getPersonsIn(range));
+        }
+        if (personsInRanges.isEmpty()) {
+            return new HashSet<>();
+        }
+        // Starting from the persons of the narrowest range keeps the intersection as small as possible
+        personsInRanges.sort(Comparator.comparingInt(Set::size));
+        Set<UUID> persons = personsInRanges.get(0);
+        for (Set<UUID> personsInRange : personsInRanges.subList(1, personsInRanges.size())) {
+            persons.retainAll(personsInRange);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the UUIDs of the persons with a value in {@code range}.
+     */
+    private <V extends Comparable<? super V>> Set<UUID> getPersonsIn(AttributeRange<V> range) {
+        TreeMap<Object, HashSet<UUID>> index =
+                personsByValue.get(getKey(range.getAttributeName(), range.getValueType()));
+        Set<UUID> persons = new HashSet<>();
+        if (index == null) {
+            return persons;
+        }
+        // The keys of the index are all of the value type of the range, as they are keyed by it
+        @SuppressWarnings("unchecked")
+        NavigableMap<V, HashSet<UUID>> typedIndex = (NavigableMap<V, HashSet<UUID>>) (NavigableMap<?, ?>) index;
+        for (Collection<UUID> personsWithValue : range.select(typedIndex).values()) {
+            persons.addAll(personsWithValue);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the value of {@code attribute} that it is indexed under, or null if it is not indexed.
+     */
+    static Comparable<?> getIndexedValue(Attribute attribute) {
+        if (attribute instanceof IntegerAttribute) {
+            return ((IntegerAttribute) attribute).getValue();
+        } else if (attribute instanceof DateAttribute) {
+            return ((DateAttribute) attribute).getValue();
+        } else if (attribute instanceof SexAttribute) {
+            return ((SexAttribute) attribute).getGender();
+        }
+        return null;
+    }
+
+    private static String getKey(String attributeName, Class<?> valueType) {
+        return valueType.getName() + "/" + attributeName.toLowerCase();
+    }
+}
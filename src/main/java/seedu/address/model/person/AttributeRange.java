@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.NavigableMap;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A range of the typed values of the attribute with a given name, such as the birthdays between two dates, that
+ * persons can be filtered by. Either end of the range can be open, and a range whose ends are the same value only
+ * contains that value.
+ *
+ * @param <V> The type of the values, which is {@code Integer} for whole numbers, {@code LocalDate} for dates and
+ *     {@code SexAttribute.Gender} for sexes.
+ */
+public class AttributeRange<V extends Comparable<? super V>> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The lower end of a range cannot be above its upper end.";
+
+    private final String attributeName;
+    private final Class<?> valueType;
+    // Ends of the range, null if the range is open at that end
+    private final V lower;
+    private final boolean isLowerInclusive;
+    private final V upper;
+    private final boolean isUpperInclusive;
+
+    private AttributeRange(String attributeName, V lower, boolean isLowerInclusive, V upper,
+                           boolean isUpperInclusive) {
+        requireNonNull(attributeName);
+        checkArgument(lower == null || upper == null || lower.compareTo(upper) <= 0, MESSAGE_CONSTRAINTS);
+        this.attributeName = attributeName;
+        this.valueType = (lower != null ? lower : requireNonNull(upper)).getClass();
+        this.lower = lower;
+        this.isLowerInclusive = isLowerInclusive;
+        this.upper = upper;
+        this.isUpperInclusive = isUpperInclusive;
+    }
+
+    public static <V extends Comparable<? super V>> AttributeRange<V> equalTo(String attributeName, V value) {
+        return new AttributeRange<>(attributeName, requireNonNull(value), true, value, true);
+    }
+
+    public static <V extends Comparable<? super V>> AttributeRange<V> lessThan(String attributeName, V value) {
+        return new AttributeRange<>(attributeName, null, false, requireNonNull(value), false);
+    }
+
+    public static <V extends Comparable<? super V>> AttributeRange<V> atMost(String attributeName, V value) {
+        return new AttributeRange<>(attributeName, null, false, requireNonNull(value), true);
+    }
+
+    public static <V extends Comparable<? super V>> AttributeRange<V> greaterThan(String attributeName, V value) {
+        return new AttributeRange<>(attributeName, requireNonNull(value), false, null, false);
+    }
+
+    public static <V extends Comparable<? super V>> AttributeRange<V> atLeast(String attributeName, V value) {
+        return new AttributeRange<>(attributeName, requireNonNull(value), true, null, false);
+    }
+
+    /**
+     * Returns the range from {@code lower} to {@code upper}, including both, where {@code lower} is not above
+     * {@code upper}.
+     */
+    public static <V extends Comparable<? super V>> AttributeRange<V> between(String attributeName, V lower,
+                                                                             V upper) {
+        return new AttributeRange<>(attributeName, requireNonNull(lower), true, requireNonNull(upper), true);
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    /**
+     * Returns the class of the values of the range.
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Returns a view of the entries of {@code map} whose keys are in the range.
+     */
+    public <T> NavigableMap<V, T> select(NavigableMap<V, T> map) {
+        if (lower != null && upper != null) {
+            return map.subMap(lower, isLowerInclusive, upper, isUpperInclusive);
+        } else if (lower != null) {
+            return map.tailMap(lower, isLowerInclusive);
+        } else {
+            return map.headMap(upper, isUpperInclusive);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttributeRange)) {
+            return false;
+        }
+
+        AttributeRange<?> otherRange = (AttributeRange<?>) other;
+        return attributeName.equalsIgnoreCase(otherRange.attributeName)
+                && Objects.equals(lower, otherRange.lower)
+                && isLowerInclusive == otherRange.isLowerInclusive
+                && Objects.equals(upper, otherRange.upper)
+                && isUpperInclusive == otherRange.isUpperInclusive;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attributeName.toLowerCase(), lower, isLowerInclusive, upper, isUpperInclusive);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("attributeName", attributeName)
+                .add("lower", lower)
+                .add("isLowerInclusive", isLowerInclusive)
+                .add("upper", upper)
+                .add("isUpperInclusive", isUpperInclusive)
+                .toString();
+    }
+}
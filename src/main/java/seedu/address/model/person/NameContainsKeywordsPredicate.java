@@ -2,30 +2,51 @@ package seedu.address.model.person;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.attribute.Attribute;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches persons whose short UUID or any attribute value contains any of
+     * {@code keywords}, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream().anyMatch(keyword ->
-                containsPhraseIgnoreCase(person.getUuid().toString().substring(32, 36), keyword)
-                        || person.getAttributes().stream().anyMatch(attribute ->
-                        containsPhraseIgnoreCase(attribute.getValueAsString(), keyword))
-        );
+        if (containsAnyKeyword(person.getLastFourCharacterOfUuid())) {
+            return true;
+        }
+        for (Attribute attribute : person.getAttributesMap().values()) {
+            if (containsAnyKeyword(attribute.getValueAsString().toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public static boolean containsPhraseIgnoreCase(String source, String phrase) {
-        return source.toLowerCase().contains(phrase.toLowerCase());
+    private boolean containsAnyKeyword(String lowerCaseSource) {
+        for (String keyword : lowerCaseKeywords) {
+            if (lowerCaseSource.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -24,6 +24,8 @@ public class Person {
     private final UUID uuid;
     // Data fields
     private final TreeMap<String, Attribute> attributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    // Loads the attributes of the person the first time they are needed, null once they have been loaded
+    private AttributeLoader attributeLoader;
 
     /**
      * Constructs a person with a random UUID and a list of attributes.
@@ -95,6 +97,15 @@ public class Person {
         this.attributes.put("Address", address);
     }
 
+    /**
+     * Constructs a person with a given UUID whose attributes are loaded by {@code attributeLoader} the first time
+     * they are needed, such as when the person is shown or searched.
+     */
+    public Person(UUID uuid, AttributeLoader attributeLoader) {
+        this.uuid = uuid;
+        this.attributeLoader = Objects.requireNonNull(attributeLoader);
+    }
+
     /**
      * Returns the uuid of the person.
      *
@@ -128,7 +139,7 @@ public class Person {
      * @return True if the person has an attribute with the given type.
      */
     public boolean hasAttribute(String attributeName) {
-        return attributes.containsKey(attributeName);
+        return loadedAttributes().containsKey(attributeName);
     }
     /**
      * Returns an attribute of the person.
@@ -138,8 +149,8 @@ public class Person {
      */
     public Attribute getAttribute(String attributeName) {
         assertValidAttributeName(attributeName);
-        assertAttributeExistsInPerson(attributeName, attributes);
-        return attributes.get(attributeName);
+        assertAttributeExistsInPerson(attributeName, loadedAttributes());
+        return loadedAttributes().get(attributeName);
     }
     /**
      * Edits/adds an attribute of/to the person.
@@ -148,7 +159,7 @@ public class Person {
      */
     public void updateAttribute(Attribute attribute) {
         assertValidAttribute(attribute);
-        attributes.put(attribute.getName(), attribute);
+        loadedAttributes().put(attribute.getName(), attribute);
     }
 
     /**
@@ -158,8 +169,8 @@ public class Person {
      * @return
      */
     public void deleteAttribute(String attributeType) {
-        if (attributes.containsKey(attributeType)) {
-            attributes.remove(attributeType);
+        if (loadedAttributes().containsKey(attributeType)) {
+            loadedAttributes().remove(attributeType);
         }
     }
 
@@ -176,8 +187,8 @@ public class Person {
         } else {
             genderRole = "FEMALE";
         }
-        if (attributes.containsKey("Sex")) {
-            String attributeGender = attributes.get("Sex").getValueAsString();
+        if (loadedAttributes().containsKey("Sex")) {
+            String attributeGender = loadedAttributes().get("Sex").getValueAsString();
             if (!attributeGender.equals(genderRole)) {
                 throw new IllegalArgumentException("Sex attribute of " + uuid + " does not match the gender of your "
                         + "inputted role.\nIf you'd like to change the gender of the person, please change the sex "
@@ -247,7 +258,7 @@ public class Person {
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
         return Objects.hash(
-                attributes,
+                loadedAttributes(),
                 uuid);
     }
 
@@ -265,11 +276,11 @@ public class Person {
      */
     public String allAttributesAsString() {
         StringBuilder sb = new StringBuilder();
-        if (attributes.isEmpty()) {
+        if (loadedAttributes().isEmpty()) {
             return "No details available";
         }
         // Solution below generated by Github Copilot
-        List<Map.Entry<String, Attribute>> sortedAttributes = new ArrayList<>(attributes.entrySet());
+        List<Map.Entry<String, Attribute>> sortedAttributes = new ArrayList<>(loadedAttributes().entrySet());
         sortedAttributes.sort(
                 Comparator.comparingInt(
                         entry -> (entry.getKey() + ": " + entry.getValue().getValueAsString()).length()));
@@ -286,12 +297,12 @@ public class Person {
      * @return
      */
     public String[][] allAttributesAsPairs() {
-        if (attributes.isEmpty()) {
+        if (loadedAttributes().isEmpty()) {
             return null;
         }
         // sorts by lexicographical ordering of attributes key as compared to the method above sorts by the combined
         // length of key and value leading to inconsistent ordering in a personCard
-        List<Map.Entry<String, Attribute>> sortedAttributes = new ArrayList<>(attributes.entrySet());
+        List<Map.Entry<String, Attribute>> sortedAttributes = new ArrayList<>(loadedAttributes().entrySet());
         sortedAttributes.sort(
                 Comparator.comparing(
                         Map.Entry::getKey));
@@ -304,13 +315,42 @@ public class Person {
         return result;
     }
 
+    /**
+     * Returns true if the attributes of the person have been loaded, which is always the case unless the person was
+     * created with an {@code AttributeLoader}.
+     */
+    public synchronized boolean hasLoadedAttributes() {
+        return attributeLoader == null;
+    }
+
+    /**
+     * Returns the attributes of the person, loading them first if they have not been loaded yet.
+     */
+    private synchronized TreeMap<String, Attribute> loadedAttributes() {
+        if (attributeLoader != null) {
+            for (Attribute attribute : attributeLoader.loadAttributes(uuid)) {
+                attributes.put(attribute.getName(), attribute);
+            }
+            attributeLoader = null;
+        }
+        return attributes;
+    }
+
     public Set<Attribute> getAttributes() {
-        return new HashSet<>(attributes.values());
+        return new HashSet<>(loadedAttributes().values());
     }
     public TreeMap<String, Attribute> getAttributesMap() {
-        return this.attributes;
+        return loadedAttributes();
     }
     public void setAttribute(String name, String str) {
-        attributes.put(name, new StringAttribute(name, str));
+        loadedAttributes().put(name, new StringAttribute(name, str));
+    }
+
+    /**
+     * Loads the attributes of a person that were not read together with the person.
+     */
+    @FunctionalInterface
+    public interface AttributeLoader {
+        Attribute[] loadAttributes(UUID uuid);
     }
 }
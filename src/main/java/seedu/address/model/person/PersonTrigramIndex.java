@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.model.person.attribute.Attribute;
+
+/**
+ * Index of the trigrams, the substrings of three characters, of the lowercased short UUID and attribute values of
+ * persons, used to find the persons that may have a value containing a phrase without going through every person.
+ * A value can only contain a phrase of at least three characters if it has every trigram of the phrase, so the persons
+ * indexed under all of them are the only ones that need to be checked.
+ * The index is only built when {@link #build(Iterable)} is called, so that persons whose attributes are loaded lazily
+ * are not loaded until they are first searched. Changes to persons before then are ignored.
+ */
+class PersonTrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    // Map of each trigram to the UUIDs of the persons with a value containing it
+    private final HashMap<String, HashSet<UUID>> personsByTrigram = new HashMap<>();
+    // Map of the UUID of each person to the trigrams they are indexed under, so that they can be unindexed
+    private final HashMap<UUID, String[]> trigramsByPerson = new HashMap<>();
+    private boolean isBuilt = false;
+
+    boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Indexes {@code persons}, replacing the persons indexed before.
+     */
+    void build(Iterable<Person> persons) {
+        personsByTrigram.clear();
+        trigramsByPerson.clear();
+        isBuilt = true;
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Discards the index, which has to be built again before it is queried.
+     */
+    void clear() {
+        personsByTrigram.clear();
+        trigramsByPerson.clear();
+        isBuilt = false;
+    }
+
+    /**
+     * Indexes {@code person}, which must not be indexed yet, if the index has been built.
+     */
+    void add(Person person) {
+        if (!isBuilt) {
+            return;
+        }
+        HashSet<String> trigrams = new HashSet<>();
+        addTrigrams(person.getLastFourCharacterOfUuid(), trigrams);
+        for (Attribute attribute : person.getAttributesMap().values()) {
+            addTrigrams(attribute.getValueAsString().toLowerCase(), trigrams);
+        }
+        for (String trigram : trigrams) {
+            personsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(person.getUuid());
+        }
+        trigramsByPerson.put(person.getUuid(), trigrams.toArray(new String[0]));
+    }
+
+    /**
+     * Unindexes {@code person} if the index has been built.
+     */
+    void remove(Person person) {
+        String[] trigrams = trigramsByPerson.remove(person.getUuid());
+        if (trigrams == null) {
+            return;
+        }
+        for (String trigram : trigrams) {
+            HashSet<UUID> persons = personsByTrigram.get(trigram);
+            persons.remove(person.getUuid());
+            if (persons.isEmpty()) {
+                personsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code person} again after its attributes have changed, if the index has been built.
+     */
+    void update(Person person) {
+        remove(person);
+        add(person);
+    }
+
+    /**
+     * Returns the UUIDs of the persons that may have a short UUID or attribute value containing any of
+     * {@code phrases}, ignoring case. Returns an empty {@code Optional} if a phrase is too short to be looked up, in
+     * which case any person may.
+     * The index must have been built.
+     */
+    Optional<Set<UUID>> getCandidates(List<String> phrases) {
+        assert isBuilt;
+        Set<UUID> candidates = new HashSet<>();
+        for (String phrase : phrases) {
+            String lowerCasePhrase = phrase.toLowerCase();
+            if (lowerCasePhrase.length() < GRAM_LENGTH) {
+                return Optional.empty();
+            }
+            addCandidates(lowerCasePhrase, candidates);
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Adds the persons indexed under every trigram of {@code lowerCasePhrase} to {@code candidates}.
+     */
+    private void addCandidates(String lowerCasePhrase, Set<UUID> candidates) {
+        HashSet<String> trigrams = new HashSet<>();
+        addTrigrams(lowerCasePhrase, trigrams);
+        List<HashSet<UUID>> postings = new ArrayList<>(trigrams.size());
+        for (String trigram : trigrams) {
+            HashSet<UUID> persons = personsByTrigram.get(trigram);
+            if (persons == null) {
+                return;
+            }
+            postings.add(persons);
+        }
+        // Going through the persons of the rarest trigram first keeps the intersection as small as possible
+        postings.sort(Comparator.comparingInt(HashSet::size));
+        List<HashSet<UUID>> otherPostings = postings.subList(1, postings.size());
+        for (UUID uuid : postings.get(0)) {
+            if (otherPostings.stream().allMatch(persons -> persons.contains(uuid))) {
+                candidates.add(uuid);
+            }
+        }
+    }
+
+    private static void addTrigrams(String value, Set<String> trigrams) {
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+    }
+}
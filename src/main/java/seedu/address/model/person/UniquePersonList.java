@@ -3,12 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.attribute.Attribute;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -24,17 +34,26 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * @see Person#equals(Object)
  */
 public class UniquePersonList implements Iterable<Person> {
+    private static final Logger logger = LogsCenter.getLogger(UniquePersonList.class);
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Map of the UUID of each person to their position in internalList
+    private final HashMap<UUID, Integer> positions = new HashMap<>();
+    // Map of the last four characters of a UUID to the UUIDs of all persons ending with them, in order of addition
+    private final HashMap<String, ArrayList<UUID>> shortUuidIndex = new HashMap<>();
+    // Trigrams of the short UUID and attribute values of each person, built the first time persons are searched
+    private final PersonTrigramIndex trigramIndex = new PersonTrigramIndex();
+    // Typed attribute values of each person by attribute name, built the first time persons are filtered by them
+    private final AttributeIndex attributeIndex = new AttributeIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equalsUuid);
+        return positions.containsKey(toCheck.getUuid());
     }
 
     /**
@@ -46,7 +65,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getUuid(), internalList.size());
         internalList.add(toAdd);
+        indexShortUuid(toAdd);
+        trigramIndex.add(toAdd);
+        attributeIndex.add(toAdd);
     }
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
@@ -56,8 +79,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target.getUuid());
+        if (index == null) {
             throw new PersonNotFoundException();
         }
 
@@ -66,6 +89,16 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        if (!target.equalsUuid(editedPerson)) {
+            positions.remove(target.getUuid());
+            positions.put(editedPerson.getUuid(), index);
+            unindexShortUuid(target);
+            indexShortUuid(editedPerson);
+        }
+        trigramIndex.remove(target);
+        trigramIndex.add(editedPerson);
+        attributeIndex.remove(target);
+        attributeIndex.add(editedPerson);
     }
     /**
      * Removes the equivalent person from the list.
@@ -73,14 +106,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.remove(toRemove.getUuid());
+        if (index == null) {
             throw new PersonNotFoundException();
         }
+        internalList.remove((int) index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getUuid(), i);
+        }
+        unindexShortUuid(toRemove);
+        trigramIndex.remove(toRemove);
+        attributeIndex.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -94,6 +136,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        reindex();
     }
 
     /**
@@ -137,98 +180,195 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).equalsUuid(persons.get(j))) {
-                    return false;
-                }
+        HashSet<UUID> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(person.getUuid())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the person whose UUID is exactly {@code uuidString}, or null if there is none.
+     */
+    private Person getPersonByUuidString(String uuidString) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(uuidString);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        // UUID.fromString also accepts shortened groups, which never matched a person's UUID string before
+        if (!uuid.toString().equals(uuidString)) {
+            return null;
+        }
+        return getPersonByUuid(uuid);
+    }
+
     /**
      * Deletes an attribute from a person identified by UUID.
-     * Iterates through the list of persons until the matching UUID is found, then deletes the specified attribute.
+     * Looks up the person with the matching UUID, then deletes the specified attribute.
      *
      * @param uuid The UUID of the person from whom to delete the attribute.
      * @param attributeName The name of the attribute to delete.
      */
     public void deleteAttribute(String uuid, String attributeName) {
-        for (Person person : internalList) {
-            if (person.getUuid().toString().equals(uuid)) {
-                person.deleteAttribute(attributeName);
-                return;
-            }
+        Person person = getPersonByUuidString(uuid);
+        if (person != null) {
+            person.deleteAttribute(attributeName);
+            trigramIndex.update(person);
+            attributeIndex.update(person);
+        }
+    }
+
+    /**
+     * Adds or replaces an attribute of a person identified by UUID.
+     * Looks up the person with the matching UUID, then updates the specified attribute.
+     *
+     * @param uuid The UUID of the person whose attribute is to be updated.
+     * @param attribute The attribute to add or replace.
+     */
+    public void updateAttribute(String uuid, Attribute attribute) {
+        Person person = getPersonByUuidString(uuid);
+        if (person != null) {
+            person.updateAttribute(attribute);
+            trigramIndex.update(person);
+            attributeIndex.update(person);
         }
     }
 
     /**
      * Retrieves a Person object by their UUID.
-     * Searches through the internal list of persons for a match with the provided UUID.
+     * Looks up the position of the person with the provided UUID in the internal list.
      *
      * @param uuid The UUID of the person to retrieve.
      * @return The Person object if found, null otherwise.
      */
     public Person getPersonByUuid(UUID uuid) {
-        for (Person person : internalList) {
-            if (person.getUuid().equals(uuid)) {
-                return person;
-            }
-        }
-        return null;
+        Integer index = positions.get(uuid);
+        return index == null ? null : internalList.get(index);
+    }
+
+    /**
+     * Returns the positions in the list of the persons with the given UUIDs, in ascending order. UUIDs of persons
+     * not in the list are left out.
+     */
+    public int[] getPositions(Collection<UUID> uuids) {
+        requireAllNonNull(uuids);
+        return uuids.stream().map(positions::get).filter(Objects::nonNull).mapToInt(Integer::intValue).sorted()
+                .toArray();
     }
 
     /**
      * Finds the full UUID of a person based on the last few digits provided.
-     * Searches each person's UUID for a match on the last four digits.
+     * Looks the digits up in the index of the last four characters of each person's UUID.
+     * If several persons share these digits, the one added first is returned.
      *
      * @param digits The last few digits of the person's UUID.
      * @return The full UUID of the person if a match is found, null otherwise.
      */
     public UUID getFullUuid(String digits) {
-        for (Person p : internalList) {
-            String currentPersonUuid = p.getUuidString();
-            int len = currentPersonUuid.length();
-            String toMatch = currentPersonUuid.substring(len - 4);
-            boolean isMatch = toMatch.equals(digits);
-            if (isMatch) {
-                return p.getUuid();
-            }
+        ArrayList<UUID> matches = shortUuidIndex.get(digits);
+        return matches == null ? null : matches.get(0);
+    }
+
+    /**
+     * Returns true if more than one person has a UUID ending with {@code digits}, in which case
+     * {@link #getFullUuid(String)} cannot tell them apart.
+     */
+    public boolean hasShortUuidCollision(String digits) {
+        ArrayList<UUID> matches = shortUuidIndex.get(digits);
+        return matches != null && matches.size() > 1;
+    }
+
+    /**
+     * Returns the UUIDs of the persons that may have a short UUID or attribute value containing any of
+     * {@code phrases}, ignoring case, which include all the persons that do. Returns an empty {@code Optional} if
+     * the persons cannot be narrowed down, such as when a phrase is shorter than three characters.
+     * The first call loads the attributes of every person to index them.
+     */
+    public Optional<Set<UUID>> getCandidatesContainingAny(List<String> phrases) {
+        requireAllNonNull(phrases);
+        if (!trigramIndex.isBuilt()) {
+            trigramIndex.build(internalList);
+        }
+        return trigramIndex.getCandidates(phrases);
+    }
+
+    /**
+     * Returns the UUIDs of the persons with a value in every one of {@code ranges}, found with the sorted index of
+     * the typed attribute values of the persons. Only whole numbers, dates and sexes are indexed.
+     * The first call loads the attributes of every person to index them.
+     */
+    public Set<UUID> getPersonsInAllRanges(List<AttributeRange<?>> ranges) {
+        requireAllNonNull(ranges);
+        if (!attributeIndex.isBuilt()) {
+            attributeIndex.build(internalList);
+        }
+        return attributeIndex.getPersonsInAll(ranges);
+    }
+
+    private void indexShortUuid(Person person) {
+        String shortUuid = person.getLastFourCharacterOfUuid();
+        ArrayList<UUID> matches = shortUuidIndex.computeIfAbsent(shortUuid, unused -> new ArrayList<>(1));
+        matches.add(person.getUuid());
+    }
+
+    private void unindexShortUuid(Person person) {
+        String shortUuid = person.getLastFourCharacterOfUuid();
+        ArrayList<UUID> matches = shortUuidIndex.get(shortUuid);
+        if (matches == null) {
+            return;
+        }
+        matches.remove(person.getUuid());
+        if (matches.isEmpty()) {
+            shortUuidIndex.remove(shortUuid);
+        }
+    }
+
+    private void reindex() {
+        positions.clear();
+        shortUuidIndex.clear();
+        trigramIndex.clear();
+        attributeIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            positions.put(person.getUuid(), i);
+            indexShortUuid(person);
+        }
+        long sharedShortUuidCount = shortUuidIndex.values().stream().filter(matches -> matches.size() > 1).count();
+        if (sharedShortUuidCount > 0) {
+            logger.info(sharedShortUuidCount + " short UUIDs are shared by more than one person, "
+                    + "commands will not accept them");
         }
-        return null;
     }
 
     /**
      * Checks if a person identified by UUID has a specified attribute.
-     * Iterates through the list of persons to find a match for the UUID, then checks for the attribute.
+     * Looks up the person with the matching UUID, then checks for the attribute.
      *
      * @param uuidString The UUID of the person as a string.
      * @param attributeName The name of the attribute to check for.
      * @return true if the person has the specified attribute, false otherwise.
      */
     public boolean hasAttribute(String uuidString, String attributeName) {
-        for (Person person : internalList) {
-            if (person.getUuidString().equals(uuidString)) {
-                return person.hasAttribute(attributeName);
-            }
-        }
-        return false;
+        Person person = getPersonByUuidString(uuidString);
+        return person != null && person.hasAttribute(attributeName);
     }
 
     /**
      * Adds an attribute to a person identified by UUID.
-     * Iterates through the list of persons until the matching UUID is found, then adds the specified attribute.
+     * Looks up the person with the matching UUID, then adds the specified attribute.
      *
      * @param gender The gender of the person assumed from the relationship roles.
      * @param uuidString The UUID of the person to whom the relationship is to be added.
      * @param uuidShort The last 4 digits of the UUID of the person to whom the relationships is to be added.
      */
     public void genderMatch(String gender, String uuidString, String uuidShort) {
-        for (Person person : internalList) {
-            if (person.getUuidString().equals(uuidString)) {
-                person.genderMatch(gender, uuidShort);
-            }
+        Person person = getPersonByUuidString(uuidString);
+        if (person != null) {
+            person.genderMatch(gender, uuidShort);
         }
     }
 }
@@ -0,0 +1,130 @@
+package seedu.address.model.person.relationship;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Summarises the relationships of one person that the role based validations depend on.
+ * Kept up to date by {@link RelationshipUtil} as relationships are added and removed.
+ */
+public class PersonRoleSummary {
+    private static final List<String> MALE_ROLES = List.of("brother", "husband");
+    private static final List<String> FEMALE_ROLES = List.of("sister", "wife");
+
+    private final UUID personUuid;
+    // Number of relationships of the person for each descriptor
+    private final HashMap<String, Integer> degreeByDescriptor = new HashMap<>();
+    // Siblings and spouses relationships of the person, in the same order as the relationship tracker
+    private final ArrayList<RoleBasedRelationship> genderedRelationships = new ArrayList<>();
+    private int bioparentsCount = 0;
+    private int maleRoleCount = 0;
+    private int femaleRoleCount = 0;
+
+    PersonRoleSummary(UUID personUuid) {
+        this.personUuid = personUuid;
+    }
+
+    void add(Relationship relationship) {
+        degreeByDescriptor.merge(relationship.getRelationshipDescriptor(), 1, Integer::sum);
+        if (!(relationship instanceof RoleBasedRelationship)) {
+            return;
+        }
+        RoleBasedRelationship roleBasedRelationship = (RoleBasedRelationship) relationship;
+        String role = roleBasedRelationship.getRole(personUuid);
+        if (isBioparents(relationship) && "child".equals(role)) {
+            bioparentsCount++;
+        }
+        if (isGendered(relationship)) {
+            genderedRelationships.add(roleBasedRelationship);
+            maleRoleCount += MALE_ROLES.contains(role) ? 1 : 0;
+            femaleRoleCount += FEMALE_ROLES.contains(role) ? 1 : 0;
+        }
+    }
+
+    void remove(Relationship relationship) {
+        degreeByDescriptor.computeIfPresent(relationship.getRelationshipDescriptor(), (unused, degree) ->
+                degree == 1 ? null : degree - 1);
+        if (!(relationship instanceof RoleBasedRelationship)) {
+            return;
+        }
+        String role = ((RoleBasedRelationship) relationship).getRole(personUuid);
+        if (isBioparents(relationship) && "child".equals(role)) {
+            bioparentsCount--;
+        }
+        if (isGendered(relationship)) {
+            // remove by identity so that an equal but distinct relationship stays counted
+            for (int i = 0; i < genderedRelationships.size(); i++) {
+                if (genderedRelationships.get(i) == relationship) {
+                    genderedRelationships.remove(i);
+                    break;
+                }
+            }
+            maleRoleCount -= MALE_ROLES.contains(role) ? 1 : 0;
+            femaleRoleCount -= FEMALE_ROLES.contains(role) ? 1 : 0;
+        }
+    }
+
+    boolean isEmpty() {
+        return degreeByDescriptor.isEmpty();
+    }
+
+    /**
+     * Returns the number of bioparents relationships in which the person is the child.
+     */
+    public int getBioparentsCount() {
+        return bioparentsCount;
+    }
+
+    /**
+     * Returns the number of relationships of the person with the given descriptor.
+     */
+    public int getDegree(String descriptor) {
+        return degreeByDescriptor.getOrDefault(descriptor, 0);
+    }
+
+    /**
+     * Returns the role of the person in their most recently added siblings or spouses relationship,
+     * or null if they have none.
+     */
+    public String getInferredGenderRole() {
+        if (genderedRelationships.isEmpty()) {
+            return null;
+        }
+        return genderedRelationships.get(genderedRelationships.size() - 1).getRole(personUuid);
+    }
+
+    /**
+     * Returns the role of the person in their earliest siblings or spouses relationship that contradicts
+     * {@code gender}, or null if there is none.
+     *
+     * @param gender The sex of the person, such as "male" or "f".
+     */
+    public String getRoleConflictingWithGender(String gender) {
+        List<String> conflictingRoles;
+        if ((gender.equalsIgnoreCase("female") || gender.equalsIgnoreCase("f")) && maleRoleCount > 0) {
+            conflictingRoles = MALE_ROLES;
+        } else if ((gender.equalsIgnoreCase("male") || gender.equalsIgnoreCase("m")) && femaleRoleCount > 0) {
+            conflictingRoles = FEMALE_ROLES;
+        } else {
+            return null;
+        }
+        for (RoleBasedRelationship relationship : genderedRelationships) {
+            String role = relationship.getRole(personUuid);
+            if (conflictingRoles.contains(role)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBioparents(Relationship relationship) {
+        return relationship.getRelationshipDescriptor().equalsIgnoreCase("Bioparents");
+    }
+
+    private static boolean isGendered(Relationship relationship) {
+        return relationship.getRelationshipDescriptor().equalsIgnoreCase("Siblings")
+                || relationship.getRelationshipDescriptor().equalsIgnoreCase("Spouses");
+    }
+}
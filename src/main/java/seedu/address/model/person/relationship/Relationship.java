@@ -1,15 +1,13 @@
 package seedu.address.model.person.relationship;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Represents a relationship between two people.
  */
 public class Relationship {
-    protected static ArrayList<String> validDescriptors = new ArrayList<>(
-            Arrays.asList("friends", "siblings", "spouses", "bioparents"));
+    private static final Pattern VALID_DESCRIPTOR = Pattern.compile("[a-zA-Z]+(\\s[a-zA-Z]+)*");
 
     protected UUID person1;
     protected UUID person2;
@@ -26,12 +24,8 @@ public class Relationship {
         this.person1 = person1;
         this.person2 = person2;
 
-        if (!validDescriptors.contains(relationshipDescriptor)) {
-            if (!relationshipDescriptor.matches("[a-zA-Z]+(\\s[a-zA-Z]+)*")) {
-                throw new IllegalArgumentException("Invalid Relationship type. Must only consist of letters.");
-            } else {
-                validDescriptors.add(relationshipDescriptor);
-            }
+        if (!VALID_DESCRIPTOR.matcher(relationshipDescriptor).matches()) {
+            throw new IllegalArgumentException("Invalid Relationship type. Must only consist of letters.");
         }
         isFamilyRelationship = relationshipDescriptor.equalsIgnoreCase("family");
         this.relationshipDescriptor = relationshipDescriptor;
@@ -62,6 +56,13 @@ public class Relationship {
                 || (other.person1.equals(this.person2) && other.person2.equals(this.person1)))
                 && other.relationshipDescriptor.equals(relationshipDescriptor);
     }
+
+    @Override
+    public int hashCode() {
+        // the persons are combined symmetrically to match the unordered comparison in equals
+        return 31 * (person1.hashCode() + person2.hashCode()) + relationshipDescriptor.hashCode();
+    }
+
     public String getStyleDescriptor() {
         return "general";
     }
@@ -109,11 +110,4 @@ public class Relationship {
         UUID target = origin.equals(this.person1) ? this.person2 : this.person1;
         return String.format("%s of", relationshipDescriptor);
     }
-
-    /**
-     * Adds a new relationship type to the list of valid relationship types.
-     */
-    public static String showRelationshipTypes() {
-        return String.format("Valid relationship types are: %s", validDescriptors.toString());
-    }
 }
@@ -0,0 +1,228 @@
+package seedu.address.model.person.relationship;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keeps track of the relationship types of one address book, and of which of them are roleless or role-based.
+ * Descriptors are looked up ignoring case, and each one is given an id when it is first registered.
+ */
+public class RelationshipDescriptorRegistry {
+    private static final List<String> DEFAULT_DESCRIPTORS = List.of("friends", "siblings", "spouses", "bioparents");
+    private static final List<String> DEFAULT_ROLELESS_DESCRIPTORS = List.of("friends");
+    private static final List<List<String>> DEFAULT_ROLE_BASED_DESCRIPTORS = List.of(
+            List.of("siblings", "brother", "sister"),
+            List.of("siblings", "brother", "brother"),
+            List.of("siblings", "sister", "sister"),
+            List.of("spouses", "husband", "wife"),
+            List.of("spouses", "husband", "husband"),
+            List.of("spouses", "wife", "wife"),
+            List.of("bioparents", "parent", "child"));
+
+    // Map of case folded descriptor to its id, in order of registration
+    private final LinkedHashMap<String, Integer> ids = new LinkedHashMap<>();
+    // Descriptor of each id as it was first registered, null once it has been removed
+    private final ArrayList<String> descriptors = new ArrayList<>();
+    private final LinkedHashSet<Integer> rolelessIds = new LinkedHashSet<>();
+    // Map of descriptor id to the pairs of roles allowed for it, in order of addition
+    private final LinkedHashMap<Integer, ArrayList<List<String>>> rolesById = new LinkedHashMap<>();
+    // Descriptor id and unordered pair of roles of each role-based descriptor, see roleKey
+    private final HashSet<List<Object>> roleKeys = new HashSet<>();
+
+    /**
+     * Creates a registry with the default relationship types.
+     */
+    public RelationshipDescriptorRegistry() {
+        reset();
+    }
+
+    /**
+     * Creates a registry with the same relationship types as {@code toBeCopied}.
+     */
+    public RelationshipDescriptorRegistry(RelationshipDescriptorRegistry toBeCopied) {
+        setDescriptors(toBeCopied);
+    }
+
+    /**
+     * Registers {@code descriptor} as a relationship type if it is not one already.
+     *
+     * @return The id of the descriptor.
+     */
+    public int register(String descriptor) {
+        Integer id = ids.get(fold(descriptor));
+        if (id != null) {
+            return id;
+        }
+        id = descriptors.size();
+        ids.put(fold(descriptor), id);
+        descriptors.add(descriptor);
+        return id;
+    }
+
+    /**
+     * Returns the id of {@code descriptor}, or -1 if it is not a relationship type.
+     */
+    public int getId(String descriptor) {
+        return ids.getOrDefault(fold(descriptor), -1);
+    }
+
+    public boolean isRegistered(String descriptor) {
+        return ids.containsKey(fold(descriptor));
+    }
+
+    /**
+     * Registers {@code descriptor} as a roleless relationship type.
+     */
+    public void addRoleless(String descriptor) {
+        rolelessIds.add(register(descriptor));
+    }
+
+    /**
+     * Registers {@code descriptor} as a role-based relationship type whose persons may have the given roles.
+     */
+    public void addRoleBased(String descriptor, String role1, String role2) {
+        int id = register(descriptor);
+        if (roleKeys.add(roleKey(id, role1, role2))) {
+            rolesById.computeIfAbsent(id, unused -> new ArrayList<>()).add(List.of(role1, role2));
+        }
+    }
+
+    public boolean isRoleless(String descriptor) {
+        return rolelessIds.contains(getId(descriptor));
+    }
+
+    public boolean isRoleBased(String descriptor) {
+        return rolesById.containsKey(getId(descriptor));
+    }
+
+    /**
+     * Returns true if {@code descriptor} is a role-based relationship type which allows the given roles,
+     * in either order.
+     */
+    public boolean hasRoles(String descriptor, String role1, String role2) {
+        int id = getId(descriptor);
+        return id != -1 && roleKeys.contains(roleKey(id, role1, role2));
+    }
+
+    /**
+     * Returns the roles allowed for {@code descriptor}, two for each pair of roles in order of addition.
+     */
+    public List<String> getRoles(String descriptor) {
+        List<String> roles = new ArrayList<>();
+        for (List<String> pair : rolesById.getOrDefault(getId(descriptor), new ArrayList<>())) {
+            roles.addAll(pair);
+        }
+        return roles;
+    }
+
+    /**
+     * Removes {@code descriptor} and its roles from the relationship types.
+     */
+    public void remove(String descriptor) {
+        Integer id = ids.remove(fold(descriptor));
+        if (id == null) {
+            return;
+        }
+        descriptors.set(id, null);
+        rolelessIds.remove(id);
+        ArrayList<List<String>> pairs = rolesById.remove(id);
+        if (pairs != null) {
+            for (List<String> pair : pairs) {
+                roleKeys.remove(roleKey(id, pair.get(0), pair.get(1)));
+            }
+        }
+    }
+
+    /**
+     * Replaces the roleless and role-based relationship types with the given ones.
+     * Each role-based descriptor is a list of the descriptor followed by the two roles.
+     */
+    public void setDescriptors(List<String> rolelessDescriptors, List<? extends List<String>> roleBasedDescriptors) {
+        rolelessIds.clear();
+        rolesById.clear();
+        roleKeys.clear();
+        for (String descriptor : rolelessDescriptors) {
+            addRoleless(descriptor);
+        }
+        for (List<String> roleBasedDescriptor : roleBasedDescriptors) {
+            addRoleBased(roleBasedDescriptor.get(0), roleBasedDescriptor.get(1), roleBasedDescriptor.get(2));
+        }
+    }
+
+    /**
+     * Replaces all relationship types with those of {@code replacement}.
+     */
+    public void setDescriptors(RelationshipDescriptorRegistry replacement) {
+        ids.clear();
+        descriptors.clear();
+        for (String descriptor : replacement.getDescriptors()) {
+            register(descriptor);
+        }
+        setDescriptors(replacement.getRolelessDescriptors(), replacement.getRoleBasedDescriptors());
+    }
+
+    /**
+     * Resets the relationship types to the default ones.
+     */
+    public void reset() {
+        ids.clear();
+        descriptors.clear();
+        for (String descriptor : DEFAULT_DESCRIPTORS) {
+            register(descriptor);
+        }
+        setDescriptors(DEFAULT_ROLELESS_DESCRIPTORS, DEFAULT_ROLE_BASED_DESCRIPTORS);
+    }
+
+    /**
+     * Returns all relationship types in order of registration.
+     */
+    public ArrayList<String> getDescriptors() {
+        ArrayList<String> registered = new ArrayList<>();
+        for (int id : ids.values()) {
+            registered.add(descriptors.get(id));
+        }
+        return registered;
+    }
+
+    public ArrayList<String> getRolelessDescriptors() {
+        ArrayList<String> roleless = new ArrayList<>();
+        for (int id : rolelessIds) {
+            roleless.add(descriptors.get(id));
+        }
+        return roleless;
+    }
+
+    /**
+     * Returns the role-based relationship types as lists of the descriptor followed by the two roles.
+     */
+    public ArrayList<ArrayList<String>> getRoleBasedDescriptors() {
+        ArrayList<ArrayList<String>> roleBased = new ArrayList<>();
+        for (Map.Entry<Integer, ArrayList<List<String>>> entry : rolesById.entrySet()) {
+            for (List<String> pair : entry.getValue()) {
+                roleBased.add(new ArrayList<>(Arrays.asList(descriptors.get(entry.getKey()), pair.get(0),
+                        pair.get(1))));
+            }
+        }
+        return roleBased;
+    }
+
+    @Override
+    public String toString() {
+        return getDescriptors().toString();
+    }
+
+    private static String fold(String descriptor) {
+        return descriptor.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Object> roleKey(int id, String role1, String role2) {
+        boolean isInOrder = role1.compareTo(role2) <= 0;
+        return isInOrder ? List.of(id, role1, role2) : List.of(id, role2, role1);
+    }
+}
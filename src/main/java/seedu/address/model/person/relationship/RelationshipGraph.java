@@ -0,0 +1,344 @@
+package seedu.address.model.person.relationship;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A compact, read-only snapshot of the relationships in a {@code RelationshipUtil}, used for path searches.
+ * Every person is given a dense integer id and the relationships of each person are stored in compressed sparse
+ * row arrays, so a search only touches primitive arrays. The search state is kept between searches and the arrays
+ * are reused when the graph is rebuilt, so repeated searches on a book allocate almost nothing.
+ */
+class RelationshipGraph {
+    /** Type bit set on every relationship that is a {@code FamilyRelationship}. */
+    static final int FAMILY_MASK = 1;
+    /** Type mask that allows every relationship. */
+    static final int ANY_MASK = 0;
+
+    private static final int MAX_DESCRIPTOR_BITS = Integer.SIZE - 1;
+
+    private final HashMap<UUID, Integer> ids = new HashMap<>();
+    private final HashMap<String, Integer> descriptorMasks = new HashMap<>();
+    private UUID[] persons = new UUID[0];
+    private Relationship[] relationships = new Relationship[0];
+    // the two persons of relationship i are relationshipEnds[2 * i] and relationshipEnds[2 * i + 1]
+    private int[] relationshipEnds = new int[0];
+    private int[] relationshipMasks = new int[0];
+    private int personCount;
+
+    // compressed sparse row: the neighbours of person i are at neighbours[offsets[i]] up to neighbours[offsets[i + 1]]
+    private int[] offsets = new int[1];
+    private int[] neighbours = new int[0];
+    private int[] incidentRelationships = new int[0];
+
+    // search state, reused between searches
+    private final BitSet visited = new BitSet();
+    private final BitSet visitedFromTarget = new BitSet();
+    private int[] parentRelationship = new int[0];
+    private int[] parentRelationshipFromTarget = new int[0];
+    private int[] depth = new int[0];
+    private int[] depthFromTarget = new int[0];
+    private int[] queue = new int[0];
+    private int[] queueFromTarget = new int[0];
+    // Number of persons whose relationships the last search went through
+    private int expandedCount;
+
+    /**
+     * Represents a path found by a search, with {@code persons[i]} and {@code persons[i + 1]} being the two
+     * persons in {@code relationships[i]}.
+     */
+    static class Path {
+        private final UUID[] persons;
+        private final Relationship[] relationships;
+
+        private Path(UUID[] persons, Relationship[] relationships) {
+            this.persons = persons;
+            this.relationships = relationships;
+        }
+
+        UUID[] getPersons() {
+            return persons;
+        }
+
+        Relationship[] getRelationships() {
+            return relationships;
+        }
+    }
+
+    /**
+     * Replaces the contents of this graph with {@code source}. The relationships of each person keep the order
+     * they have in {@code source}.
+     */
+    void rebuild(List<Relationship> source) {
+        ids.clear();
+        descriptorMasks.clear();
+        Arrays.fill(persons, null);
+        personCount = 0;
+        relationships = source.toArray(new Relationship[0]);
+        int relationshipCount = relationships.length;
+        relationshipEnds = ensureCapacity(relationshipEnds, relationshipCount * 2);
+        relationshipMasks = ensureCapacity(relationshipMasks, relationshipCount);
+        for (int i = 0; i < relationshipCount; i++) {
+            Relationship relationship = relationships[i];
+            relationshipEnds[2 * i] = idOf(relationship.getPerson1());
+            relationshipEnds[2 * i + 1] = idOf(relationship.getPerson2());
+            relationshipMasks[i] = typeMaskOf(relationship);
+        }
+
+        offsets = ensureCapacity(offsets, personCount + 1);
+        Arrays.fill(offsets, 0, personCount + 1, 0);
+        for (int i = 0; i < relationshipCount; i++) {
+            offsets[relationshipEnds[2 * i] + 1]++;
+            if (relationshipEnds[2 * i] != relationshipEnds[2 * i + 1]) {
+                offsets[relationshipEnds[2 * i + 1] + 1]++;
+            }
+        }
+        for (int i = 0; i < personCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        neighbours = ensureCapacity(neighbours, offsets[personCount]);
+        incidentRelationships = ensureCapacity(incidentRelationships, offsets[personCount]);
+        int[] next = Arrays.copyOf(offsets, personCount);
+        for (int i = 0; i < relationshipCount; i++) {
+            int first = relationshipEnds[2 * i];
+            int second = relationshipEnds[2 * i + 1];
+            neighbours[next[first]] = second;
+            incidentRelationships[next[first]++] = i;
+            if (first != second) {
+                neighbours[next[second]] = first;
+                incidentRelationships[next[second]++] = i;
+            }
+        }
+
+        parentRelationship = ensureCapacity(parentRelationship, personCount);
+        parentRelationshipFromTarget = ensureCapacity(parentRelationshipFromTarget, personCount);
+        depth = ensureCapacity(depth, personCount);
+        depthFromTarget = ensureCapacity(depthFromTarget, personCount);
+        queue = ensureCapacity(queue, personCount);
+        queueFromTarget = ensureCapacity(queueFromTarget, personCount);
+    }
+
+    private int idOf(UUID uuid) {
+        Integer id = ids.get(uuid);
+        if (id != null) {
+            return id;
+        }
+        if (persons.length == personCount) {
+            persons = Arrays.copyOf(persons, Math.max(16, personCount * 2));
+        }
+        persons[personCount] = uuid;
+        ids.put(uuid, personCount);
+        return personCount++;
+    }
+
+    private int typeMaskOf(Relationship relationship) {
+        int mask = relationship instanceof FamilyRelationship ? FAMILY_MASK : 0;
+        return mask | descriptorMask(relationship.getRelationshipDescriptor());
+    }
+
+    /**
+     * Returns the type bit for relationships with {@code descriptor}, giving it the next free bit if it has none.
+     * Returns 0 once all bits have been given out.
+     */
+    int descriptorMask(String descriptor) {
+        Integer mask = descriptorMasks.get(descriptor);
+        if (mask == null) {
+            int bit = descriptorMasks.size() + 1;
+            mask = bit < MAX_DESCRIPTOR_BITS ? 1 << bit : 0;
+            descriptorMasks.put(descriptor, mask);
+        }
+        return mask;
+    }
+
+    private boolean isAllowed(int relationshipIndex, int typeMask) {
+        return typeMask == ANY_MASK || (relationshipMasks[relationshipIndex] & typeMask) != 0;
+    }
+
+    /**
+     * Finds a shortest path from {@code origin} to {@code target} with a breadth-first search from the origin,
+     * only using relationships whose type matches {@code typeMask}.
+     *
+     * @return The path found, or null if there is none.
+     */
+    Path search(UUID origin, UUID target, int typeMask) {
+        expandedCount = 0;
+        Integer originId = ids.get(origin);
+        Integer targetId = ids.get(target);
+        if (originId == null || targetId == null) {
+            return null;
+        }
+        visited.clear();
+        visited.set(originId);
+        parentRelationship[originId] = -1;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = originId;
+        while (head < tail) {
+            int current = queue[head++];
+            expandedCount = head;
+            for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+                int relationshipIndex = incidentRelationships[i];
+                if (!isAllowed(relationshipIndex, typeMask)) {
+                    continue;
+                }
+                int next = neighbours[i];
+                if (next == targetId) {
+                    return tracePath(originId, current, relationshipIndex, targetId, -1);
+                }
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    parentRelationship[next] = relationshipIndex;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds a shortest path from {@code origin} to {@code target} by expanding breadth-first from both ends, one
+     * whole level at a time from whichever side has the smaller frontier, until the two searches meet.
+     * Only relationships whose type matches {@code typeMask} are used.
+     *
+     * @return The path found, or null if there is none.
+     */
+    Path bidirectionalSearch(UUID origin, UUID target, int typeMask) {
+        expandedCount = 0;
+        Integer originId = ids.get(origin);
+        Integer targetId = ids.get(target);
+        if (originId == null || targetId == null) {
+            return null;
+        }
+        visited.clear();
+        visitedFromTarget.clear();
+        visited.set(originId);
+        visitedFromTarget.set(targetId);
+        parentRelationship[originId] = -1;
+        parentRelationshipFromTarget[targetId] = -1;
+        depth[originId] = 0;
+        depthFromTarget[targetId] = 0;
+        queue[0] = originId;
+        queueFromTarget[0] = targetId;
+        int head = 0;
+        int tail = 1;
+        int headFromTarget = 0;
+        int tailFromTarget = 1;
+
+        while (head < tail && headFromTarget < tailFromTarget) {
+            boolean isExpandingOrigin = tail - head <= tailFromTarget - headFromTarget;
+            int[] frontier = isExpandingOrigin ? queue : queueFromTarget;
+            BitSet seen = isExpandingOrigin ? visited : visitedFromTarget;
+            BitSet otherSeen = isExpandingOrigin ? visitedFromTarget : visited;
+            int[] parents = isExpandingOrigin ? parentRelationship : parentRelationshipFromTarget;
+            int[] depths = isExpandingOrigin ? depth : depthFromTarget;
+            int[] otherDepths = isExpandingOrigin ? depthFromTarget : depth;
+            int start = isExpandingOrigin ? head : headFromTarget;
+            int end = isExpandingOrigin ? tail : tailFromTarget;
+            int nextEnd = end;
+
+            int bestNear = -1;
+            int bestFar = -1;
+            int bestRelationship = -1;
+            expandedCount += end - start;
+            for (int f = start; f < end; f++) {
+                int current = frontier[f];
+                for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+                    int relationshipIndex = incidentRelationships[i];
+                    if (!isAllowed(relationshipIndex, typeMask)) {
+                        continue;
+                    }
+                    int next = neighbours[i];
+                    if (otherSeen.get(next)) {
+                        if (bestNear == -1
+                                || depths[current] + otherDepths[next] < depths[bestNear] + otherDepths[bestFar]) {
+                            bestNear = current;
+                            bestFar = next;
+                            bestRelationship = relationshipIndex;
+                        }
+                        continue;
+                    }
+                    if (!seen.get(next)) {
+                        seen.set(next);
+                        parents[next] = relationshipIndex;
+                        depths[next] = depths[current] + 1;
+                        frontier[nextEnd++] = next;
+                    }
+                }
+            }
+            if (bestNear != -1) {
+                return isExpandingOrigin
+                        ? tracePath(originId, bestNear, bestRelationship, bestFar, targetId)
+                        : tracePath(originId, bestFar, bestRelationship, bestNear, targetId);
+            }
+            if (isExpandingOrigin) {
+                head = end;
+                tail = nextEnd;
+            } else {
+                headFromTarget = end;
+                tailFromTarget = nextEnd;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of persons whose relationships the last search went through.
+     */
+    int getExpandedCount() {
+        return expandedCount;
+    }
+
+    /**
+     * Builds the path that goes from {@code originId} to {@code nearId} through {@code parentRelationship},
+     * crosses {@code bridge} to {@code farId}, then goes to {@code targetId} through
+     * {@code parentRelationshipFromTarget}. A {@code targetId} of -1 means {@code farId} is the target.
+     */
+    private Path tracePath(int originId, int nearId, int bridge, int farId, int targetId) {
+        ArrayList<Integer> nearHalf = new ArrayList<>();
+        for (int node = nearId; node != originId; node = otherEnd(parentRelationship[node], node)) {
+            nearHalf.add(parentRelationship[node]);
+        }
+        ArrayList<Integer> farHalf = new ArrayList<>();
+        if (targetId != -1) {
+            for (int node = farId; node != targetId; node = otherEnd(parentRelationshipFromTarget[node], node)) {
+                farHalf.add(parentRelationshipFromTarget[node]);
+            }
+        }
+
+        int length = nearHalf.size() + 1 + farHalf.size();
+        UUID[] pathPersons = new UUID[length + 1];
+        Relationship[] pathRelationships = new Relationship[length];
+        int position = 0;
+        int node = originId;
+        pathPersons[0] = persons[node];
+        for (int i = nearHalf.size() - 1; i >= 0; i--) {
+            node = addStep(pathPersons, pathRelationships, position++, node, nearHalf.get(i));
+        }
+        node = addStep(pathPersons, pathRelationships, position++, node, bridge);
+        for (int relationshipIndex : farHalf) {
+            node = addStep(pathPersons, pathRelationships, position++, node, relationshipIndex);
+        }
+        return new Path(pathPersons, pathRelationships);
+    }
+
+    private int addStep(UUID[] pathPersons, Relationship[] pathRelationships, int position, int from,
+                        int relationshipIndex) {
+        int to = otherEnd(relationshipIndex, from);
+        pathRelationships[position] = relationships[relationshipIndex];
+        pathPersons[position + 1] = persons[to];
+        return to;
+    }
+
+    private int otherEnd(int relationshipIndex, int from) {
+        int first = relationshipEnds[2 * relationshipIndex];
+        return first == from ? relationshipEnds[2 * relationshipIndex + 1] : first;
+    }
+
+    private static int[] ensureCapacity(int[] array, int size) {
+        return array.length >= size ? array : new int[Math.max(size, array.length * 2)];
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.person.relationship;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identifies a relationship by its unordered pair of persons and its descriptor, so that relationships can be
+ * looked up in hashed collections regardless of which person was given first.
+ */
+final class RelationshipKey {
+    private final UUID lowerPerson;
+    private final UUID higherPerson;
+    private final String descriptor;
+
+    private RelationshipKey(UUID person1, UUID person2, String descriptor) {
+        boolean isInOrder = person1.compareTo(person2) <= 0;
+        this.lowerPerson = isInOrder ? person1 : person2;
+        this.higherPerson = isInOrder ? person2 : person1;
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Returns the key of {@code relationship}, matching relationships that are equal under
+     * {@link Relationship#equals(Object)}.
+     */
+    static RelationshipKey of(Relationship relationship) {
+        return new RelationshipKey(relationship.getPerson1(), relationship.getPerson2(),
+                relationship.getRelationshipDescriptor());
+    }
+
+    /**
+     * Returns the key of {@code relationship} with its descriptor case folded, matching relationships between the
+     * same persons whose descriptors are equal ignoring case.
+     */
+    static RelationshipKey ofIgnoreCase(Relationship relationship) {
+        return new RelationshipKey(relationship.getPerson1(), relationship.getPerson2(),
+                relationship.getRelationshipDescriptor().toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof RelationshipKey)) {
+            return false;
+        }
+        RelationshipKey other = (RelationshipKey) o;
+        return lowerPerson.equals(other.lowerPerson) && higherPerson.equals(other.higherPerson)
+                && descriptor.equals(other.descriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerPerson, higherPerson, descriptor);
+    }
+}
@@ -1,17 +1,18 @@
 package seedu.address.model.person.relationship;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.person.relationship.Relationship.validDescriptors;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.jfr.RelationshipSearchEvent;
 import seedu.address.commons.util.ResultContainer;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -22,30 +23,26 @@ import seedu.address.model.Model;
  * Allows for adding, deleting, and checking for existing relationships.
  */
 public class RelationshipUtil {
-    protected static ArrayList<ArrayList<String>> roleBasedDescriptors = new ArrayList<>(Arrays.asList(
-            new ArrayList<>(Arrays.asList("siblings", "brother", "sister")),
-            new ArrayList<>(Arrays.asList("siblings", "brother", "brother")),
-            new ArrayList<>(Arrays.asList("siblings", "sister", "sister")),
-            new ArrayList<>(Arrays.asList("spouses", "husband", "wife")),
-            new ArrayList<>(Arrays.asList("spouses", "husband", "husband")),
-            new ArrayList<>(Arrays.asList("spouses", "wife", "wife")),
-            new ArrayList<>(Arrays.asList("bioparents", "parent", "child"))
-    ));
-    protected static ArrayList<String> rolelessDescriptors = new ArrayList<>(
-            List.of("friends"));
+    private static final List<String> DEFAULT_RELATIONSHIP_TYPES = List.of("siblings", "friend", "spouses",
+            "bioparents");
+
+    private final RelationshipDescriptorRegistry descriptors = new RelationshipDescriptorRegistry();
     private final ObservableList<Relationship> relationshipsTracker = FXCollections.observableArrayList();
     private final ObservableList<Relationship> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(relationshipsTracker);
-
-    private class Pair {
-        private UUID uuid;
-        private int relationshipPairIndex;
-
-        private Pair(UUID uuid, int relationshipPairIndex) {
-            this.uuid = uuid;
-            this.relationshipPairIndex = relationshipPairIndex;
-        }
-    }
+    // Map of person UUID to the relationships that person is part of, kept in the same order as the tracker
+    private final HashMap<UUID, ArrayList<Relationship>> adjacency = new HashMap<>();
+    // Map of person UUID to the summary of the roles that person has in their relationships
+    private final HashMap<UUID, PersonRoleSummary> roleSummaries = new HashMap<>();
+    // Map of relationship key to the equal relationships in the tracker, kept in the same order as the tracker
+    private final HashMap<RelationshipKey, ArrayList<Relationship>> relationshipsByKey = new HashMap<>();
+    // Number of relationships in the tracker for each key with a case folded descriptor
+    private final HashMap<RelationshipKey, Integer> caseInsensitiveKeyCounts = new HashMap<>();
+    // Number of relationships in the tracker for each descriptor
+    private final HashMap<String, Integer> descriptorCounts = new HashMap<>();
+    // Compact copy of the relationships for path searches, rebuilt on the first search after any change
+    private final RelationshipGraph graph = new RelationshipGraph();
+    private boolean isGraphStale = true;
 
     /**
      * Adds a new relationship to the tracker.
@@ -54,6 +51,7 @@ public class RelationshipUtil {
      */
     public void addRelationship(Relationship toAdd) {
         relationshipsTracker.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -62,7 +60,121 @@ public class RelationshipUtil {
      * @param toDelete The relationship to be deleted.
      */
     public void deleteRelationship(Relationship toDelete) {
-        relationshipsTracker.remove(toDelete);
+        if (!hasRelationship(toDelete)) {
+            return;
+        }
+        int index = relationshipsTracker.indexOf(toDelete);
+        if (index == -1) {
+            return;
+        }
+        unindex(relationshipsTracker.remove(index));
+    }
+
+    /**
+     * Returns the summary of the roles that the person with the given UUID has in their relationships.
+     *
+     * @param personUuid The UUID of the person.
+     * @return The summary of the person, which is empty if the person has no relationships.
+     */
+    public PersonRoleSummary getRoleSummary(UUID personUuid) {
+        PersonRoleSummary summary = roleSummaries.get(personUuid);
+        return summary == null ? new PersonRoleSummary(personUuid) : summary;
+    }
+
+    /**
+     * Returns the relationships that the person with the given UUID is part of, in the order they were added.
+     *
+     * @param personUuid The UUID of the person.
+     * @return An unmodifiable list of the relationships of the person, empty if the person has none.
+     */
+    public List<Relationship> getRelationshipsOfPerson(UUID personUuid) {
+        ArrayList<Relationship> incident = adjacency.get(personUuid);
+        return incident == null ? Collections.emptyList() : Collections.unmodifiableList(incident);
+    }
+
+    private void index(Relationship relationship) {
+        isGraphStale = true;
+        descriptors.register(relationship.getRelationshipDescriptor());
+        index(relationship.getPerson1(), relationship);
+        if (!relationship.getPerson2().equals(relationship.getPerson1())) {
+            index(relationship.getPerson2(), relationship);
+        }
+        relationshipsByKey.computeIfAbsent(RelationshipKey.of(relationship), unused -> new ArrayList<>(1))
+                .add(relationship);
+        caseInsensitiveKeyCounts.merge(RelationshipKey.ofIgnoreCase(relationship), 1, Integer::sum);
+        descriptorCounts.merge(relationship.getRelationshipDescriptor(), 1, Integer::sum);
+    }
+
+    private void index(UUID personUuid, Relationship relationship) {
+        adjacency.computeIfAbsent(personUuid, unused -> new ArrayList<>()).add(relationship);
+        roleSummaries.computeIfAbsent(personUuid, PersonRoleSummary::new).add(relationship);
+    }
+
+    private void unindex(Relationship relationship) {
+        unindex(relationship.getPerson1(), relationship);
+        if (!relationship.getPerson2().equals(relationship.getPerson1())) {
+            unindex(relationship.getPerson2(), relationship);
+        }
+        unindexKey(relationship);
+    }
+
+    private void unindexKey(Relationship relationship) {
+        RelationshipKey key = RelationshipKey.of(relationship);
+        ArrayList<Relationship> equalRelationships = relationshipsByKey.get(key);
+        if (equalRelationships != null) {
+            removeByIdentity(equalRelationships, relationship);
+            if (equalRelationships.isEmpty()) {
+                relationshipsByKey.remove(key);
+            }
+        }
+        decrement(caseInsensitiveKeyCounts, RelationshipKey.ofIgnoreCase(relationship));
+        decrement(descriptorCounts, relationship.getRelationshipDescriptor());
+    }
+
+    private static <K> void decrement(HashMap<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static void removeByIdentity(ArrayList<Relationship> relationships, Relationship relationship) {
+        Iterator<Relationship> iterator = relationships.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == relationship) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private void unindex(UUID personUuid, Relationship relationship) {
+        isGraphStale = true;
+        PersonRoleSummary summary = roleSummaries.get(personUuid);
+        if (summary != null) {
+            summary.remove(relationship);
+            if (summary.isEmpty()) {
+                roleSummaries.remove(personUuid);
+            }
+        }
+        ArrayList<Relationship> incident = adjacency.get(personUuid);
+        if (incident == null) {
+            return;
+        }
+        // remove by identity so that an equal but distinct relationship stays indexed
+        removeByIdentity(incident, relationship);
+        if (incident.isEmpty()) {
+            adjacency.remove(personUuid);
+        }
+    }
+
+    private void reindex() {
+        isGraphStale = true;
+        adjacency.clear();
+        roleSummaries.clear();
+        relationshipsByKey.clear();
+        caseInsensitiveKeyCounts.clear();
+        descriptorCounts.clear();
+        for (Relationship relationship : relationshipsTracker) {
+            index(relationship);
+        }
     }
 
     /**
@@ -72,7 +184,7 @@ public class RelationshipUtil {
      * @return true if the relationship exists, false otherwise.
      */
     public boolean hasRelationship(Relationship toFind) {
-        return !relationshipsTracker.isEmpty() && relationshipsTracker.contains(toFind);
+        return relationshipsByKey.containsKey(RelationshipKey.of(toFind));
     }
 
     /**
@@ -82,18 +194,7 @@ public class RelationshipUtil {
      * @return true if the relationship exists, false otherwise.
      */
     public boolean hasRelationshipWithDescriptor(Relationship toFind) {
-        for (Relationship relationship : relationshipsTracker) {
-            boolean personsMatch = ((relationship.getPerson1().equals(toFind.getPerson1()) && relationship.getPerson2()
-                    .equals(toFind.getPerson2()))
-                    || (relationship.getPerson1().equals(toFind.getPerson2()) && relationship.getPerson2()
-                    .equals(toFind.getPerson1())));
-
-            if (personsMatch
-                    && relationship.getRelationshipDescriptor().equalsIgnoreCase(toFind.getRelationshipDescriptor())) {
-                return true;
-            }
-        }
-        return false;
+        return caseInsensitiveKeyCounts.containsKey(RelationshipKey.ofIgnoreCase(toFind));
     }
 
     /**
@@ -103,12 +204,7 @@ public class RelationshipUtil {
      * @return true if the relationship exists, false otherwise.
      */
     public boolean descriptorExists(String descriptor) {
-        for (Relationship relationship : relationshipsTracker) {
-            if (relationship.getRelationshipDescriptor().equals(descriptor)) {
-                return true;
-            }
-        }
-        return false;
+        return descriptorCounts.containsKey(descriptor);
     }
 
     /**
@@ -119,16 +215,15 @@ public class RelationshipUtil {
      * @throws IndexOutOfBoundsException if the relationship does not exist in the tracker.
      */
     public String getExistingRelationship(Relationship toGet) {
-        for (Relationship relationship : relationshipsTracker) {
-            if (relationship.equals(toGet)) {
-                return relationship.toString();
-            }
+        ArrayList<Relationship> equalRelationships = relationshipsByKey.get(RelationshipKey.of(toGet));
+        if (equalRelationships != null) {
+            return equalRelationships.get(0).toString();
         }
         throw new IllegalArgumentException("Relationship does not exist.");
     }
 
-    public static void addRolelessDescriptor(String descriptor) {
-        rolelessDescriptors.add(descriptor);
+    public void addRolelessDescriptor(String descriptor) {
+        descriptors.addRoleless(descriptor);
     }
 
     /**
@@ -138,12 +233,8 @@ public class RelationshipUtil {
      * @param role1      The role of the first person in the relationship.
      * @param role2      The role of the second person in the relationship.
      */
-    public static void addRoleBasedDescriptor(String descriptor, String role1, String role2) {
-        ArrayList<String> descriptorList = new ArrayList<>();
-        descriptorList.add(descriptor);
-        descriptorList.add(role1);
-        descriptorList.add(role2);
-        roleBasedDescriptors.add(descriptorList);
+    public void addRoleBasedDescriptor(String descriptor, String role1, String role2) {
+        descriptors.addRoleBased(descriptor, role1, role2);
     }
 
     /**
@@ -159,8 +250,23 @@ public class RelationshipUtil {
      * @param personUuid The UUID of the person whose relationships are to be deleted.
      */
     public void deleteRelationshipsOfPerson(UUID personUuid) {
+        ArrayList<Relationship> incident = adjacency.remove(personUuid);
+        if (incident == null) {
+            return;
+        }
+        // unindexing the other person of each relationship marks the graph stale too, but a person may only have
+        // relationships with themselves
+        isGraphStale = true;
+        roleSummaries.remove(personUuid);
         relationshipsTracker.removeIf(relationship -> relationship.getPerson1().equals(personUuid)
                 || relationship.getPerson2().equals(personUuid));
+        for (Relationship relationship : incident) {
+            UUID otherPersonUuid = relationship.containsUuid(personUuid);
+            if (!otherPersonUuid.equals(personUuid)) {
+                unindex(otherPersonUuid, relationship);
+            }
+            unindexKey(relationship);
+        }
     }
 
     /**
@@ -170,69 +276,36 @@ public class RelationshipUtil {
     public void setRelationships(List<Relationship> relationships) {
         requireAllNonNull(relationships);
         relationshipsTracker.setAll(relationships);
+        reindex();
     }
-    private ResultContainer search(ArrayList<UUID> relatedPersonsUuid, ArrayList<Relationship> relationships,
-                                   ArrayList<String> relationshipPathwayBuilder, HashSet<UUID> visited,
-                                   Pair[] parent, ArrayList<Pair> frontier, UUID target) {
-        while (!frontier.isEmpty()) {
-            ArrayList<Pair> nextFrontier = new ArrayList<>();
-            for (Pair currentNode : frontier) {
-                UUID start = currentNode.uuid;
-                for (int i = 0; i < relationshipsTracker.size(); i++) {
-                    Relationship current = relationshipsTracker.get(i);
-                    UUID nextUuid = current.containsUuid(start);
-                    if (nextUuid == null) {
-                        continue;
-                    }
-                    if (nextUuid.equals(target)) {
-                        relatedPersonsUuid.add(nextUuid); //
-                        relationshipPathwayBuilder.add(getLastFourCharacterOfUuid(nextUuid)); //
-                        parent[i] = new Pair(start, currentNode.relationshipPairIndex); //
-                        int currentIdx = i;
-                        while (currentIdx != -1) {
-                            Pair parentPair = parent[currentIdx]; //
-                            Relationship edge = relationshipsTracker.get(currentIdx); //
-                            relationships.add(edge); //
-                            relatedPersonsUuid.add(parentPair.uuid); //
-                            relationshipPathwayBuilder.add(
-                                    edge.getRelativeRelationshipDescriptorWithoutUuid(parentPair.uuid));
-                            relationshipPathwayBuilder.add(getLastFourCharacterOfUuid(parentPair.uuid));
-                            currentIdx = parentPair.relationshipPairIndex;
-                        }
-                        return container(relatedPersonsUuid, relationships, relationshipPathwayBuilder);
-                    }
-                    if (!visited.contains(nextUuid)) {
-                        visited.add(nextUuid);
-                        parent[i] = new Pair(start, currentNode.relationshipPairIndex);
-                        nextFrontier.add(new Pair(nextUuid, i));
-                    }
-                }
-            }
-            frontier = nextFrontier;
+    private RelationshipGraph getGraph() {
+        if (isGraphStale) {
+            graph.rebuild(relationshipsTracker);
+            isGraphStale = false;
         }
-        return null;
+        return graph;
     }
-    private ResultContainer container(ArrayList<UUID> relatedPersonsUuid, ArrayList<Relationship> relationships,
-                                      ArrayList<String> relationshipPathwayBuilder) {
-        Collections.reverse(relatedPersonsUuid);
-        Collections.reverse(relationships);
-        Collections.reverse(relationshipPathwayBuilder);
-        StringBuilder relationshipPathwayCompactor = new StringBuilder();
-        int idx = 0;
-        while (idx < relationshipPathwayBuilder.size()) {
-            if (idx == 0) {
-                relationshipPathwayCompactor.append(relationshipPathwayBuilder.get(idx));
-                idx++;
-            } else {
-                String toAdd = String.format(" --> %s --> %s", relationshipPathwayBuilder.get(idx),
-                        relationshipPathwayBuilder.get(idx + 1));
-                relationshipPathwayCompactor.append(toAdd);
-                idx += 2;
-            }
-        }
-        return new ResultContainer(relatedPersonsUuid, relationships,
+
+    /**
+     * Converts a path found in the graph into a {@code ResultContainer} with the persons and relationships in order
+     * from the origin to the target, and a pathway string such as {@code 0001 --> friends of --> 0002}.
+     */
+    private ResultContainer container(RelationshipGraph.Path path) {
+        if (path == null) {
+            return null;
+        }
+        UUID[] persons = path.getPersons();
+        Relationship[] edges = path.getRelationships();
+        StringBuilder relationshipPathwayCompactor = new StringBuilder(getLastFourCharacterOfUuid(persons[0]));
+        for (int i = 0; i < edges.length; i++) {
+            relationshipPathwayCompactor.append(String.format(" --> %s --> %s",
+                    edges[i].getRelativeRelationshipDescriptorWithoutUuid(persons[i]),
+                    getLastFourCharacterOfUuid(persons[i + 1])));
+        }
+        return new ResultContainer(new ArrayList<>(Arrays.asList(persons)), new ArrayList<>(Arrays.asList(edges)),
                 relationshipPathwayCompactor.toString());
     }
+
     /**
      * Performs a breadth-first search (BFS) through the relationships tracker to find a path
      * of relationship descriptors between two UUIDs, representing the origin and target entities.
@@ -244,59 +317,7 @@ public class RelationshipUtil {
      *     encountered from the origin to the target. If no path exists, returns an empty list.
      */
     public ResultContainer anySearchForTreeMap(UUID origin, UUID target) {
-        ArrayList<UUID> relatedPersonsUuid = new ArrayList<>();
-        ArrayList<Relationship> relationships = new ArrayList<>();
-        ArrayList<String> relationshipPathwayBuilder = new ArrayList<>();
-        HashSet<UUID> visited = new HashSet<>();
-        Pair[] parent = new Pair[relationshipsTracker.size()];
-        ArrayList<Pair> frontier = new ArrayList<>();
-        frontier.add(new Pair(origin, -1));
-        visited.add(origin);
-        return search(relatedPersonsUuid, relationships, relationshipPathwayBuilder, visited, parent, frontier, target);
-    }
-    private ResultContainer searchForFamily(ArrayList<UUID> relatedPersonsUuid, ArrayList<Relationship> relationships,
-                                   ArrayList<String> relationshipPathwayBuilder, HashSet<UUID> visited,
-                                   Pair[] parent, ArrayList<Pair> frontier, UUID target) {
-        while (!frontier.isEmpty()) {
-            ArrayList<Pair> nextFrontier = new ArrayList<>();
-            for (Pair currentNode : frontier) {
-                UUID start = currentNode.uuid;
-                for (int i = 0; i < relationshipsTracker.size(); i++) {
-                    Relationship current = relationshipsTracker.get(i);
-                    if (!(current instanceof FamilyRelationship)) {
-                        continue;
-                    }
-                    UUID nextUuid = current.containsUuid(start);
-                    if (nextUuid == null) {
-                        continue;
-                    }
-                    if (nextUuid.equals(target)) {
-                        relatedPersonsUuid.add(nextUuid);
-                        relationshipPathwayBuilder.add(getLastFourCharacterOfUuid(nextUuid));
-                        parent[i] = new Pair(start, currentNode.relationshipPairIndex);
-                        int currentIdx = i;
-                        while (currentIdx != -1) {
-                            Pair parentPair = parent[currentIdx];
-                            Relationship edge = relationshipsTracker.get(currentIdx);
-                            relationships.add(edge);
-                            relatedPersonsUuid.add(parentPair.uuid);
-                            relationshipPathwayBuilder.add(
-                                    edge.getRelativeRelationshipDescriptorWithoutUuid(parentPair.uuid));
-                            relationshipPathwayBuilder.add(getLastFourCharacterOfUuid(parentPair.uuid));
-                            currentIdx = parentPair.relationshipPairIndex;
-                        }
-                        return container(relatedPersonsUuid, relationships, relationshipPathwayBuilder);
-                    }
-                    if (!visited.contains(nextUuid)) {
-                        visited.add(nextUuid);
-                        parent[i] = new Pair(start, currentNode.relationshipPairIndex);
-                        nextFrontier.add(new Pair(nextUuid, i));
-                    }
-                }
-            }
-            frontier = nextFrontier;
-        }
-        return null;
+        return container(search(origin, target, false, false));
     }
 
     /**
@@ -310,16 +331,43 @@ public class RelationshipUtil {
      *     to the target, in order encountered. Returns null if no such path exists.
      */
     public ResultContainer familySearchForTreeMap(UUID origin, UUID target) {
-        ArrayList<UUID> relatedPersonsUuid = new ArrayList<>();
-        ArrayList<Relationship> relationships = new ArrayList<>();
-        ArrayList<String> relationshipPathwayBuilder = new ArrayList<>();
-        HashSet<UUID> visited = new HashSet<>();
-        Pair[] parent = new Pair[relationshipsTracker.size()];
-        ArrayList<Pair> frontier = new ArrayList<>();
-        frontier.add(new Pair(origin, -1));
-        visited.add(origin);
-        return searchForFamily(relatedPersonsUuid, relationships, relationshipPathwayBuilder, visited,
-                parent, frontier, target);
+        return container(search(origin, target, true, false));
+    }
+
+    /**
+     * Searches for a shortest path of relationships between two entities by expanding breadth-first from both the
+     * origin and the target, one whole level at a time from whichever side has the smaller frontier, until the two
+     * searches meet. This explores far fewer persons than {@link #anySearchForTreeMap(UUID, UUID)} on wide graphs.
+     *
+     * @param origin The UUID of the entity from which to start the search.
+     * @param target The UUID of the entity to find a path to.
+     * @param isFamilyOnly Whether only relationships that are instances of FamilyRelationship may be used.
+     * @return A ResultContainer of the same shape as {@link #anySearchForTreeMap(UUID, UUID)}.
+     *     Returns null if no such path exists.
+     */
+    public ResultContainer bidirectionalSearchForTreeMap(UUID origin, UUID target, boolean isFamilyOnly) {
+        return container(search(origin, target, isFamilyOnly, true));
+    }
+
+    /**
+     * Searches the graph for a shortest path from {@code origin} to {@code target}, and records the search as a
+     * {@code RelationshipSearchEvent}.
+     */
+    private RelationshipGraph.Path search(UUID origin, UUID target, boolean isFamilyOnly, boolean isBidirectional) {
+        RelationshipGraph searchGraph = getGraph();
+        int typeMask = isFamilyOnly ? RelationshipGraph.FAMILY_MASK : RelationshipGraph.ANY_MASK;
+        RelationshipSearchEvent event = new RelationshipSearchEvent();
+        event.begin();
+        RelationshipGraph.Path path = isBidirectional
+                ? searchGraph.bidirectionalSearch(origin, target, typeMask)
+                : searchGraph.search(origin, target, typeMask);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSearch(origin, target, isFamilyOnly, isBidirectional);
+            event.setResult(searchGraph.getExpandedCount(), path == null ? -1 : path.getRelationships().length);
+            event.commit();
+        }
+        return path;
     }
 
     @Override
@@ -357,27 +405,27 @@ public class RelationshipUtil {
     }
 
     /**
-     * Adds a new relationship type to the list of valid relationship types.
+     * Returns a message listing the valid relationship types.
+     */
+    public String showRelationshipTypes() {
+        return String.format("Valid relationship types are: %s", descriptors);
+    }
+
+    /**
+     * Removes a relationship type, along with its roles, from the valid relationship types.
      */
     public void deleteRelationType(String relationType) {
-        if (!validDescriptors.contains(relationType)) {
+        if (!descriptors.isRegistered(relationType)) {
             throw new IllegalArgumentException("Relationship type does not exist yet");
         }
-        if (relationType.equals("siblings") || relationType.equals("friend")
-                || relationType.equals("spouses") || relationType.equals("bioparents")) {
+        if (DEFAULT_RELATIONSHIP_TYPES.contains(relationType)) {
             throw new IllegalArgumentException("Cannot delete default relationship type");
         }
         if (descriptorExists(relationType)) {
             throw new IllegalArgumentException("There are relationships under this relation type. "
                     + "\nPlease delete them first.");
         }
-        validDescriptors.remove(relationType);
-        if (roleBasedDescriptors.contains(relationType)) {
-            roleBasedDescriptors.remove(relationType);
-        }
-        if (rolelessDescriptors.contains(relationType)) {
-            rolelessDescriptors.remove(relationType);
-        }
+        descriptors.remove(relationType);
     }
 
     /**
@@ -387,12 +435,7 @@ public class RelationshipUtil {
      * @return true if the relationship type is role-based, false otherwise.
      */
     public boolean isRelationRoleBased(String descriptor) {
-        for (ArrayList<String> relationship : roleBasedDescriptors) {
-            if (relationship.get(0).equals(descriptor)) {
-                return true;
-            }
-        }
-        return false;
+        return descriptors.isRoleBased(descriptor);
     }
 
     /**
@@ -402,7 +445,7 @@ public class RelationshipUtil {
      * @return true if the relationship type is roleless, false otherwise.
      */
     public boolean isRelationRoleless(String descriptor) {
-        return rolelessDescriptors.contains(descriptor);
+        return descriptors.isRoleless(descriptor);
     }
 
     /**
@@ -412,15 +455,7 @@ public class RelationshipUtil {
      * @return A list containing the roles associated with the specified descriptor.
      */
     public List<String> getRoles(String descriptor) {
-        List<String> roles = new ArrayList<>();
-        for (ArrayList<String> relationship : roleBasedDescriptors) {
-            if (relationship.get(0).equals(descriptor)) {
-                ArrayList<String> roleBasedRelationship = relationship;
-                roles.add(roleBasedRelationship.get(1));
-                roles.add(roleBasedRelationship.get(2));
-            }
-        }
-        return roles;
+        return descriptors.getRoles(descriptor);
     }
 
     /**
@@ -454,37 +489,36 @@ public class RelationshipUtil {
     }
 
     public ArrayList<ArrayList<String>> getRoleBasedDescriptors() {
-        return roleBasedDescriptors;
+        return descriptors.getRoleBasedDescriptors();
     }
 
     public ArrayList<String> getRolelessDescriptors() {
-        return rolelessDescriptors;
+        return descriptors.getRolelessDescriptors();
+    }
+
+    public RelationshipDescriptorRegistry getDescriptorRegistry() {
+        return descriptors;
     }
 
     public void setRelationshipDescriptors(ArrayList<String> rolelessDescriptors,
                                            ArrayList<ArrayList<String>> roleBasedDescriptors) {
-        this.rolelessDescriptors = rolelessDescriptors;
-        this.roleBasedDescriptors = roleBasedDescriptors;
+        descriptors.setDescriptors(rolelessDescriptors, roleBasedDescriptors);
+    }
+
+    /**
+     * Replaces all relationship types with those of {@code replacement}.
+     */
+    public void setRelationshipDescriptors(RelationshipDescriptorRegistry replacement) {
+        descriptors.setDescriptors(replacement);
     }
 
     public RoleBasedRelationship getBioparentsCount(Model model, String originUuid, String targetUuid,
                                                     String role1, String role2) throws CommandException {
         RoleBasedRelationship toAdd;
-        ObservableList<Relationship> allRelationships = model.getFilteredRelationshipList();
         UUID fullOriginUuid = model.getFullUuid(originUuid);
         UUID fullTargetUuid = model.getFullUuid(targetUuid);
-        int originBioParentsCount = 0;
-        int targetBioParentsCount = 0;
-        for (Relationship r : allRelationships) {
-            if (r.getRelationshipDescriptor().equalsIgnoreCase("Bioparents")
-                    && (r.getPerson1().equals(fullOriginUuid) || r.getPerson2().equals(fullOriginUuid))) {
-                originBioParentsCount = originBioParentsCount + bioParentsRelationshipCheck(fullOriginUuid, r);
-            }
-            if (r.getRelationshipDescriptor().equalsIgnoreCase("Bioparents")
-                    && (r.getPerson1().equals(fullTargetUuid) || r.getPerson2().equals(fullTargetUuid))) {
-                targetBioParentsCount = targetBioParentsCount + bioParentsRelationshipCheck(fullTargetUuid, r);
-            }
-        }
+        int originBioParentsCount = getRoleSummary(fullOriginUuid).getBioparentsCount();
+        int targetBioParentsCount = getRoleSummary(fullTargetUuid).getBioparentsCount();
         if (originBioParentsCount >= 2) {
             throw new CommandException("Sorry, " + originUuid + " already has 2 bioparent relationships");
         }
@@ -495,22 +529,6 @@ public class RelationshipUtil {
         return toAdd;
     }
 
-    private int bioParentsRelationshipCheck(UUID uuid, Relationship r) {
-        int number = 0;
-        if (r.getPerson1().equals(uuid)) {
-            RoleBasedRelationship r1 = (RoleBasedRelationship) r;
-            if (r1.getRole(uuid).equals("child")) {
-                number++;
-            }
-        } else if (r.getPerson2().equals(uuid)) {
-            RoleBasedRelationship r2 = (RoleBasedRelationship) r;
-            if (r2.getRole(uuid).equals("child")) {
-                number++;
-            }
-        }
-        return number;
-    }
-
     /**
      * Checks if the specified roles for adding a relationship between two persons are compatible with their genders,
      * specifically for the relationship types "Siblings" and "Spouses". If the roles are incompatible with the genders
@@ -534,15 +552,10 @@ public class RelationshipUtil {
     public RoleBasedRelationship checkSiblingsSpousesGender(Model model, String originUuid, String targetUuid,
                                                             String role1, String role2,
                                                             Boolean isSiblings) throws CommandException {
-        ObservableList<Relationship> allRelationships = model.getFilteredRelationshipList();
         UUID fullOriginUuid = model.getFullUuid(originUuid);
         UUID fullTargetUuid = model.getFullUuid(targetUuid);
-        String genderPerson1 = null;
-        String genderPerson2 = null;
-        for (Relationship r : allRelationships) {
-            genderPerson1 = validateGender(r, fullOriginUuid, genderPerson1);
-            genderPerson2 = validateGender(r, fullTargetUuid, genderPerson2);
-        }
+        String genderPerson1 = getRoleSummary(fullOriginUuid).getInferredGenderRole();
+        String genderPerson2 = getRoleSummary(fullTargetUuid).getInferredGenderRole();
         if (genderPerson1 != null) {
             genderError(genderPerson1, role1, originUuid);
         }
@@ -556,21 +569,6 @@ public class RelationshipUtil {
         }
     }
 
-    private String validateGender(Relationship relationship, UUID fullUuid, String gender) {
-        if ((relationship.getRelationshipDescriptor().equalsIgnoreCase("Siblings")
-                || relationship.getRelationshipDescriptor().equalsIgnoreCase("Spouses"))
-                && (relationship.getPerson1().equals(fullUuid) || relationship.getPerson2().equals(fullUuid))) {
-            if (relationship.getPerson1().equals(fullUuid)) {
-                RoleBasedRelationship r1 = (RoleBasedRelationship) relationship;
-                return r1.getRole(fullUuid);
-            } else if (relationship.getPerson2().equals(fullUuid)) {
-                RoleBasedRelationship r2 = (RoleBasedRelationship) relationship;
-                return r2.getRole(fullUuid);
-            }
-        }
-        return gender;
-    }
-
     private void genderError(String gender, String role, String uuid) throws CommandException {
         if (((gender.equals("brother") || gender.equals("husband")) && (role.equals("sister")
                 || role.equals("wife"))) || ((gender.equals("sister") || gender.equals("wife"))
@@ -592,50 +590,23 @@ public class RelationshipUtil {
      */
     public void genderCheck(UUID fulluuid, String gender) throws CommandException {
         String uuid = fulluuid.toString().substring(fulluuid.toString().length() - 4);
-        ObservableList<Relationship> allRelationships = this.internalUnmodifiableList;
-        String genderMatch = null;
-        for (Relationship r : allRelationships) {
-            if ((r.getRelationshipDescriptor().equalsIgnoreCase("Siblings")
-                    || r.getRelationshipDescriptor().equalsIgnoreCase("Spouses"))
-                    && (r.getPerson1().equals(fulluuid) || r.getPerson2().equals(fulluuid))) {
-                genderMatch = getGenderMatch(r, fulluuid);
-            }
-            String message = "Sorry, " + uuid + " has been added as " + genderMatch + " in their "
+        String genderMatch = getRoleSummary(fulluuid).getRoleConflictingWithGender(gender);
+        if (genderMatch != null) {
+            throw new CommandException("Sorry, " + uuid + " has been added as " + genderMatch + " in their "
                     + "relationships.\nPlease make sure that the role you are inputting for " + uuid
                     + " matches the gender of " + genderMatch + ".\nIf you want to change the gender of "
-                    + uuid + ", please delete the" + " relationship with " + genderMatch + ".";
-            if (genderMatch != null && (genderMatch.equals("brother") || genderMatch.equals("husband"))
-                    && (gender.equalsIgnoreCase("female") || gender.equalsIgnoreCase("f"))) {
-                throw new CommandException(message);
-            } else if (genderMatch != null && (genderMatch.equals("sister") || genderMatch.equals("wife"))
-                    && (gender.equalsIgnoreCase("male") || gender.equalsIgnoreCase("m"))) {
-                throw new CommandException(message);
-            }
-            genderMatch = null;
+                    + uuid + ", please delete the" + " relationship with " + genderMatch + ".");
         }
     }
 
-    private String getGenderMatch(Relationship relationship, UUID fullUuid) {
-        if (relationship.getPerson1().equals(fullUuid)) {
-            RoleBasedRelationship r1 = (RoleBasedRelationship) relationship;
-            return r1.getRole(fullUuid);
-        } else if (relationship.getPerson2().equals(fullUuid)) {
-            RoleBasedRelationship r2 = (RoleBasedRelationship) relationship;
-            return r2.getRole(fullUuid);
-        }
-        return null;
-    }
-
     /**
      * Resets the relationship descriptors to their default values.
      */
-    public static void resetRelationshipDescriptors() {
-        rolelessDescriptors = new ArrayList<>(Arrays.asList("friend"));
-        roleBasedDescriptors = new ArrayList<>(Arrays.asList(
-                new ArrayList<>(Arrays.asList("siblings", "brother", "sister")),
-                new ArrayList<>(Arrays.asList("spouses", "husband", "wife")),
-                new ArrayList<>(Arrays.asList("bioparents", "parent", "child"))
-        ));
+    public void resetRelationshipDescriptors() {
+        descriptors.reset();
+        for (Relationship relationship : relationshipsTracker) {
+            descriptors.register(relationship.getRelationshipDescriptor());
+        }
     }
 
     /**
@@ -748,11 +719,12 @@ public class RelationshipUtil {
      * @param oldRelationshipDescriptor The descriptor of the existing relationship.
      * @param newRelationshipDescriptor The descriptor of the new relationship.
      * @param isAdd                     A boolean indicating if the operation is an add operation.
+     * @return The relationship added to the tracker, or null if the operation is an add operation.
      * @throws CommandException If the relationship descriptor is invalid,
      *     the roles are incompatible with the descriptor,
      *     or if the relationship already exists in the tracker.
      */
-    public void relationshipChecks(Relationship toEditIn, UUID fullOriginUuid, UUID fullTargetUuid,
+    public Relationship relationshipChecks(Relationship toEditIn, UUID fullOriginUuid, UUID fullTargetUuid,
                                    String originUuid, String targetUuid, String role1, String role2,
                                    Model model, String oldRelationshipDescriptor,
                                    String newRelationshipDescriptor, Boolean isAdd) throws CommandException {
@@ -773,11 +745,14 @@ public class RelationshipUtil {
                 validateRoleBasedRelation(role1, role2, newRelationshipDescriptor);
                 addRelationship(toAdd);
                 addRoleBasedDescriptor(newRelationshipDescriptor, role1, role2);
+                return toAdd;
             } else {
                 validateRoleless(role1, role2, newRelationshipDescriptor);
                 addRelationship(toEditIn);
                 addRolelessDescriptor(newRelationshipDescriptor);
+                return toEditIn;
             }
         }
+        return null;
     }
 }
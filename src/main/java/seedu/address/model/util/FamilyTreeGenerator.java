@@ -0,0 +1,288 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.attribute.BirthdayAttribute;
+import seedu.address.model.person.attribute.NameAttribute;
+import seedu.address.model.person.attribute.PhoneNumberAttribute;
+import seedu.address.model.person.attribute.SexAttribute;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.model.person.relationship.BioParentsRelationship;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.model.person.relationship.RoleBasedRelationship;
+import seedu.address.model.person.relationship.SiblingRelationship;
+import seedu.address.model.person.relationship.SpousesRelationship;
+
+/**
+ * Generates address books of families spanning several generations, for trying out the app and its storage with
+ * many more persons than the sample data has.
+ * Founding couples have children, who marry children of other couples or persons from outside the families and have
+ * children of their own. Persons also have friends and colleagues in other families, and some children have a friend
+ * of their father as their godparent.
+ * The same seed always gives the same address book.
+ */
+public class FamilyTreeGenerator {
+
+    // the whole address book is held in memory, taking about 2.5 KB per person, so the largest ones fit a default heap
+    public static final int MAX_PERSON_COUNT = 200_000;
+    public static final String COLLEAGUES_DESCRIPTOR = "colleagues";
+    public static final String GODPARENTS_DESCRIPTOR = "godparents";
+
+    private static final String[] MALE_FIRST_NAMES = {"Alex", "David", "Irfan", "Roy", "Kumar", "Aaron", "Marcus",
+        "Oliver", "Wei Jie", "Hafiz", "Ravi", "Benjamin", "Daniel", "Jun Hao", "Samuel", "Ethan"};
+    private static final String[] FEMALE_FIRST_NAMES = {"Bernice", "Charlotte", "Wei Ling", "Hui Min", "Siti", "Grace",
+        "Nadia", "Priya", "Aisha", "Mei Ling", "Rachel", "Sarah", "Chloe", "Divya", "Hannah", "Nur"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Goh", "Chua", "Raj", "Abdullah", "Koh", "Teo", "Lee", "Ong", "Pillai", "Rahman"};
+    private static final String[] OCCUPATIONS = {"Teacher", "Engineer", "Nurse", "Farmer", "Shopkeeper", "Doctor",
+        "Tailor", "Accountant", "Fisherman", "Clerk", "Carpenter", "Student", "Artist", "Lawyer", "Driver", "Cook"};
+
+    // founding couples are spread out so that even the largest address books only span a few generations
+    private static final int PERSONS_PER_FOUNDING_COUPLE = 100;
+    private static final int MAX_CHILDREN_PER_COUPLE = 5;
+    private static final double MARRIAGE_RATE = 0.9;
+    // share of marriages to persons from outside the families, who are added to the address book as they marry in
+    private static final double MARRYING_IN_RATE = 0.5;
+    private static final double FRIEND_RATE = 0.6;
+    private static final double COLLEAGUE_RATE = 0.3;
+    private static final double GODPARENT_RATE = 0.2;
+    // birthdays are fixed rather than counted back from today, so that they do not depend on when they are generated
+    private static final int LATEST_BIRTH_YEAR = 2010;
+    private static final int YEARS_PER_GENERATION = 30;
+    private static final int MAX_BIRTH_YEAR_OFFSET = 10;
+    private static final int EARLIEST_PHONE_OWNER_BIRTH_YEAR = 1935;
+    private static final int MIN_PHONE_NUMBER = 80000000;
+    private static final int PHONE_NUMBER_RANGE = 20000000;
+
+    private final long seed;
+
+    // State of the address book being generated, with the persons numbered in order of generation
+    private Random random;
+    private int generatedCount;
+    private UUID[] uuids;
+    private boolean[] isMale;
+    private int[] generations;
+    private int[] lastNames;
+    private int[] fathers;
+    private int[] mothers;
+    private int[] spouses;
+    private int[] friends;
+    private List<Relationship> relationships;
+
+    public FamilyTreeGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons in families generated from the seed of this generator.
+     *
+     * @throws IllegalArgumentException if {@code personCount} is negative or more than {@code MAX_PERSON_COUNT}.
+     */
+    public AddressBook generate(int personCount) {
+        if (personCount < 0 || personCount > MAX_PERSON_COUNT) {
+            throw new IllegalArgumentException("Person count must be between 0 and " + MAX_PERSON_COUNT);
+        }
+        random = new Random(seed);
+        generatedCount = 0;
+        uuids = new UUID[personCount];
+        isMale = new boolean[personCount];
+        generations = new int[personCount];
+        lastNames = new int[personCount];
+        fathers = new int[personCount];
+        mothers = new int[personCount];
+        spouses = new int[personCount];
+        friends = new int[personCount];
+        relationships = new ArrayList<>();
+
+        addFamilies(personCount);
+        addFriends();
+        addGodparents();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addRolelessDescriptor(COLLEAGUES_DESCRIPTOR);
+        addressBook.addRoleBasedDescriptor(GODPARENTS_DESCRIPTOR, "godparent", "godchild");
+        addressBook.setPersons(createPersons());
+        addressBook.setRelationships(relationships);
+        relationships = null;
+        return addressBook;
+    }
+
+    /**
+     * Adds founding couples, then the children of each couple in the order the couples married, until there are
+     * {@code targetCount} persons.
+     */
+    private void addFamilies(int targetCount) {
+        ArrayDeque<int[]> couples = new ArrayDeque<>();
+        ArrayDeque<Integer> unmarriedMen = new ArrayDeque<>();
+        ArrayDeque<Integer> unmarriedWomen = new ArrayDeque<>();
+        int foundingCoupleCount = Math.max(1, targetCount / PERSONS_PER_FOUNDING_COUPLE);
+        for (int i = 0; i < foundingCoupleCount && generatedCount + 2 <= targetCount; i++) {
+            int husband = addPerson(true, 0, random.nextInt(LAST_NAMES.length), -1, -1);
+            couples.add(marry(husband, addPerson(false, 0, random.nextInt(LAST_NAMES.length), -1, -1)));
+        }
+
+        while (generatedCount < targetCount) {
+            if (couples.isEmpty()) {
+                // every family so far has died out, so a new one is founded, or a single person added if there is
+                // no room for a couple
+                int person = addPerson(true, 0, random.nextInt(LAST_NAMES.length), -1, -1);
+                if (generatedCount < targetCount) {
+                    couples.add(marry(person, addPerson(false, 0, random.nextInt(LAST_NAMES.length), -1, -1)));
+                }
+                continue;
+            }
+            int[] parents = couples.poll();
+            int childGeneration = Math.max(generations[parents[0]], generations[parents[1]]) + 1;
+            int childCount = 1 + random.nextInt(MAX_CHILDREN_PER_COUPLE);
+            List<Integer> children = new ArrayList<>();
+            for (int i = 0; i < childCount && generatedCount < targetCount; i++) {
+                int child = addPerson(random.nextBoolean(), childGeneration, lastNames[parents[0]], parents[0],
+                        parents[1]);
+                for (int sibling : children) {
+                    relationships.add(new SiblingRelationship(uuids[sibling], uuids[child], getSiblingRole(sibling),
+                            getSiblingRole(child)));
+                }
+                children.add(child);
+            }
+
+            // siblings only join the unmarried persons once they have all been matched, so they never marry
+            List<Integer> unmatchedChildren = new ArrayList<>();
+            for (int child : children) {
+                if (random.nextDouble() >= MARRIAGE_RATE) {
+                    continue;
+                }
+                ArrayDeque<Integer> unmarriedSpouses = isMale[child] ? unmarriedWomen : unmarriedMen;
+                if (random.nextDouble() < MARRYING_IN_RATE) {
+                    if (generatedCount < targetCount) {
+                        int spouse = addPerson(!isMale[child], generations[child],
+                                random.nextInt(LAST_NAMES.length), -1, -1);
+                        couples.add(isMale[child] ? marry(child, spouse) : marry(spouse, child));
+                    }
+                } else if (unmarriedSpouses.isEmpty()) {
+                    unmatchedChildren.add(child);
+                } else {
+                    int spouse = unmarriedSpouses.poll();
+                    couples.add(isMale[child] ? marry(child, spouse) : marry(spouse, child));
+                }
+            }
+            for (int child : unmatchedChildren) {
+                (isMale[child] ? unmarriedMen : unmarriedWomen).add(child);
+            }
+        }
+    }
+
+    private int addPerson(boolean isMale, int generation, int lastName, int father, int mother) {
+        int person = generatedCount++;
+        // the last four characters of the UUIDs of the first 65536 persons are all different, as they are used to
+        // refer to persons in commands
+        uuids[person] = new UUID(random.nextLong(), (random.nextLong() & ~0xFFFFL) | (person & 0xFFFF));
+        this.isMale[person] = isMale;
+        generations[person] = generation;
+        lastNames[person] = lastName;
+        fathers[person] = father;
+        mothers[person] = mother;
+        spouses[person] = -1;
+        friends[person] = -1;
+        if (father != -1) {
+            relationships.add(new BioParentsRelationship(uuids[father], uuids[person], "parent", "child"));
+            relationships.add(new BioParentsRelationship(uuids[mother], uuids[person], "parent", "child"));
+        }
+        return person;
+    }
+
+    private int[] marry(int husband, int wife) {
+        spouses[husband] = wife;
+        spouses[wife] = husband;
+        relationships.add(new SpousesRelationship(uuids[husband], uuids[wife], "husband", "wife"));
+        return new int[] {husband, wife};
+    }
+
+    private String getSiblingRole(int person) {
+        return isMale[person] ? "brother" : "sister";
+    }
+
+    /**
+     * Gives some persons a friend or colleague picked at random from the persons generated before them, as long as
+     * the two are not already parent and child, siblings or spouses.
+     */
+    private void addFriends() {
+        for (int person = 1; person < generatedCount; person++) {
+            if (random.nextDouble() >= FRIEND_RATE) {
+                continue;
+            }
+            int friend = random.nextInt(person);
+            if (isImmediateFamily(person, friend)) {
+                continue;
+            }
+            friends[person] = friend;
+            String descriptor = random.nextDouble() < COLLEAGUE_RATE ? COLLEAGUES_DESCRIPTOR : "friends";
+            relationships.add(new Relationship(uuids[friend], uuids[person], descriptor));
+        }
+    }
+
+    /**
+     * Returns true if {@code person} and {@code other}, who was generated before them, are parent and child, siblings
+     * or spouses. Children are always generated after their parents.
+     */
+    private boolean isImmediateFamily(int person, int other) {
+        return spouses[person] == other || fathers[person] == other || mothers[person] == other
+                || (fathers[person] != -1 && fathers[person] == fathers[other]);
+    }
+
+    /**
+     * Makes the friend of the father of some children their godparent, unless the child is already friends with or
+     * married to them.
+     */
+    private void addGodparents() {
+        for (int child = 0; child < generatedCount; child++) {
+            if (fathers[child] == -1 || random.nextDouble() >= GODPARENT_RATE) {
+                continue;
+            }
+            int godparent = friends[fathers[child]];
+            if (godparent == -1 || godparent == mothers[child] || godparent == spouses[child]
+                    || friends[child] == godparent) {
+                continue;
+            }
+            relationships.add(new RoleBasedRelationship(uuids[godparent], uuids[child], GODPARENTS_DESCRIPTOR,
+                    "godparent", "godchild"));
+        }
+    }
+
+    /**
+     * Returns the generated persons with their attributes. The persons of the latest generation are born in the
+     * decade before {@code LATEST_BIRTH_YEAR}, and each earlier generation {@code YEARS_PER_GENERATION} years before,
+     * so that parents are always born well before their children.
+     */
+    private List<Person> createPersons() {
+        int lastGeneration = Arrays.stream(generations, 0, generatedCount).max().orElse(0);
+        List<Person> persons = new ArrayList<>(generatedCount);
+        for (int person = 0; person < generatedCount; person++) {
+            int birthYear = LATEST_BIRTH_YEAR - (lastGeneration - generations[person]) * YEARS_PER_GENERATION
+                    - random.nextInt(MAX_BIRTH_YEAR_OFFSET);
+            String[] firstNames = isMale[person] ? MALE_FIRST_NAMES : FEMALE_FIRST_NAMES;
+            List<Attribute> attributes = new ArrayList<>();
+            attributes.add(new NameAttribute("Name", firstNames[random.nextInt(firstNames.length)] + " "
+                    + LAST_NAMES[lastNames[person]]));
+            attributes.add(new SexAttribute("Sex", isMale[person] ? SexAttribute.Gender.MALE
+                    : SexAttribute.Gender.FEMALE));
+            attributes.add(new BirthdayAttribute("Birthday", LocalDate.ofYearDay(birthYear,
+                    1 + random.nextInt(365))));
+            if (birthYear >= EARLIEST_PHONE_OWNER_BIRTH_YEAR) {
+                attributes.add(new PhoneNumberAttribute("Phone", MIN_PHONE_NUMBER
+                        + random.nextInt(PHONE_NUMBER_RANGE)));
+            }
+            attributes.add(new StringAttribute("Occupation", OCCUPATIONS[random.nextInt(OCCUPATIONS.length)]));
+            persons.add(new Person(uuids[person], attributes.toArray(new Attribute[0])));
+        }
+        return persons;
+    }
+}
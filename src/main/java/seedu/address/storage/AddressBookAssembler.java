@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.UUID;
+
+import javafx.util.Pair;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.model.person.relationship.RoleBasedRelationship;
+import seedu.address.model.person.relationship.SiblingRelationship;
+import seedu.address.model.person.relationship.SpousesRelationship;
+
+/**
+ * Builds an {@code AddressBook} from persons and relationships read from storage one at a time, checking each of
+ * them against the data constraints as it is added.
+ * Persons and relationship descriptors have to be added before the relationships that refer to them.
+ * Each check only looks at the persons of the relationship being added, so that the whole address book is checked
+ * in time linear in its size.
+ */
+class AddressBookAssembler {
+
+    private final AddressBook addressBook = new AddressBook();
+    // Whether relationships are checked against the attributes of their persons
+    private final boolean isCheckingAttributes;
+    // Gender of each person implied by the roles of their siblings and spouses relationships added so far
+    private final HashMap<UUID, String> personGenders = new HashMap<>();
+    // Value of the Sex attribute of each person that has one
+    private final HashMap<UUID, String> personSexes = new HashMap<>();
+
+    AddressBookAssembler() {
+        this(true);
+    }
+
+    /**
+     * Creates an {@code AddressBookAssembler} that only checks relationships against the attributes of their persons
+     * if {@code isCheckingAttributes} is true, so that persons whose attributes are loaded later are not loaded by
+     * the checks.
+     */
+    AddressBookAssembler(boolean isCheckingAttributes) {
+        this.isCheckingAttributes = isCheckingAttributes;
+    }
+
+    /**
+     * Adds {@code person} to the address book.
+     *
+     * @throws IllegalValueException if the address book already contains the person.
+     */
+    public void addPerson(Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+        if (isCheckingAttributes && person.hasAttribute("Sex")) {
+            personSexes.put(person.getUuid(), person.getAttribute("Sex").getValueAsString());
+        }
+    }
+
+    public void setRelationshipDescriptors(Pair<ArrayList<String>, ArrayList<ArrayList<String>>> descriptors) {
+        addressBook.setRelationshipDescriptors(descriptors);
+    }
+
+    /**
+     * Adds {@code relationship} to the address book.
+     *
+     * @throws IllegalValueException if the relationship is not allowed by the relationship descriptors, contradicts
+     *     the genders of its persons, or is already in the address book.
+     */
+    public void addRelationship(Relationship relationship) throws IllegalValueException {
+        if (!(relationship instanceof RoleBasedRelationship)
+                && !addressBook.isRelationRoleless(relationship.getRelationshipDescriptor())) {
+            throw new IllegalValueException("Invalid relationship descriptor "
+                    + relationship.getRelationshipDescriptor() + " found");
+        }
+        if (relationship instanceof RoleBasedRelationship) {
+            handleRoleBasedRelationship(relationship);
+        }
+        if (relationship instanceof SiblingRelationship) {
+            handleSiblingRelationship(relationship);
+        }
+        if (relationship instanceof SpousesRelationship) {
+            handleSpousesRelationship(relationship);
+        }
+        if (addressBook.hasRelationship(relationship)) {
+            throw new IllegalValueException("Duplicate relationship found.");
+        }
+        addressBook.addRelationship(relationship);
+        // only the persons of the new relationship can have roles that contradict their Sex attribute now
+        checkPersonAttributeGender(relationship.getPerson1());
+        checkPersonAttributeGender(relationship.getPerson2());
+    }
+
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    private void checkPersonAttributeGender(UUID personUuid) throws IllegalValueException {
+        String sex = personSexes.get(personUuid);
+        if (sex == null) {
+            return;
+        }
+        try {
+            addressBook.genderCheck(personUuid, sex);
+        } catch (Exception e) {
+            throw new IllegalValueException("Sex attribute gender of" + personUuid.toString()
+                    + " does not match with existing relationships");
+        }
+    }
+
+    private void handleRoleBasedRelationship(Relationship relationship) throws IllegalValueException {
+        RoleBasedRelationship roleBasedRelationship = (RoleBasedRelationship) relationship;
+        boolean descriptorExists = addressBook.hasRoleBasedDescriptor(relationship.getRelationshipDescriptor(),
+                roleBasedRelationship.getRole(relationship.getPerson1()),
+                roleBasedRelationship.getRole(relationship.getPerson2()));
+        if (!descriptorExists) {
+            throw new IllegalValueException("Invalid role-based relationship descriptor "
+                    + relationship.getRelationshipDescriptor() + " found");
+        }
+    }
+
+    private void handleSiblingRelationship(Relationship relationship) throws IllegalValueException {
+        SiblingRelationship siblingRelationship = (SiblingRelationship) relationship;
+        UUID person1Uuid = siblingRelationship.getPerson1();
+        UUID person2Uuid = siblingRelationship.getPerson2();
+        String uuid1 = person1Uuid.toString();
+        String uuid2 = person2Uuid.toString();
+        String rolePerson1 = siblingRelationship.getRole(person1Uuid);
+        String rolePerson2 = siblingRelationship.getRole(person2Uuid);
+
+        String person1Gender = rolePerson1.equals("brother") ? "male" : "female";
+        String person2Gender = rolePerson2.equals("brother") ? "male" : "female";
+
+        checkGenderConsistency(person1Uuid, person1Gender);
+        checkGenderConsistency(person2Uuid, person2Gender);
+
+        personGenders.put(person1Uuid, person1Gender);
+        personGenders.put(person2Uuid, person2Gender);
+        checkGenderMatch(rolePerson1, uuid1);
+        checkGenderMatch(rolePerson2, uuid2);
+    }
+
+    private void handleSpousesRelationship(Relationship relationship) throws IllegalValueException {
+        SpousesRelationship spousesRelationship = (SpousesRelationship) relationship;
+        UUID person1Uuid = spousesRelationship.getPerson1();
+        UUID person2Uuid = spousesRelationship.getPerson2();
+        String uuid1 = person1Uuid.toString();
+        String uuid2 = person2Uuid.toString();
+        String rolePerson1 = spousesRelationship.getRole(person1Uuid);
+        String rolePerson2 = spousesRelationship.getRole(person2Uuid);
+
+        String person1Gender = rolePerson1.equals("husband") ? "male" : "female";
+        String person2Gender = rolePerson2.equals("husband") ? "male" : "female";
+
+        checkGenderConsistency(person1Uuid, person1Gender);
+        checkGenderConsistency(person2Uuid, person2Gender);
+
+        personGenders.put(person1Uuid, person1Gender);
+        personGenders.put(person2Uuid, person2Gender);
+        checkGenderMatch(rolePerson1, uuid1);
+        checkGenderMatch(rolePerson2, uuid2);
+    }
+
+    private void checkGenderConsistency(UUID personUuid, String gender) throws IllegalValueException {
+        if (personGenders.containsKey(personUuid) && !personGenders.get(personUuid).equals(gender)) {
+            throw new IllegalValueException("Inconsistent gender for person with UUID " + personUuid);
+        }
+    }
+
+    private void checkGenderMatch(String role, String uuid) throws IllegalValueException {
+        if (!isCheckingAttributes) {
+            return;
+        }
+        try {
+            addressBook.genderMatch(role, uuid, uuid.substring(uuid.length() - 4));
+        } catch (Exception e) {
+            throw new IllegalValueException(
+                    "Relationship role " + role + " does not match with "
+                            + uuid + "'s sex attribute gender");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.relationship.Relationship;
+
+/**
+ * The data of an address book at the time it was saved, which is only converted to a
+ * {@code JsonSerializableAddressBook} when it is written.
+ * Taking the snapshot only copies references to the attributes and relationships, which are never changed once
+ * created, so it is much cheaper than converting the address book. Persons are changed in place by replacing their
+ * attributes, so the attributes of each person are copied rather than the person.
+ */
+class AddressBookSnapshot {
+
+    private final List<UUID> uuids;
+    private final List<Attribute[]> attributes;
+    private final List<Relationship> relationships;
+    private final ArrayList<String> rolelessDescriptors;
+    private final ArrayList<ArrayList<String>> roleBasedDescriptors;
+
+    /**
+     * Takes a snapshot of {@code source}, which future changes to it will not affect.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        List<Person> persons = source.getPersonList();
+        uuids = new ArrayList<>(persons.size());
+        attributes = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            uuids.add(person.getUuid());
+            attributes.add(person.getAttributesMap().values().toArray(new Attribute[0]));
+        }
+        relationships = new ArrayList<>(source.getRelationshipList());
+        // both are copies of the descriptors of the address book
+        rolelessDescriptors = source.getRelationshipDescriptors().getRolelessDescriptors();
+        roleBasedDescriptors = source.getRelationshipDescriptors().getRoleBasedDescriptors();
+    }
+
+    /**
+     * Converts the snapshot into a {@code JsonSerializableAddressBook} to be written.
+     */
+    JsonSerializableAddressBook toJsonSerializable() {
+        List<JsonAdaptedPersonAttr> persons = new ArrayList<>(uuids.size());
+        for (int i = 0; i < uuids.size(); i++) {
+            List<JsonAdaptedAttribute> personAttributes = new ArrayList<>(attributes.get(i).length);
+            for (Attribute attribute : attributes.get(i)) {
+                personAttributes.add(new JsonAdaptedAttribute(attribute));
+            }
+            persons.add(new JsonAdaptedPersonAttr(uuids.get(i).toString(), personAttributes));
+        }
+        List<JsonAdaptedRelationship> jsonRelationships = new ArrayList<>(relationships.size());
+        for (Relationship relationship : relationships) {
+            jsonRelationships.add(new JsonAdaptedRelationship(relationship));
+        }
+        return new JsonSerializableAddressBook(persons, jsonRelationships,
+                new JsonAdaptedRelationshipDescriptors(rolelessDescriptors, roleBasedDescriptors));
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code JsonAddressBookStorage} that writes the address book to its file on a background thread.
+ * Saves made while a write is in progress are coalesced, so that only the latest address book is written once the
+ * write finishes. A failed write is reported by the next save or flush.
+ */
+public class BackgroundJsonAddressBookStorage extends JsonAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundJsonAddressBookStorage.class);
+
+    // Thread that runs the writes in the background, null until the first write
+    private volatile Thread writerThread;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        return thread;
+    });
+    // Latest address book that has been saved but not yet written, null if there is none
+    private final AtomicReference<AddressBookSnapshot> pendingAddressBook = new AtomicReference<>();
+    // First failed write that has not been reported yet, null if there is none
+    private final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+
+    public BackgroundJsonAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    public BackgroundJsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        super(filePath, isPrettyPrinted);
+    }
+
+    /**
+     * Similar to {@link JsonAddressBookStorage#readAddressBook(Path)}, but waits for pending writes first.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return super.readAddressBook(filePath);
+    }
+
+    /**
+     * Saves {@code addressBook} to be written to the file in the background.
+     * Saves to any other path are written immediately.
+     *
+     * @throws IOException if the previous write to the file failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            flushAddressBook();
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // the snapshot is taken here as the address book may be changed by the next command while being written,
+        // but it is only converted in the background
+        if (pendingAddressBook.getAndSet(new AddressBookSnapshot(addressBook)) == null) {
+            writeInBackground(this::writePendingAddressBook);
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Waits for pending writes, unless called by a write in the background, which runs after all earlier ones.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be written");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Runs {@code write} on the background thread after all earlier writes.
+     * If it fails, the failure is reported by the next save or flush.
+     */
+    protected void writeInBackground(BackgroundWrite write) {
+        writer.execute(() -> {
+            try {
+                write.run();
+            } catch (IOException e) {
+                logger.warning("Failed to write data file " + getAddressBookFilePath() + ": "
+                        + StringUtil.getDetails(e));
+                writeFailure.compareAndSet(null, e);
+            }
+        });
+    }
+
+    private void writePendingAddressBook() throws IOException {
+        AddressBookSnapshot addressBook = pendingAddressBook.getAndSet(null);
+        if (addressBook != null) {
+            writeAddressBook(addressBook.toJsonSerializable(), getAddressBookFilePath());
+        }
+    }
+
+    /**
+     * Throws the first failure of the writes in the background that has not been reported yet, if any.
+     */
+    protected void throwWriteFailure() throws IOException {
+        IOException failure = writeFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * A write to the file system that is run in the background.
+     */
+    @FunctionalInterface
+    protected interface BackgroundWrite {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,496 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import javafx.util.Pair;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.attribute.DateAttribute;
+import seedu.address.model.person.attribute.IntegerAttribute;
+import seedu.address.model.person.attribute.SexAttribute;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.model.person.relationship.RelationshipUtil;
+import seedu.address.model.person.relationship.RoleBasedRelationship;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of the attribute names,
+ * relationship descriptors and roles used in the file, the relationship descriptors, the persons and the
+ * relationships. UUIDs are stored as two longs, strings are stored as their length in bytes followed by their UTF-8
+ * encoding, strings in the table are referred to by their index, and integer, date and sex attribute values are
+ * stored in binary form after a tag giving their type. Each person and relationship is a record prefixed with its
+ * length in bytes, which lets the records be decoded in parallel.
+ * <p>
+ * The address book read from the file is checked against the same data constraints as one read from a JSON file,
+ * and counts and lengths in the file are checked against the number of bytes left in it.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int MAGIC_NUMBER = 0x41425346; // "ABSF"
+    public static final int FORMAT_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final byte TAG_STRING = 0;
+    private static final byte TAG_INTEGER = 1;
+    private static final byte TAG_DATE = 2;
+    private static final byte TAG_SEX = 3;
+    // Index written for the roles of a relationship without roles
+    private static final int NO_ROLE = -1;
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the address book in the file at {@code filePath} is stored in this format, going by the
+     * extension of the file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(read(new DataInputStream(in)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> write(addressBook, new DataOutputStream(out)));
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        // address books are written as soon as they are saved
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        strings.addDescriptorStrings(addressBook.getRelationshipDescriptors());
+        for (Person person : addressBook.getPersonList()) {
+            person.getAttributes().forEach(attribute -> strings.add(attribute.getName()));
+        }
+        addressBook.getRelationshipList().forEach(strings::addRelationshipStrings);
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        writeStrings(strings, out);
+        writeDescriptors(addressBook.getRelationshipDescriptors(), strings, out);
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writePerson(person, strings, record);
+            writeRecord(recordBytes, out);
+        }
+        writeRelationships(addressBook.getRelationshipList(), strings, out);
+        out.flush();
+    }
+
+    static void writeStrings(StringTable strings, DataOutputStream out) throws IOException {
+        out.writeInt(strings.size());
+        for (String string : strings.getStrings()) {
+            writeUtf8(string, out);
+        }
+    }
+
+    /**
+     * Writes {@code string} as its length in bytes followed by its UTF-8 encoding, which unlike
+     * {@link DataOutputStream#writeUTF(String)} does not limit its length.
+     */
+    static void writeUtf8(String string, DataOutputStream out) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static void writeDescriptors(RelationshipUtil descriptors, StringTable strings, DataOutputStream out)
+            throws IOException {
+        out.writeInt(descriptors.getRolelessDescriptors().size());
+        for (String descriptor : descriptors.getRolelessDescriptors()) {
+            out.writeInt(strings.indexOf(descriptor));
+        }
+        out.writeInt(descriptors.getRoleBasedDescriptors().size());
+        for (List<String> descriptor : descriptors.getRoleBasedDescriptors()) {
+            out.writeInt(descriptor.size());
+            for (String part : descriptor) {
+                out.writeInt(strings.indexOf(part));
+            }
+        }
+    }
+
+    /**
+     * Writes the number of {@code relationships} followed by a record for each of them.
+     */
+    static void writeRelationships(List<Relationship> relationships, StringTable strings, DataOutputStream out)
+            throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        out.writeInt(relationships.size());
+        for (Relationship relationship : relationships) {
+            recordBytes.reset();
+            writeRelationship(relationship, strings, record);
+            writeRecord(recordBytes, out);
+        }
+    }
+
+    private static void writeRecord(ByteArrayOutputStream recordBytes, DataOutputStream out) throws IOException {
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+    }
+
+    static void writePerson(Person person, StringTable strings, DataOutputStream out) throws IOException {
+        writeUuid(person.getUuid(), out);
+        Set<Attribute> attributes = person.getAttributes();
+        out.writeInt(attributes.size());
+        for (Attribute attribute : attributes) {
+            out.writeInt(strings.indexOf(attribute.getName()));
+            if (attribute instanceof IntegerAttribute) {
+                out.writeByte(TAG_INTEGER);
+                out.writeInt(((IntegerAttribute) attribute).getValue());
+            } else if (attribute instanceof DateAttribute) {
+                out.writeByte(TAG_DATE);
+                out.writeLong(((DateAttribute) attribute).getValue().toEpochDay());
+            } else if (attribute instanceof SexAttribute) {
+                out.writeByte(TAG_SEX);
+                out.writeByte(((SexAttribute) attribute).getGender().ordinal());
+            } else {
+                out.writeByte(TAG_STRING);
+                writeUtf8(attribute.getValueAsString(), out);
+            }
+        }
+    }
+
+    static void writeRelationship(Relationship relationship, StringTable strings, DataOutputStream out)
+            throws IOException {
+        writeUuid(relationship.getPerson1(), out);
+        writeUuid(relationship.getPerson2(), out);
+        out.writeInt(strings.indexOf(relationship.getRelationshipDescriptor()));
+        if (relationship instanceof RoleBasedRelationship) {
+            RoleBasedRelationship roleBasedRelationship = (RoleBasedRelationship) relationship;
+            out.writeInt(strings.indexOf(roleBasedRelationship.getRoleDescriptor(relationship.getPerson1())));
+            out.writeInt(strings.indexOf(roleBasedRelationship.getRoleDescriptor(relationship.getPerson2())));
+        } else {
+            out.writeInt(NO_ROLE);
+            out.writeInt(NO_ROLE);
+        }
+    }
+
+    static void writeUuid(UUID uuid, DataOutputStream out) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static AddressBook read(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IOException("Not an address book binary file.");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported address book binary format version " + version + ".");
+        }
+        String[] strings = readStrings(in);
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.setRelationshipDescriptors(readDescriptors(in, strings));
+        readRecords(in, strings, BinaryAddressBookStorage::readPerson, assembler::addPerson);
+        readRecords(in, strings, BinaryAddressBookStorage::readRelationship, assembler::addRelationship);
+        return assembler.getAddressBook();
+    }
+
+    static String[] readStrings(DataInputStream in) throws IOException {
+        String[] strings = new String[readCount(in, Integer.BYTES)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readUtf8(in);
+        }
+        return strings;
+    }
+
+    /**
+     * Reads a string written by {@link #writeUtf8(String, DataOutputStream)}.
+     */
+    static String readUtf8(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in, 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static Pair<ArrayList<String>, ArrayList<ArrayList<String>>> readDescriptors(DataInputStream in,
+            String[] strings) throws IOException {
+        ArrayList<String> rolelessDescriptors = new ArrayList<>();
+        for (int i = readCount(in, Integer.BYTES); i > 0; i--) {
+            rolelessDescriptors.add(readString(in, strings));
+        }
+        ArrayList<ArrayList<String>> roleBasedDescriptors = new ArrayList<>();
+        for (int i = readCount(in, Integer.BYTES); i > 0; i--) {
+            ArrayList<String> descriptor = new ArrayList<>();
+            for (int j = readCount(in, Integer.BYTES); j > 0; j--) {
+                descriptor.add(readString(in, strings));
+            }
+            roleBasedDescriptors.add(descriptor);
+        }
+        return new Pair<>(rolelessDescriptors, roleBasedDescriptors);
+    }
+
+    /**
+     * Reads the records of a list of persons or relationships, decoding them in parallel batches with
+     * {@code decoder} and passing the decoded model objects to {@code handler} in order.
+     */
+    static <M> void readRecords(DataInputStream in, String[] strings, RecordDecoder<M> decoder,
+            ParallelRecordConverter.Handler<M> handler) throws IOException, IllegalValueException {
+        ParallelRecordConverter.Conversion<byte[], M> conversion = record -> {
+            try {
+                return decoder.decode(new DataInputStream(new ByteArrayInputStream(record)), strings);
+            } catch (IOException e) {
+                throw new IllegalValueException("Invalid record in binary file: " + e.getMessage(), e);
+            }
+        };
+        List<byte[]> batch = new ArrayList<>();
+        for (int i = readCount(in, Integer.BYTES); i > 0; i--) {
+            byte[] record = new byte[readCount(in, 1)];
+            in.readFully(record);
+            batch.add(record);
+            if (batch.size() == ParallelRecordConverter.BATCH_SIZE) {
+                ParallelRecordConverter.convertEach(batch, conversion, handler);
+                batch.clear();
+            }
+        }
+        ParallelRecordConverter.convertEach(batch, conversion, handler);
+    }
+
+    static Person readPerson(DataInputStream in, String[] strings) throws IOException, IllegalValueException {
+        UUID uuid = readUuid(in);
+        return new Person(uuid, readAttributes(in, strings));
+    }
+
+    /**
+     * Reads the attributes of a person record, after its UUID.
+     */
+    static Attribute[] readAttributes(DataInputStream in, String[] strings) throws IOException, IllegalValueException {
+        // each attribute is at least the index of its name and its tag
+        Attribute[] attributes = new Attribute[readCount(in, Integer.BYTES + 1)];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = readAttribute(in, strings);
+        }
+        return attributes;
+    }
+
+    /**
+     * Reads an attribute, creating the same type of attribute as {@link JsonAdaptedAttribute} would for its name and
+     * value.
+     */
+    private static Attribute readAttribute(DataInputStream in, String[] strings)
+            throws IOException, IllegalValueException {
+        String name = readString(in, strings);
+        String value;
+        byte tag = in.readByte();
+        try {
+            switch (tag) {
+            case TAG_INTEGER:
+                value = Integer.toString(in.readInt());
+                break;
+            case TAG_DATE:
+                value = LocalDate.ofEpochDay(in.readLong()).toString();
+                break;
+            case TAG_SEX:
+                value = SexAttribute.Gender.values()[in.readByte()].toString();
+                break;
+            case TAG_STRING:
+                value = readUtf8(in);
+                break;
+            default:
+                throw new IllegalValueException("Invalid attribute type or value in binary file.");
+            }
+        } catch (DateTimeException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalValueException("Invalid attribute type or value in binary file.", e);
+        }
+        // converted through its JSON version so that it is checked and created in the same way
+        return new JsonAdaptedAttribute(name, value).toModelType();
+    }
+
+    static Relationship readRelationship(DataInputStream in, String[] strings)
+            throws IOException, IllegalValueException {
+        UUID person1 = readUuid(in);
+        UUID person2 = readUuid(in);
+        String descriptor = readString(in, strings);
+        int role1 = in.readInt();
+        int role2 = in.readInt();
+        String rolePerson1 = role1 == NO_ROLE ? null : getString(role1, strings);
+        String rolePerson2 = role2 == NO_ROLE ? null : getString(role2, strings);
+        // converted through its JSON version so that it is checked and created in the same way
+        JsonAdaptedRelationship relationship = new JsonAdaptedRelationship(person1.toString(), person2.toString(),
+                descriptor, rolePerson1, rolePerson2);
+        return relationship.toModelType();
+    }
+
+    static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException {
+        return getString(in.readInt(), strings);
+    }
+
+    private static String getString(int index, String[] strings) throws IOException {
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("Invalid string index " + index + " in binary file.");
+        }
+        return strings[index];
+    }
+
+    /**
+     * Reads the number of items that follow in {@code in}, such as strings or the bytes of a record, each of which
+     * takes up at least {@code minBytesEach} bytes. A count that is negative, or of more items than the bytes left in
+     * {@code in} can hold, is rejected before anything is allocated for it.
+     * The streams read here are over files or byte arrays, whose {@code available()} is the number of bytes left.
+     */
+    static int readCount(DataInputStream in, int minBytesEach) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || (long) count * minBytesEach > in.available()) {
+            throw new EOFException("Invalid count " + count + " in binary file.");
+        }
+        return count;
+    }
+
+    /**
+     * Decodes the model object held in a record.
+     */
+    @FunctionalInterface
+    interface RecordDecoder<M> {
+        M decode(DataInputStream record, String[] strings) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Strings used in a binary file, each of which is referred to by its index in the table.
+     * Strings are only ever added, so their indexes do not change.
+     */
+    static class StringTable {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        StringTable() {}
+
+        /**
+         * Creates a table that starts with {@code strings}, at the same indexes.
+         */
+        StringTable(String[] strings) {
+            for (String string : strings) {
+                add(string);
+            }
+        }
+
+        void add(String string) {
+            if (!indexes.containsKey(string)) {
+                indexes.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        void addDescriptorStrings(RelationshipUtil descriptors) {
+            descriptors.getRolelessDescriptors().forEach(this::add);
+            descriptors.getRoleBasedDescriptors().forEach(descriptor -> descriptor.forEach(this::add));
+        }
+
+        void addRelationshipStrings(Relationship relationship) {
+            add(relationship.getRelationshipDescriptor());
+            if (relationship instanceof RoleBasedRelationship) {
+                RoleBasedRelationship roleBasedRelationship = (RoleBasedRelationship) relationship;
+                add(roleBasedRelationship.getRoleDescriptor(relationship.getPerson1()));
+                add(roleBasedRelationship.getRoleDescriptor(relationship.getPerson2()));
+            }
+        }
+
+        int indexOf(String string) {
+            return indexes.get(string);
+        }
+
+        int size() {
+            return strings.size();
+        }
+
+        List<String> getStrings() {
+            return strings;
+        }
+    }
+}
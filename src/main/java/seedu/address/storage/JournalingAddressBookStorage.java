@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code BackgroundJsonAddressBookStorage} that appends the changes made to the address book since it was last
+ * saved to a journal file next to the data file, instead of rewriting the whole data file.
+ * The journal is replayed over the data file when the address book is read, and is compacted into a new data file
+ * in the background once it grows past a threshold.
+ * The whole address book is written when its changes are not known, such as on the first save of an address book.
+ */
+public class JournalingAddressBookStorage extends BackgroundJsonAddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final long compactionThreshold;
+    // Address book whose changes are being journaled, null if the next save has to write the whole address book
+    private ReadOnlyAddressBook journaledAddressBook;
+    // Modification count of journaledAddressBook when its changes were last journaled
+    private long journaledModificationCount;
+    // Number of characters appended to the journal since it was last emptied
+    private long journalSize;
+    // Whether an append to the journal failed, after which the journal is left alone until it is emptied.
+    // Only used by the writes in the background.
+    private boolean isJournalBroken;
+
+    public JournalingAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that compacts the journal once more than
+     * {@code compactionThreshold} characters have been appended to it.
+     */
+    public JournalingAddressBookStorage(Path filePath, long compactionThreshold) {
+        this(filePath, compactionThreshold, true);
+    }
+
+    /**
+     * Similar to {@link #JournalingAddressBookStorage(Path, long)}, but writes the JSON data of the data file with
+     * line breaks and indentation only if {@code isPrettyPrinted} is true.
+     */
+    public JournalingAddressBookStorage(Path filePath, long compactionThreshold, boolean isPrettyPrinted) {
+        super(filePath, isPrettyPrinted);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJournalFilePath() {
+        return getJournalFilePath(getAddressBookFilePath());
+    }
+
+    private static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Similar to {@link BackgroundJsonAddressBookStorage#readAddressBook(Path)}, but also replays the journal of the
+     * data file over the address book read from it.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = super.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !FileUtil.isFileExists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<AddressBookChange> changes;
+        try {
+            changes = readJournal(journalFilePath);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        if (changes.isEmpty()) {
+            return snapshot;
+        }
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        for (AddressBookChange change : changes) {
+            change.applyTo(addressBook);
+        }
+        logger.info("Replayed " + changes.size() + " changes from " + journalFilePath);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since it was last saved to the journal in the background.
+     * Writes the whole address book instead if these changes are not known.
+     * Saves to any other path are written immediately.
+     *
+     * @throws IOException if an earlier write to the data file or the journal failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<AddressBookChange>> changes = addressBook == journaledAddressBook
+                ? addressBook.getChangesSince(journaledModificationCount)
+                : Optional.empty();
+        if (changes.isPresent()) {
+            appendToJournal(changes.get());
+        } else {
+            // taken here as the address book may be changed by the next command while being written
+            AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+            writeInBackground(() -> writeSnapshot(snapshot.toJsonSerializable()));
+            journalSize = 0;
+        }
+        journaledAddressBook = addressBook;
+        journaledModificationCount = addressBook.getModificationCount();
+
+        try {
+            throwWriteFailure();
+        } catch (IOException e) {
+            // the data file and journal may not hold the address book any more, so write all of it next time
+            journaledAddressBook = null;
+            throw e;
+        }
+    }
+
+    private void appendToJournal(List<AddressBookChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedAddressBookChange(change))).append('\n');
+        }
+        String entries = lines.toString();
+        writeInBackground(() -> appendToJournal(entries));
+        journalSize += entries.length();
+
+        if (journalSize > compactionThreshold) {
+            writeInBackground(this::compactJournal);
+            journalSize = 0;
+        }
+    }
+
+    private void appendToJournal(String entries) throws IOException {
+        if (isJournalBroken) {
+            return;
+        }
+        try {
+            Files.write(getJournalFilePath(), entries.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            isJournalBroken = true;
+            throw e;
+        }
+    }
+
+    private void writeSnapshot(JsonSerializableAddressBook snapshot) throws IOException {
+        try {
+            writeAddressBook(snapshot, getAddressBookFilePath());
+        } catch (IOException e) {
+            // later changes would be journaled against a data file that does not hold them
+            isJournalBroken = true;
+            throw e;
+        }
+        emptyJournal();
+    }
+
+    /**
+     * Replaces the data file with the address book it holds after replaying the journal, and empties the journal.
+     */
+    private void compactJournal() throws IOException {
+        if (isJournalBroken) {
+            return;
+        }
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = readAddressBook(getAddressBookFilePath());
+        } catch (DataLoadingException e) {
+            throw new IOException("Could not compact " + getJournalFilePath(), e);
+        }
+        if (addressBook.isPresent()) {
+            writeSnapshot(new JsonSerializableAddressBook(addressBook.get()));
+            logger.info("Compacted " + getJournalFilePath() + " into " + getAddressBookFilePath());
+        }
+    }
+
+    private void emptyJournal() throws IOException {
+        Files.deleteIfExists(getJournalFilePath());
+        isJournalBroken = false;
+    }
+
+    /**
+     * Returns the changes in the journal file, ignoring a last entry that was not completely written.
+     */
+    private static List<AddressBookChange> readJournal(Path journalFilePath)
+            throws IOException, IllegalValueException {
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        List<AddressBookChange> changes = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                changes.add(JsonUtil.fromJsonString(line, JsonAdaptedAddressBookChange.class).toModelType());
+            } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+                if (i < lines.size() - 1) {
+                    throw new IllegalValueException("Invalid entry on line " + (i + 1) + " of journal", e);
+                }
+                logger.warning("Ignoring incomplete last entry of " + journalFilePath);
+            }
+        }
+        return changes;
+    }
+}
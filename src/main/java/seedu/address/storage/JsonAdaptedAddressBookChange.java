@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ * Only the fields used by the type of the change are written.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedAddressBookChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Invalid %s change in journal.";
+
+    private final String type;
+    private final JsonAdaptedPersonAttr person;
+    private final String personUuid;
+    private final JsonAdaptedAttribute attribute;
+    private final String attributeName;
+    private final JsonAdaptedRelationship relationship;
+    private final String descriptor;
+    private final String role1;
+    private final String role2;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("type") String type,
+                                        @JsonProperty("person") JsonAdaptedPersonAttr person,
+                                        @JsonProperty("personUuid") String personUuid,
+                                        @JsonProperty("attribute") JsonAdaptedAttribute attribute,
+                                        @JsonProperty("attributeName") String attributeName,
+                                        @JsonProperty("relationship") JsonAdaptedRelationship relationship,
+                                        @JsonProperty("descriptor") String descriptor,
+                                        @JsonProperty("role1") String role1,
+                                        @JsonProperty("role2") String role2) {
+        this.type = type;
+        this.person = person;
+        this.personUuid = personUuid;
+        this.attribute = attribute;
+        this.attributeName = attributeName;
+        this.relationship = relationship;
+        this.descriptor = descriptor;
+        this.role1 = role1;
+        this.role2 = role2;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        type = source.getType().name();
+        person = source.getPerson() == null ? null : new JsonAdaptedPersonAttr(source.getPerson());
+        personUuid = source.getPersonUuid() == null ? null : source.getPersonUuid().toString();
+        attribute = source.getAttribute() == null ? null : new JsonAdaptedAttribute(source.getAttribute());
+        attributeName = source.getAttributeName();
+        relationship = source.getRelationship() == null ? null : new JsonAdaptedRelationship(source.getRelationship());
+        descriptor = source.getDescriptor();
+        role1 = source.getRole1();
+        role2 = source.getRole2();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException {
+        AddressBookChange.Type changeType;
+        try {
+            changeType = AddressBookChange.Type.valueOf(String.valueOf(type));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type));
+        }
+
+        switch (changeType) {
+        case ADD_PERSON:
+            return AddressBookChange.addPerson(require(person).toModelType());
+        case SET_PERSON:
+            return AddressBookChange.setPerson(toPersonUuid(), require(person).toModelType());
+        case REMOVE_PERSON:
+            return AddressBookChange.removePerson(toPersonUuid());
+        case UPDATE_ATTRIBUTE:
+            return AddressBookChange.updateAttribute(toPersonUuid(), require(attribute).toModelType());
+        case DELETE_ATTRIBUTE:
+            return AddressBookChange.deleteAttribute(toPersonUuid(), require(attributeName));
+        case ADD_RELATIONSHIP:
+            return AddressBookChange.addRelationship(require(relationship).toModelType());
+        case DELETE_RELATIONSHIP:
+            return AddressBookChange.deleteRelationship(require(relationship).toModelType());
+        case DELETE_RELATIONSHIPS_OF_PERSON:
+            return AddressBookChange.deleteRelationshipsOfPerson(toPersonUuid());
+        case DELETE_RELATION_TYPE:
+            return AddressBookChange.deleteRelationType(require(descriptor));
+        case ADD_ROLELESS_DESCRIPTOR:
+            return AddressBookChange.addRolelessDescriptor(require(descriptor));
+        case ADD_ROLE_BASED_DESCRIPTOR:
+            return AddressBookChange.addRoleBasedDescriptor(require(descriptor), require(role1), require(role2));
+        case RESET_RELATIONSHIP_DESCRIPTORS:
+            return AddressBookChange.resetRelationshipDescriptors();
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type));
+        }
+    }
+
+    /**
+     * Returns {@code field}, which is needed by the type of this change.
+     *
+     * @throws IllegalValueException if {@code field} is missing.
+     */
+    private <T> T require(T field) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type));
+        }
+        return field;
+    }
+
+    private UUID toPersonUuid() throws IllegalValueException {
+        try {
+            return UUID.fromString(require(personUuid));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, type));
+        }
+    }
+}
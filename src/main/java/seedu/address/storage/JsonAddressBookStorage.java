@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,6 +11,8 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.AddressBookFileEvent;
+import seedu.address.commons.jfr.AddressBookFileEvent.Operation;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -22,9 +25,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes the JSON data with line breaks and indentation only if
+     * {@code isPrettyPrinted} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,17 +58,26 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        AddressBookFileEvent event = new AddressBookFileEvent();
+        event.begin();
+        boolean isSuccessful = false;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ReadOnlyAddressBook addressBook = StreamingJsonAddressBookReader.read(filePath);
+            isSuccessful = true;
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            commitFileEvent(event, Operation.READ, filePath, isSuccessful);
         }
     }
 
@@ -74,7 +96,43 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        writeAddressBook(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, streaming it to the file as it is converted.
+     */
+    protected void writeAddressBook(JsonSerializableAddressBook addressBook, Path filePath) throws IOException {
+        AddressBookFileEvent event = new AddressBookFileEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            JsonUtil.saveJsonFile(addressBook, filePath, isPrettyPrinted);
+            isSuccessful = true;
+        } finally {
+            commitFileEvent(event, Operation.WRITE, filePath, isSuccessful);
+        }
+    }
+
+    private static void commitFileEvent(AddressBookFileEvent event, Operation operation, Path filePath,
+            boolean isSuccessful) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        long bytes;
+        try {
+            bytes = Files.size(filePath);
+        } catch (IOException ioe) {
+            bytes = 0;
+        }
+        event.setOperation(operation, filePath, bytes, isSuccessful);
+        event.commit();
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        // address books are written as soon as they are saved
     }
 
 }
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts records read from storage into model objects on the common fork-join pool.
+ * Each record is converted and checked on its own, so the records can be converted in any order, but the results
+ * are handed on and the first failure is reported in the order of the records, as if they had been converted one
+ * after another.
+ */
+class ParallelRecordConverter {
+
+    // Number of records that readers streaming through a file collect before converting them together
+    static final int BATCH_SIZE = 1024;
+    // Batches smaller than this are converted on the calling thread, as splitting them up costs more than it saves
+    static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * Converts a single record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<R, M> {
+        M convert(R record) throws IllegalValueException;
+    }
+
+    /**
+     * Handles a model object converted from a record, such as by checking it against the earlier ones.
+     */
+    @FunctionalInterface
+    interface Handler<M> {
+        void handle(M modelObject) throws IllegalValueException;
+    }
+
+    private ParallelRecordConverter() {}
+
+    /**
+     * Converts {@code records} into model objects in parallel, then passes them to {@code handler} in the order of
+     * the records on the calling thread.
+     *
+     * @throws IllegalValueException if the conversion of a record or the handling of its model object failed,
+     *     for the first such record.
+     */
+    static <R, M> void convertEach(List<R> records, Conversion<R, M> conversion, Handler<M> handler)
+            throws IllegalValueException {
+        int size = records.size();
+        Object[] results = new Object[size];
+        Exception[] failures = new Exception[size];
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                results[i] = conversion.convert(records.get(i));
+            } catch (IllegalValueException | RuntimeException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            throwIfFailed(failures[i]);
+            @SuppressWarnings("unchecked")
+            M result = (M) results[i];
+            handler.handle(result);
+        }
+    }
+
+    private static void throwIfFailed(Exception failure) throws IllegalValueException {
+        if (failure instanceof IllegalValueException) {
+            throw (IllegalValueException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+    }
+}
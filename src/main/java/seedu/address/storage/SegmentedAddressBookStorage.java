@@ -0,0 +1,894 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.storage.BinaryAddressBookStorage.StringTable;
+
+/**
+ * A class to access AddressBook data stored in segments on the hard disk, so that the attributes of each person are
+ * only read when they are first needed, and only the segments holding changed persons are written when the address
+ * book is saved.
+ * <p>
+ * The data file is a small index in the format of {@link BinaryAddressBookStorage}, holding the string table, the
+ * relationship descriptors, the generation of each segment file, the segment and offset of the record of each person,
+ * and the relationships. The person records are held in segment files next to the data file, each holding the
+ * records of up to a fixed number of persons. A save writes a new generation of the segment files holding persons
+ * that were added, changed or removed since the last save, and then replaces the index before deleting the segment
+ * files it replaced. The other segment files are left as they are.
+ * <p>
+ * When the changes made to the address book since it was last saved are known, the index is not replaced. Instead,
+ * an entry holding the new segment generations and strings, the locations of the records in the new segment files,
+ * and the changes to the persons, relationships and relationship descriptors is appended to a journal file next to
+ * the data file, so that the bytes written by a save grow with its changes rather than with the address book. The
+ * journal is compacted into a new index once it grows larger than the index.
+ * <p>
+ * Only the index and the journal are read when the address book is read, and the attributes of each person are read
+ * from their segment the first time they are needed. Relationships are checked as the index is read, but the
+ * relationships in the journal and the attributes of the persons were only checked when they were made.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".seg";
+    public static final int MAGIC_NUMBER = 0x41425347; // "ABSG"
+    public static final int FORMAT_VERSION = 3;
+    public static final int DEFAULT_SEGMENT_SIZE = 4096;
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    // Each journal entry starts with the length and the CRC-32 checksum of the rest of the entry
+    private static final int JOURNAL_ENTRY_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int segmentSize;
+    // Segment files of the data file that the persons read from it load their attributes from, null until the
+    // address book is first read from or saved to the data file
+    private SegmentFiles segmentFiles;
+    // Address book last saved to the data file, whose changes since then are known to be the only ones not saved
+    private ReadOnlyAddressBook savedAddressBook;
+    // Modification count of savedAddressBook when it was last saved
+    private long savedModificationCount;
+    // Size in bytes of the index of the data file when it was last read or written
+    private long indexSize;
+    // Size in bytes of the complete entries in the journal of the data file
+    private long journalSize;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} that writes the records of up to {@code segmentSize} persons to
+     * each segment file.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentSize) {
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns true if the address book in the file at {@code filePath} is stored in this format, going by the
+     * extension of the file.
+     */
+    public static boolean isSegmentedFile(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of segment file {@code segment} of generation {@code generation} of the data file at
+     * {@code filePath}.
+     */
+    static Path getSegmentFilePath(Path filePath, int generation, int segment) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation + "." + segment);
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The attributes of the persons are read right away if {@code filePath} is not the data file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Segmented file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            SegmentFiles files = readHeader(filePath, in);
+            boolean isDataFile = filePath.equals(this.filePath);
+            Person.AttributeLoader attributeLoader = isDataFile ? this::loadAttributes : files::loadAttributes;
+            AddressBook addressBook = readAddressBook(in, files, attributeLoader);
+            long replayedSize = replayJournal(getJournalFilePath(filePath), files, addressBook, attributeLoader);
+            if (isDataFile) {
+                segmentFiles = files;
+                indexSize = Files.size(filePath);
+                journalSize = replayedSize;
+                return Optional.of(addressBook);
+            }
+            for (Person person : addressBook.getPersonList()) {
+                person.getAttributes();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException | UncheckedIOException e) {
+            logger.warning("Error reading from segmented file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to the data file only write the segments holding persons changed since the address book was last read
+     * or saved. The records of unchanged persons are copied from their current segments. If the changes since the
+     * last save are known, they are appended to the journal instead of replacing the index, unless the journal would
+     * grow larger than the index.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isDataFile = filePath.equals(this.filePath);
+        List<AddressBookChange> changes = isDataFile ? getChanges(addressBook) : null;
+        Set<UUID> changedPersons = changes == null ? null : getChangedPersons(changes);
+        SegmentFiles previousFiles = isDataFile ? segmentFiles : null;
+        List<Person> persons = addressBook.getPersonList();
+
+        // strings keep their indexes so that copied records still refer to the right ones
+        StringTable strings = segmentFiles == null ? new StringTable() : new StringTable(segmentFiles.strings);
+        strings.addDescriptorStrings(addressBook.getRelationshipDescriptors());
+        for (Person person : persons) {
+            if (!isUnchanged(person, changedPersons)) {
+                person.getAttributes().forEach(attribute -> strings.add(attribute.getName()));
+            }
+        }
+        addressBook.getRelationshipList().forEach(strings::addRelationshipStrings);
+        if (changes != null) {
+            // relationships deleted since the last save are in the journal entry too
+            for (AddressBookChange change : changes) {
+                if (change.getRelationship() != null) {
+                    strings.addRelationshipStrings(change.getRelationship());
+                }
+            }
+        }
+
+        SegmentFiles files = writeSegments(persons, previousFiles, changedPersons, strings, filePath);
+        byte[] journalEntry = changes == null ? null : toJournalEntry(changes, previousFiles, files);
+        if (journalEntry != null && journalSize + journalEntry.length <= indexSize) {
+            appendToJournal(journalEntry);
+        } else {
+            writeIndex(addressBook, files, filePath);
+        }
+
+        if (isDataFile) {
+            segmentFiles = files;
+            savedAddressBook = addressBook;
+            savedModificationCount = addressBook.getModificationCount();
+            if (previousFiles != null) {
+                previousFiles.deleteReplacedBy(files);
+            }
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        // address books are written as soon as they are saved
+    }
+
+    /**
+     * Returns the changes made to {@code addressBook} since it was last saved to the data file, or null if these
+     * changes are not known.
+     */
+    private List<AddressBookChange> getChanges(ReadOnlyAddressBook addressBook) {
+        if (addressBook != savedAddressBook) {
+            return null;
+        }
+        return addressBook.getChangesSince(savedModificationCount).orElse(null);
+    }
+
+    /**
+     * Returns the UUIDs of the persons added, changed or removed by {@code changes}.
+     */
+    private static Set<UUID> getChangedPersons(List<AddressBookChange> changes) {
+        Set<UUID> changedPersons = new HashSet<>();
+        for (AddressBookChange change : changes) {
+            if (change.getPerson() != null) {
+                changedPersons.add(change.getPerson().getUuid());
+            }
+            if (change.getPersonUuid() != null) {
+                changedPersons.add(change.getPersonUuid());
+            }
+        }
+        return changedPersons;
+    }
+
+    /**
+     * Returns true if the record of {@code person} in the current segment files still holds the person, because its
+     * attributes have not been loaded from them yet, or because it is not one of {@code changedPersons}.
+     */
+    private boolean isUnchanged(Person person, Set<UUID> changedPersons) {
+        if (segmentFiles == null || !segmentFiles.locations.containsKey(person.getUuid())) {
+            return false;
+        }
+        return !person.hasLoadedAttributes() || changedPersons != null && !changedPersons.contains(person.getUuid());
+    }
+
+    /**
+     * Returns the attributes of the person with {@code uuid}, read from the current segment files.
+     */
+    private synchronized Attribute[] loadAttributes(UUID uuid) {
+        return segmentFiles.loadAttributes(uuid);
+    }
+
+    /**
+     * Writes the segment files of the data file at {@code filePath} that hold {@code persons}, replacing only those
+     * of {@code previousFiles} that hold persons who were added, changed or removed since they were written.
+     * All segment files are written if {@code previousFiles} is null.
+     *
+     * @return the segment files holding {@code persons}.
+     */
+    private SegmentFiles writeSegments(List<Person> persons, SegmentFiles previousFiles, Set<UUID> changedPersons,
+            StringTable strings, Path filePath) throws IOException {
+        int generation = previousFiles == null ? 0 : previousFiles.generation + 1;
+        int previousSegmentCount = previousFiles == null ? 0 : previousFiles.segmentGenerations.length;
+
+        // persons stay in their segment, and new persons fill up the last segment before going to new ones
+        List<List<Person>> segments = new ArrayList<>();
+        boolean[] isRewritten = new boolean[previousSegmentCount];
+        int[] previousRecordCounts = new int[previousSegmentCount];
+        for (int segment = 0; segment < previousSegmentCount; segment++) {
+            segments.add(new ArrayList<>());
+        }
+        if (previousFiles != null) {
+            previousFiles.locations.values().forEach(location -> previousRecordCounts[location.segment]++);
+        }
+        List<Person> newPersons = new ArrayList<>();
+        for (Person person : persons) {
+            RecordLocation location = previousFiles == null ? null : previousFiles.locations.get(person.getUuid());
+            if (location == null) {
+                newPersons.add(person);
+                continue;
+            }
+            segments.get(location.segment).add(person);
+            if (!isUnchanged(person, changedPersons)) {
+                isRewritten[location.segment] = true;
+            }
+        }
+        for (Person person : newPersons) {
+            if (segments.isEmpty() || segments.get(segments.size() - 1).size() >= segmentSize) {
+                segments.add(new ArrayList<>());
+            }
+            segments.get(segments.size() - 1).add(person);
+            if (segments.size() <= previousSegmentCount) {
+                isRewritten[segments.size() - 1] = true;
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(filePath.toAbsolutePath());
+        int[] segmentGenerations = new int[segments.size()];
+        Map<UUID, RecordLocation> locations = new HashMap<>();
+        for (int segment = 0; segment < segments.size(); segment++) {
+            List<Person> segmentPersons = segments.get(segment);
+            boolean isKept = segment < previousSegmentCount && !isRewritten[segment]
+                    && segmentPersons.size() == previousRecordCounts[segment];
+            if (isKept) {
+                segmentGenerations[segment] = previousFiles.segmentGenerations[segment];
+                segmentPersons.forEach(person -> locations.put(person.getUuid(),
+                        previousFiles.locations.get(person.getUuid())));
+            } else {
+                segmentGenerations[segment] = generation;
+                Path segmentPath = getSegmentFilePath(filePath, generation, segment);
+                writeSegment(segmentPersons, changedPersons, strings, segmentPath, segment, locations);
+            }
+        }
+        UUID indexUuid = previousFiles == null ? null : previousFiles.indexUuid;
+        return new SegmentFiles(filePath, indexUuid, generation, segmentGenerations,
+                strings.getStrings().toArray(new String[0]), locations);
+    }
+
+    /**
+     * Writes the records of {@code persons} to the segment file at {@code segmentPath}, noting down the location of
+     * each record in {@code locations}.
+     */
+    private void writeSegment(List<Person> persons, Set<UUID> changedPersons, StringTable strings, Path segmentPath,
+            int segment, Map<UUID, RecordLocation> locations) throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        // segments of the current segment files are read whole, as most records of a segment are copied together
+        Map<Integer, byte[]> currentSegments = new HashMap<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                segmentPath)))) {
+            int offset = 0;
+            for (Person person : persons) {
+                if (isUnchanged(person, changedPersons)) {
+                    RecordLocation location = segmentFiles.locations.get(person.getUuid());
+                    byte[] currentSegment = currentSegments.get(location.segment);
+                    if (currentSegment == null) {
+                        currentSegment = segmentFiles.readSegment(location.segment);
+                        currentSegments.put(location.segment, currentSegment);
+                    }
+                    if (location.offset + location.length > currentSegment.length) {
+                        throw new IOException("Record of " + person.getUuid() + " is cut short in segment "
+                                + location.segment);
+                    }
+                    out.write(currentSegment, location.offset, location.length);
+                    locations.put(person.getUuid(), new RecordLocation(segment, offset, location.length));
+                    offset += location.length;
+                } else {
+                    recordBytes.reset();
+                    BinaryAddressBookStorage.writePerson(person, strings, record);
+                    recordBytes.writeTo(out);
+                    locations.put(person.getUuid(), new RecordLocation(segment, offset, recordBytes.size()));
+                    offset += recordBytes.size();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the index of the data file at {@code filePath} with a new one for {@code files}, and deletes its
+     * journal, whose entries only follow the index they were appended to.
+     */
+    private void writeIndex(ReadOnlyAddressBook addressBook, SegmentFiles files, Path filePath) throws IOException {
+        files.indexUuid = UUID.randomUUID();
+        FileUtil.writeToFileAtomically(filePath, out -> writeIndex(addressBook, files, new DataOutputStream(out)));
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            Files.deleteIfExists(journalFilePath);
+        } catch (IOException e) {
+            // the entries left in the journal are skipped when it is read, and overwritten by the next append
+            logger.warning("Failed to delete " + journalFilePath + ": " + e);
+        }
+        if (filePath.equals(this.filePath)) {
+            indexSize = Files.size(filePath);
+            journalSize = 0;
+        }
+    }
+
+    private static void writeIndex(ReadOnlyAddressBook addressBook, SegmentFiles files, DataOutputStream out)
+            throws IOException {
+        StringTable strings = new StringTable(files.strings);
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        BinaryAddressBookStorage.writeUuid(files.indexUuid, out);
+        out.writeInt(files.generation);
+        out.writeInt(files.segmentGenerations.length);
+        for (int segmentGeneration : files.segmentGenerations) {
+            out.writeInt(segmentGeneration);
+        }
+        BinaryAddressBookStorage.writeStrings(strings, out);
+        BinaryAddressBookStorage.writeDescriptors(addressBook.getRelationshipDescriptors(), strings, out);
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writeLocation(person.getUuid(), files.locations.get(person.getUuid()), out);
+        }
+        BinaryAddressBookStorage.writeRelationships(addressBook.getRelationshipList(), strings, out);
+        out.flush();
+    }
+
+    /**
+     * Returns the journal entry that brings the index and journal holding {@code previousFiles} to {@code files}
+     * and the address book after {@code changes}.
+     */
+    private static byte[] toJournalEntry(List<AddressBookChange> changes, SegmentFiles previousFiles,
+            SegmentFiles files) throws IOException {
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+        DataOutputStream entry = new DataOutputStream(entryBytes);
+        BinaryAddressBookStorage.writeUuid(previousFiles.indexUuid, entry);
+        entry.writeInt(files.generation);
+
+        entry.writeInt(files.segmentGenerations.length);
+        List<Integer> writtenSegments = new ArrayList<>();
+        for (int segment = 0; segment < files.segmentGenerations.length; segment++) {
+            if (files.segmentGenerations[segment] == files.generation) {
+                writtenSegments.add(segment);
+            }
+        }
+        entry.writeInt(writtenSegments.size());
+        for (int segment : writtenSegments) {
+            entry.writeInt(segment);
+            entry.writeInt(files.generation);
+        }
+
+        // strings are only ever added to the end of the table
+        entry.writeInt(files.strings.length - previousFiles.strings.length);
+        for (int i = previousFiles.strings.length; i < files.strings.length; i++) {
+            BinaryAddressBookStorage.writeUtf8(files.strings[i], entry);
+        }
+
+        // only records in the segments written by this save can have moved
+        List<Map.Entry<UUID, RecordLocation>> movedRecords = new ArrayList<>();
+        for (Map.Entry<UUID, RecordLocation> location : files.locations.entrySet()) {
+            if (files.segmentGenerations[location.getValue().segment] == files.generation
+                    && !location.getValue().equals(previousFiles.locations.get(location.getKey()))) {
+                movedRecords.add(location);
+            }
+        }
+        entry.writeInt(movedRecords.size());
+        for (Map.Entry<UUID, RecordLocation> location : movedRecords) {
+            writeLocation(location.getKey(), location.getValue(), entry);
+        }
+
+        StringTable strings = new StringTable(files.strings);
+        List<AddressBookChange> journaledChanges = new ArrayList<>();
+        for (AddressBookChange change : changes) {
+            // the new attributes of the person are in their new record
+            if (change.getType() != AddressBookChange.Type.UPDATE_ATTRIBUTE
+                    && change.getType() != AddressBookChange.Type.DELETE_ATTRIBUTE) {
+                journaledChanges.add(change);
+            }
+        }
+        entry.writeInt(journaledChanges.size());
+        for (AddressBookChange change : journaledChanges) {
+            writeChange(change, strings, entry);
+        }
+        entry.flush();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(entryBytes.toByteArray());
+        ByteBuffer journalEntry = ByteBuffer.allocate(JOURNAL_ENTRY_HEADER_BYTES + entryBytes.size());
+        journalEntry.putInt(entryBytes.size());
+        journalEntry.putInt((int) checksum.getValue());
+        journalEntry.put(entryBytes.toByteArray());
+        return journalEntry.array();
+    }
+
+    /**
+     * Writes {@code change}, whose person is written as their UUID as their attributes are in their record.
+     */
+    private static void writeChange(AddressBookChange change, StringTable strings, DataOutputStream out)
+            throws IOException {
+        out.writeByte(change.getType().ordinal());
+        switch (change.getType()) {
+        case ADD_PERSON:
+            BinaryAddressBookStorage.writeUuid(change.getPerson().getUuid(), out);
+            break;
+        case SET_PERSON:
+            BinaryAddressBookStorage.writeUuid(change.getPersonUuid(), out);
+            BinaryAddressBookStorage.writeUuid(change.getPerson().getUuid(), out);
+            break;
+        case REMOVE_PERSON:
+        case DELETE_RELATIONSHIPS_OF_PERSON:
+            BinaryAddressBookStorage.writeUuid(change.getPersonUuid(), out);
+            break;
+        case ADD_RELATIONSHIP:
+        case DELETE_RELATIONSHIP:
+            BinaryAddressBookStorage.writeRelationship(change.getRelationship(), strings, out);
+            break;
+        case DELETE_RELATION_TYPE:
+        case ADD_ROLELESS_DESCRIPTOR:
+            BinaryAddressBookStorage.writeUtf8(change.getDescriptor(), out);
+            break;
+        case ADD_ROLE_BASED_DESCRIPTOR:
+            BinaryAddressBookStorage.writeUtf8(change.getDescriptor(), out);
+            BinaryAddressBookStorage.writeUtf8(change.getRole1(), out);
+            BinaryAddressBookStorage.writeUtf8(change.getRole2(), out);
+            break;
+        case RESET_RELATIONSHIP_DESCRIPTORS:
+            break;
+        default:
+            throw new IllegalStateException("Change cannot be journaled: " + change.getType());
+        }
+    }
+
+    /**
+     * Reads a change written by {@link #writeChange}, creating persons that load their attributes with
+     * {@code attributeLoader}.
+     */
+    private static AddressBookChange readChange(DataInputStream in, String[] strings,
+            Person.AttributeLoader attributeLoader) throws IOException, IllegalValueException {
+        int typeIndex = in.readUnsignedByte();
+        AddressBookChange.Type[] types = AddressBookChange.Type.values();
+        if (typeIndex >= types.length) {
+            throw new IOException("Invalid change type " + typeIndex + " in journal.");
+        }
+        switch (types[typeIndex]) {
+        case ADD_PERSON:
+            return AddressBookChange.addPerson(new Person(BinaryAddressBookStorage.readUuid(in), attributeLoader));
+        case SET_PERSON:
+            UUID targetUuid = BinaryAddressBookStorage.readUuid(in);
+            Person editedPerson = new Person(BinaryAddressBookStorage.readUuid(in), attributeLoader);
+            return AddressBookChange.setPerson(targetUuid, editedPerson);
+        case REMOVE_PERSON:
+            return AddressBookChange.removePerson(BinaryAddressBookStorage.readUuid(in));
+        case DELETE_RELATIONSHIPS_OF_PERSON:
+            return AddressBookChange.deleteRelationshipsOfPerson(BinaryAddressBookStorage.readUuid(in));
+        case ADD_RELATIONSHIP:
+            return AddressBookChange.addRelationship(BinaryAddressBookStorage.readRelationship(in, strings));
+        case DELETE_RELATIONSHIP:
+            Relationship relationship = BinaryAddressBookStorage.readRelationship(in, strings);
+            return AddressBookChange.deleteRelationship(relationship);
+        case DELETE_RELATION_TYPE:
+            return AddressBookChange.deleteRelationType(BinaryAddressBookStorage.readUtf8(in));
+        case ADD_ROLELESS_DESCRIPTOR:
+            return AddressBookChange.addRolelessDescriptor(BinaryAddressBookStorage.readUtf8(in));
+        case ADD_ROLE_BASED_DESCRIPTOR:
+            String descriptor = BinaryAddressBookStorage.readUtf8(in);
+            String role1 = BinaryAddressBookStorage.readUtf8(in);
+            String role2 = BinaryAddressBookStorage.readUtf8(in);
+            return AddressBookChange.addRoleBasedDescriptor(descriptor, role1, role2);
+        case RESET_RELATIONSHIP_DESCRIPTORS:
+            return AddressBookChange.resetRelationshipDescriptors();
+        default:
+            throw new IOException("Change type " + types[typeIndex] + " cannot be in journal.");
+        }
+    }
+
+    /**
+     * Appends {@code journalEntry} to the journal of the data file, after the complete entries already in it.
+     */
+    private void appendToJournal(byte[] journalEntry) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            // drops what an earlier append that failed partway wrote
+            channel.truncate(journalSize);
+            ByteBuffer buffer = ByteBuffer.wrap(journalEntry);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, journalSize + buffer.position());
+            }
+        }
+        journalSize += journalEntry.length;
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} that follow the index read into {@code files}
+     * and {@code addressBook}, ignoring a last entry that was not completely written.
+     *
+     * @return the size in bytes of the complete entries in the journal.
+     */
+    private static long replayJournal(Path journalFilePath, SegmentFiles files, AddressBook addressBook,
+            Person.AttributeLoader attributeLoader) throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        ByteBuffer entries = ByteBuffer.wrap(journal);
+        int replayedCount = 0;
+        int completeSize = 0;
+        while (entries.remaining() >= JOURNAL_ENTRY_HEADER_BYTES) {
+            int length = entries.getInt();
+            int expectedChecksum = entries.getInt();
+            if (length < 0 || length > entries.remaining()) {
+                break;
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(journal, entries.position(), length);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                if (entries.position() + length == journal.length) {
+                    break;
+                }
+                throw new IOException("Corrupted entry at byte " + completeSize + " of " + journalFilePath);
+            }
+            DataInputStream entry = new DataInputStream(new ByteArrayInputStream(journal, entries.position(),
+                    length));
+            if (replayJournalEntry(entry, files, addressBook, attributeLoader)) {
+                replayedCount++;
+            }
+            entries.position(entries.position() + length);
+            completeSize = entries.position();
+        }
+        if (completeSize < journal.length) {
+            logger.warning("Ignoring incomplete last entry of " + journalFilePath);
+        }
+
+        Set<UUID> removedPersons = new HashSet<>(files.locations.keySet());
+        for (Person person : addressBook.getPersonList()) {
+            if (!removedPersons.remove(person.getUuid())) {
+                throw new IOException("No record of " + person.getUuid() + " in " + journalFilePath);
+            }
+        }
+        files.locations.keySet().removeAll(removedPersons);
+        logger.info("Replayed " + replayedCount + " entries from " + journalFilePath);
+        return completeSize;
+    }
+
+    /**
+     * Applies the journal entry in {@code in} to {@code files} and {@code addressBook} if it follows their index.
+     *
+     * @return true if the entry was applied.
+     */
+    private static boolean replayJournalEntry(DataInputStream in, SegmentFiles files, AddressBook addressBook,
+            Person.AttributeLoader attributeLoader) throws IOException, IllegalValueException {
+        if (!BinaryAddressBookStorage.readUuid(in).equals(files.indexUuid)) {
+            return false;
+        }
+        int generation = in.readInt();
+        if (generation <= files.generation) {
+            throw new IOException("Journal entry of generation " + generation + " is out of order.");
+        }
+        int segmentCount = in.readInt();
+        if (segmentCount < files.segmentGenerations.length) {
+            throw new IOException("Invalid segment count " + segmentCount + " in journal.");
+        }
+        int[] segmentGenerations = Arrays.copyOf(files.segmentGenerations, segmentCount);
+        for (int i = BinaryAddressBookStorage.readCount(in, 2 * Integer.BYTES); i > 0; i--) {
+            int segment = in.readInt();
+            int segmentGeneration = in.readInt();
+            if (segment < 0 || segment >= segmentCount || segmentGeneration != generation) {
+                throw new IOException("Invalid generation of segment " + segment + " in journal.");
+            }
+            segmentGenerations[segment] = segmentGeneration;
+        }
+        String[] newStrings = BinaryAddressBookStorage.readStrings(in);
+        String[] strings = Arrays.copyOf(files.strings, files.strings.length + newStrings.length);
+        System.arraycopy(newStrings, 0, strings, files.strings.length, newStrings.length);
+
+        files.generation = generation;
+        files.segmentGenerations = segmentGenerations;
+        files.strings = strings;
+        for (int i = BinaryAddressBookStorage.readCount(in, 2 * Long.BYTES + 3 * Integer.BYTES); i > 0; i--) {
+            readLocation(in, files);
+        }
+        for (int i = BinaryAddressBookStorage.readCount(in, 1); i > 0; i--) {
+            readChange(in, files.strings, attributeLoader).applyTo(addressBook);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the index of the data file at {@code filePath} from {@code in} up to the relationship descriptors.
+     */
+    private static SegmentFiles readHeader(Path filePath, DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IOException("Not a segmented address book file.");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported segmented address book format version " + version + ".");
+        }
+        UUID indexUuid = BinaryAddressBookStorage.readUuid(in);
+        int generation = in.readInt();
+        int[] segmentGenerations = new int[BinaryAddressBookStorage.readCount(in, Integer.BYTES)];
+        for (int segment = 0; segment < segmentGenerations.length; segment++) {
+            segmentGenerations[segment] = in.readInt();
+            if (segmentGenerations[segment] < 0 || segmentGenerations[segment] > generation) {
+                throw new IOException("Invalid generation of segment " + segment + " in segmented file.");
+            }
+        }
+        String[] strings = BinaryAddressBookStorage.readStrings(in);
+        return new SegmentFiles(filePath, indexUuid, generation, segmentGenerations, strings, new HashMap<>());
+    }
+
+    /**
+     * Reads the rest of the index in {@code in}, creating persons that load their attributes with
+     * {@code attributeLoader} and noting down the location of their records in {@code files}.
+     */
+    private static AddressBook readAddressBook(DataInputStream in, SegmentFiles files,
+            Person.AttributeLoader attributeLoader) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler(false);
+        assembler.setRelationshipDescriptors(BinaryAddressBookStorage.readDescriptors(in, files.strings));
+        // each person is a UUID followed by the segment, offset and length of their record
+        for (int i = BinaryAddressBookStorage.readCount(in, 2 * Long.BYTES + 3 * Integer.BYTES); i > 0; i--) {
+            assembler.addPerson(new Person(readLocation(in, files), attributeLoader));
+        }
+        BinaryAddressBookStorage.readRecords(in, files.strings, BinaryAddressBookStorage::readRelationship,
+                assembler::addRelationship);
+        return assembler.getAddressBook();
+    }
+
+    private static void writeLocation(UUID uuid, RecordLocation location, DataOutputStream out) throws IOException {
+        BinaryAddressBookStorage.writeUuid(uuid, out);
+        out.writeInt(location.segment);
+        out.writeInt(location.offset);
+        out.writeInt(location.length);
+    }
+
+    /**
+     * Reads the UUID of a person and the location of their record, noting down the location in {@code files}.
+     *
+     * @return the UUID of the person.
+     */
+    private static UUID readLocation(DataInputStream in, SegmentFiles files) throws IOException {
+        UUID uuid = BinaryAddressBookStorage.readUuid(in);
+        int segment = in.readInt();
+        int offset = in.readInt();
+        int length = in.readInt();
+        if (segment < 0 || segment >= files.segmentGenerations.length || offset < 0 || length < 0) {
+            throw new IOException("Invalid location of the record of " + uuid + " in segmented file.");
+        }
+        files.locations.put(uuid, new RecordLocation(segment, offset, length));
+        return uuid;
+    }
+
+    /**
+     * Location of the record of a person in the segment files.
+     */
+    private static class RecordLocation {
+        private final int segment;
+        private final int offset;
+        private final int length;
+
+        RecordLocation(int segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof RecordLocation)) {
+                return false;
+            }
+            RecordLocation otherLocation = (RecordLocation) other;
+            return segment == otherLocation.segment && offset == otherLocation.offset
+                    && length == otherLocation.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(segment, offset, length);
+        }
+    }
+
+    /**
+     * The segment files of a data file, together with the string table and the record locations that the index and
+     * journal of the data file give for them.
+     */
+    private static class SegmentFiles {
+        private final Path filePath;
+        // Identifies the index that the journal entries for these files follow, null until the index is written
+        private UUID indexUuid;
+        // Generation of the index and journal, which is the newest generation of its segment files
+        private int generation;
+        private int[] segmentGenerations;
+        private String[] strings;
+        private final Map<UUID, RecordLocation> locations;
+
+        SegmentFiles(Path filePath, UUID indexUuid, int generation, int[] segmentGenerations, String[] strings,
+                Map<UUID, RecordLocation> locations) {
+            this.filePath = filePath;
+            this.indexUuid = indexUuid;
+            this.generation = generation;
+            this.segmentGenerations = segmentGenerations;
+            this.strings = strings;
+            this.locations = locations;
+        }
+
+        Path getSegmentPath(int segment) {
+            return getSegmentFilePath(filePath, segmentGenerations[segment], segment);
+        }
+
+        /**
+         * Returns the bytes of segment file {@code segment}.
+         */
+        byte[] readSegment(int segment) throws IOException {
+            return Files.readAllBytes(getSegmentPath(segment));
+        }
+
+        /**
+         * Returns the bytes of the record of the person with {@code uuid}.
+         */
+        byte[] readRecord(UUID uuid) throws IOException {
+            RecordLocation location = locations.get(uuid);
+            if (location == null) {
+                throw new IOException("No record of " + uuid + " in " + filePath);
+            }
+            Path segmentPath = getSegmentPath(location.segment);
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+                if ((long) location.offset + location.length > channel.size()) {
+                    throw new IOException("Record of " + uuid + " is cut short in " + segmentPath);
+                }
+                ByteBuffer buffer = ByteBuffer.allocate(location.length);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, location.offset + buffer.position()) < 0) {
+                        throw new IOException("Record of " + uuid + " is cut short in " + segmentPath);
+                    }
+                }
+                return buffer.array();
+            }
+        }
+
+        /**
+         * Returns the attributes in the record of the person with {@code uuid}.
+         *
+         * @throws UncheckedIOException if the record could not be read or holds invalid attributes.
+         */
+        Attribute[] loadAttributes(UUID uuid) {
+            try {
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(readRecord(uuid)));
+                if (!BinaryAddressBookStorage.readUuid(record).equals(uuid)) {
+                    throw new IOException("Record of " + uuid + " holds another person in " + filePath);
+                }
+                return BinaryAddressBookStorage.readAttributes(record, strings);
+            } catch (IOException e) {
+                logger.warning("Failed to load the attributes of " + uuid + ": " + e);
+                throw new UncheckedIOException(e);
+            } catch (IllegalValueException e) {
+                logger.warning("Failed to load the attributes of " + uuid + ": " + e);
+                throw new UncheckedIOException(new IOException(e.getMessage(), e));
+            }
+        }
+
+        /**
+         * Deletes the segment files that {@code newFiles} holds a newer generation of.
+         */
+        void deleteReplacedBy(SegmentFiles newFiles) {
+            for (int segment = 0; segment < segmentGenerations.length; segment++) {
+                boolean isReplaced = segment >= newFiles.segmentGenerations.length
+                        || newFiles.segmentGenerations[segment] != segmentGenerations[segment];
+                if (!isReplaced) {
+                    continue;
+                }
+                Path segmentPath = getSegmentPath(segment);
+                try {
+                    Files.deleteIfExists(segmentPath);
+                } catch (IOException e) {
+                    logger.warning("Failed to delete " + segmentPath + ": " + e);
+                }
+            }
+        }
+    }
+}
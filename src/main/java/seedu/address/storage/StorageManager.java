@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -28,6 +29,23 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the storage for the address book at {@code addressBookFilePath}, in the format given by the extension
+     * of the file, set up as {@code config} says.
+     */
+    public static AddressBookStorage createAddressBookStorage(Path addressBookFilePath, Config config) {
+        if (BinaryAddressBookStorage.isBinaryFile(addressBookFilePath)) {
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        }
+        if (SegmentedAddressBookStorage.isSegmentedFile(addressBookFilePath)) {
+            return new SegmentedAddressBookStorage(addressBookFilePath);
+        }
+        return config.isAddressBookJournalEnabled()
+                ? new JournalingAddressBookStorage(addressBookFilePath,
+                        JournalingAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, config.isAddressBookPrettyPrinted())
+                : new BackgroundJsonAddressBookStorage(addressBookFilePath, config.isAddressBookPrettyPrinted());
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -75,4 +93,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+    }
+
 }
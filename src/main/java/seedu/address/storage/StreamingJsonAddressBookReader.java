@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.relationship.Relationship;
+
+/**
+ * Reads an address book saved by {@link JsonSerializableAddressBook} by streaming through its JSON data.
+ * Persons and relationships are converted into the model in parallel batches as soon as a batch has been read,
+ * so that no other copy of the address book is kept in memory while it is read.
+ * Relationships that come before the persons or the relationship descriptors in the file are held back until both
+ * have been read. Files without relationship descriptors use the default ones.
+ */
+class StreamingJsonAddressBookReader {
+
+    public static final String MESSAGE_MISSING_PERSONS = "Persons are missing in JSON.";
+
+    private final AddressBookAssembler assembler = new AddressBookAssembler();
+    private final List<Relationship> heldBackRelationships = new ArrayList<>();
+    private boolean hasReadPersons = false;
+    private boolean hasReadDescriptors = false;
+
+    private StreamingJsonAddressBookReader() {}
+
+    /**
+     * Returns the address book in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return new StreamingJsonAddressBookReader().readAddressBook(parser);
+        }
+    }
+
+    private AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT, parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                readPersons(parser, value);
+                break;
+            case "relationshipDescriptors":
+                readDescriptors(parser, value);
+                break;
+            case "relationships":
+                readRelationships(parser, value);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasReadPersons) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        // the default relationship descriptors are used if the file has none
+        hasReadDescriptors = true;
+        addHeldBackRelationships();
+        return assembler.getAddressBook();
+    }
+
+    private void readPersons(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        expect(value, JsonToken.START_ARRAY, parser);
+        List<JsonAdaptedPersonAttr> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPersonAttr.class));
+            if (batch.size() == ParallelRecordConverter.BATCH_SIZE) {
+                ParallelRecordConverter.convertEach(batch, StreamingJsonAddressBookReader::toPerson,
+                        assembler::addPerson);
+                batch.clear();
+            }
+        }
+        ParallelRecordConverter.convertEach(batch, StreamingJsonAddressBookReader::toPerson, assembler::addPerson);
+        hasReadPersons = true;
+        addHeldBackRelationships();
+    }
+
+    private void readDescriptors(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        assembler.setRelationshipDescriptors(parser.readValueAs(JsonAdaptedRelationshipDescriptors.class)
+                .toModelType());
+        hasReadDescriptors = true;
+        addHeldBackRelationships();
+    }
+
+    private void readRelationships(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(value, JsonToken.START_ARRAY, parser);
+        List<JsonAdaptedRelationship> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedRelationship.class));
+            if (batch.size() == ParallelRecordConverter.BATCH_SIZE) {
+                ParallelRecordConverter.convertEach(batch, StreamingJsonAddressBookReader::toRelationship,
+                        this::addRelationship);
+                batch.clear();
+            }
+        }
+        ParallelRecordConverter.convertEach(batch, StreamingJsonAddressBookReader::toRelationship,
+                this::addRelationship);
+    }
+
+    private void addRelationship(Relationship relationship) throws IllegalValueException {
+        if (hasReadPersons && hasReadDescriptors) {
+            assembler.addRelationship(relationship);
+        } else {
+            heldBackRelationships.add(relationship);
+        }
+    }
+
+    private void addHeldBackRelationships() throws IllegalValueException {
+        if (!hasReadPersons || !hasReadDescriptors) {
+            return;
+        }
+        for (Relationship relationship : heldBackRelationships) {
+            assembler.addRelationship(relationship);
+        }
+        heldBackRelationships.clear();
+    }
+
+    private static Person toPerson(JsonAdaptedPersonAttr person) throws IllegalValueException {
+        try {
+            return person.toModelType();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static Relationship toRelationship(JsonAdaptedRelationship relationship) throws IllegalValueException {
+        try {
+            return relationship.toModelType();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, JsonParser parser) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at "
+                    + parser.getCurrentLocation());
+        }
+    }
+}
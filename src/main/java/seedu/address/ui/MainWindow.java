@@ -37,6 +37,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private boolean isCommandStatsShown;
 
     // Independent Ui parts residing in this Ui container
     private DisplaySection displaySection;
@@ -61,14 +62,16 @@ public class MainWindow extends UiPart<Stage> {
     private VBox commandSectionPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose status bar shows how long each
+     * command took if {@code isCommandStatsShown}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, boolean isCommandStatsShown) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.isCommandStatsShown = isCommandStatsShown;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -127,6 +130,10 @@ public class MainWindow extends UiPart<Stage> {
         commandSectionPlaceholder.getChildren().add(new CommandSection(this::executeCommand).getRoot());
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (isCommandStatsShown) {
+            logic.addCommandListener(timing -> logic.getCommandMetrics().getStats(timing.getCommandWord())
+                    .ifPresent(stats -> statusBarFooter.showCommandStats(timing, stats)));
+        }
         displayAllContactsSection(logic.getFilteredPersonList(), logic.getRelationshipList());
     }
     /**
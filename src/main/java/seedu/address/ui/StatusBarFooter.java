@@ -6,6 +6,9 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.logic.CommandTiming;
+import seedu.address.logic.CommandTiming.Phase;
+import seedu.address.logic.metrics.CommandStats;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,6 +20,9 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label commandStatsStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +31,17 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows how long the command of {@code timing} took, next to the 95th percentile latency of the commands with the
+     * same command word in {@code stats}.
+     */
+    public void showCommandStats(CommandTiming timing, CommandStats stats) {
+        commandStatsStatus.setText(String.format("%s: %s (parse %s, execute %s, save %s), p95 %s over %d",
+                timing.getCommandWord(), CommandStats.formatMillis(timing.getTotalNanos()),
+                CommandStats.formatMillis(timing.getParseNanos()), CommandStats.formatMillis(timing.getExecuteNanos()),
+                CommandStats.formatMillis(timing.getSaveNanos()),
+                CommandStats.formatMillis(stats.getLatencies(Phase.TOTAL).getPercentile(95)),
+                stats.getCommandCount()));
+        commandStatsStatus.setVisible(true);
+    }
 }
@@ -23,13 +23,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/genie_32x32.png";
 
     private Logic logic;
+    private boolean isCommandStatsShown;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose status bar shows how long each command took if
+     * {@code isCommandStatsShown}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, boolean isCommandStatsShown) {
         this.logic = logic;
+        this.isCommandStatsShown = isCommandStatsShown;
     }
 
     @Override
@@ -40,7 +43,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, isCommandStatsShown);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
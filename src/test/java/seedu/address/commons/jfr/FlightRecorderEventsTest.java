@@ -0,0 +1,148 @@
+package seedu.address.commons.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.Config;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.model.person.relationship.RelationshipUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class FlightRecorderEventsTest {
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CHARLIE = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        FlightRecorderEvents.setEnabled(false);
+    }
+
+    @Test
+    public void init_enabledInConfig_eventsRecorded() throws Exception {
+        Config config = new Config();
+        config.setFlightRecorderEventsEnabled(true);
+        FlightRecorderEvents.init(config);
+
+        List<RecordedEvent> events = record(this::runCommandsAndSearches);
+
+        List<RecordedEvent> commandEvents = getEvents(events, CommandEvent.class);
+        assertEquals(2, commandEvents.size());
+        assertEquals("add", commandEvents.get(0).getString("commandWord"));
+        assertTrue(commandEvents.get(0).getBoolean("isSuccessful"));
+        assertEquals("unknowncommand", commandEvents.get(1).getString("commandWord"));
+        assertFalse(commandEvents.get(1).getBoolean("isSuccessful"));
+
+        List<RecordedEvent> searchEvents = getEvents(events, RelationshipSearchEvent.class);
+        assertEquals(2, searchEvents.size());
+        RecordedEvent searchEvent = searchEvents.get(0);
+        assertEquals(ALICE.toString(), searchEvent.getString("origin"));
+        assertEquals(CHARLIE.toString(), searchEvent.getString("target"));
+        assertFalse(searchEvent.getBoolean("isBidirectional"));
+        assertEquals(2, searchEvent.getInt("expandedCount"));
+        assertEquals(2, searchEvent.getInt("pathLength"));
+        assertTrue(searchEvents.get(1).getBoolean("isFamilyOnly"));
+        assertEquals(-1, searchEvents.get(1).getInt("pathLength"));
+
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        List<RecordedEvent> fileEvents = getEvents(events, AddressBookFileEvent.class);
+        assertEquals(List.of("write", "read"), fileEvents.stream()
+                .map(event -> event.getString("operation")).collect(Collectors.toList()));
+        for (RecordedEvent fileEvent : fileEvents) {
+            assertEquals(dataFilePath.toString(), fileEvent.getString("filePath"));
+            assertEquals(Files.size(dataFilePath), fileEvent.getLong("bytes"));
+            assertTrue(fileEvent.getBoolean("isSuccessful"));
+        }
+    }
+
+    @Test
+    public void init_disabledInConfig_noEventsRecorded() throws Exception {
+        FlightRecorderEvents.setEnabled(true);
+        FlightRecorderEvents.init(new Config());
+
+        assertTrue(record(this::runCommandsAndSearches).stream()
+                .noneMatch(event -> event.getEventType().getName().startsWith(
+                        FlightRecorderEvents.EVENT_NAME_PREFIX)));
+    }
+
+    private void runCommandsAndSearches() throws Exception {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFilePath);
+        LogicManager logic = new LogicManager(new ModelManager(), new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertThrows(ParseException.class, () -> logic.execute("unknowncommand"));
+        addressBookStorage.readAddressBook();
+
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        relationshipUtil.addRelationship(new Relationship(ALICE, BOB, "friends"));
+        relationshipUtil.addRelationship(new Relationship(BOB, CHARLIE, "friends"));
+        relationshipUtil.anySearchForTreeMap(ALICE, CHARLIE);
+        relationshipUtil.bidirectionalSearchForTreeMap(ALICE, CHARLIE, true);
+    }
+
+    /**
+     * Returns the events recorded while {@code action} runs, with all of the app's events enabled in the recording.
+     */
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path recordingPath = testFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            for (Class<? extends Event> eventClass : FlightRecorderEvents.EVENT_CLASSES) {
+                recording.enable(eventClass);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+        return RecordingFile.readAllEvents(recordingPath);
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, Class<? extends Event> eventClass) {
+        String eventName = eventClass.getAnnotation(Name.class).value();
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * An action that may throw an exception.
+     */
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
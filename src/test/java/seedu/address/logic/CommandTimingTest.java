@@ -0,0 +1,33 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandTiming.Phase;
+
+public class CommandTimingTest {
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("list", CommandTiming.getCommandWord("list"));
+        assertEquals("find", CommandTiming.getCommandWord("  FIND alice\tbob"));
+        assertEquals("add", CommandTiming.getCommandWord("add\t/Name Alice"));
+        assertEquals("", CommandTiming.getCommandWord("   "));
+    }
+
+    @Test
+    public void getNanos() {
+        CommandTiming timing = new CommandTiming("list", 1, 10, 100, true);
+        assertEquals(1, timing.getNanos(Phase.PARSE));
+        assertEquals(10, timing.getNanos(Phase.EXECUTE));
+        assertEquals(100, timing.getNanos(Phase.SAVE));
+        assertEquals(111, timing.getNanos(Phase.TOTAL));
+    }
+
+    @Test
+    public void getTotalNanos() {
+        assertEquals(111, new CommandTiming("list", 1, 10, 100, true).getTotalNanos());
+        assertEquals(1, new CommandTiming("list", 1, 0, 0, false).getTotalNanos());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_UUID;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -14,6 +16,8 @@ import static seedu.address.testutil.TypicalPersonsUuid.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +27,9 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -87,6 +93,90 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unchangedAddressBook_notSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        // data file does not exist yet -> saved
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        // nothing changed -> not saved
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        // address book changed -> saved
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+
+        // data file exists and nothing changed since it was loaded -> not saved
+        logic = new LogicManager(model, storage);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_commandListener_toldTimingOfEachCommand() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        List<CommandTiming> timings = new ArrayList<>();
+        CommandListener listener = timings::add;
+        logicManager.addCommandListener(listener);
+
+        assertThrows(ParseException.class, () -> logicManager.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logicManager.execute("delete /9"));
+        logicManager.execute(" " + ListCommand.COMMAND_WORD + " ");
+        logicManager.removeCommandListener(listener);
+        assertThrows(ParseException.class, () -> logicManager.execute("uicfhmowqewca"));
+
+        assertEquals(3, timings.size());
+
+        // parsing failed -> no time spent executing or saving
+        CommandTiming parseFailure = timings.get(0);
+        assertEquals("uicfhmowqewca", parseFailure.getCommandWord());
+        assertFalse(parseFailure.isSuccessful());
+        assertEquals(0, parseFailure.getExecuteNanos() + parseFailure.getSaveNanos());
+
+        // executing failed -> no time spent saving
+        CommandTiming executeFailure = timings.get(1);
+        assertEquals("delete", executeFailure.getCommandWord());
+        assertFalse(executeFailure.isSuccessful());
+        assertEquals(0, executeFailure.getSaveNanos());
+
+        CommandTiming success = timings.get(2);
+        assertEquals(ListCommand.COMMAND_WORD, success.getCommandWord());
+        assertTrue(success.isSuccessful());
+        assertEquals(success.getParseNanos() + success.getExecuteNanos() + success.getSaveNanos(),
+                success.getTotalNanos());
+    }
+
+    @Test
+    public void execute_stats_statsOfEarlierCommands() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        CommandMetrics metrics = logic.getCommandMetrics();
+        assertEquals(3, metrics.getCommandCount());
+        assertEquals(1, metrics.getStats("uicfhmowqewca").get().getFailedCount());
+
+        String feedback = logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(feedback.contains("\n" + AddCommand.COMMAND_WORD + ": 1 commands, 0 failed"));
+        assertTrue(feedback.contains("\nuicfhmowqewca: 1 commands, 1 failed"));
+        assertTrue(feedback.contains("\n" + CommandMetrics.ALL_COMMANDS + ": 3 commands, 1 failed"));
+        assertEquals(4, metrics.getCommandCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
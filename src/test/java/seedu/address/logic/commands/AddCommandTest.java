@@ -2,13 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
@@ -24,7 +29,9 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttributeRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
 import seedu.address.model.person.relationship.Relationship;
 import seedu.address.model.person.relationship.RoleBasedRelationship;
 
@@ -54,6 +61,25 @@ public class AddCommandTest {
         assertEquals("New person added.\nDetails:\nName: Alice", commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_everyShortUuidTaken_throwsCommandException() {
+        AddressBook addressBook = new AddressBook();
+        for (int suffix = 0; suffix < 0x10000; suffix++) {
+            addressBook.addPerson(new Person(UUID.fromString(String.format("00000000-0000-0000-0000-00000000%04x",
+                    suffix)), new Attribute[0]));
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        HashMap<String, String> aliceHashMap = new HashMap<>();
+        aliceHashMap.put("Name", "Alice");
+
+        assertThrows(CommandException.class, AddCommand.MESSAGE_NO_FREE_UUID, () ->
+                new AddCommand(aliceHashMap).execute(model));
+        assertEquals(0x10000, model.getAddressBook().getPersonList().size());
+        for (Person person : model.getAddressBook().getPersonList()) {
+            assertFalse(model.hasShortUuidCollision(person.getLastFourCharacterOfUuid()));
+        }
+    }
+
     @Test
     public void equals() {
         HashMap<String, String> aliceHashMap = new HashMap<>();
@@ -162,6 +188,11 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void showPersons(Collection<UUID> uuids) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public void updateFilteredRelationshipList(Predicate<Relationship> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -172,6 +203,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateAttribute(String uuid, Attribute attribute) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRelationship(Relationship target) {
             throw new AssertionError("This method should not be called.");
@@ -305,6 +341,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public boolean hasShortUuidCollision(String digits) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public Optional<Set<UUID>> getCandidatesContainingAny(List<String> phrases) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public Set<UUID> getPersonsInAllRanges(List<AttributeRange<?>> ranges) {
+            throw new AssertionError("This method should not be called");
+        }
+
     }
 
     /**
@@ -343,6 +394,22 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public UUID getFullUuid(String digits) {
+            return personsAdded.stream()
+                    .filter(person -> person.getLastFourCharacterOfUuid().equals(digits))
+                    .map(Person::getUuid)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public boolean hasShortUuidCollision(String digits) {
+            return personsAdded.stream()
+                    .filter(person -> person.getLastFourCharacterOfUuid().equals(digits))
+                    .count() > 1;
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ConvertCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_binaryFile_addressBookSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new ConvertCommand(filePath), model,
+                String.format(ConvertCommand.MESSAGE_SUCCESS, filePath), expectedModel);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_jsonFile_addressBookSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new ConvertCommand(filePath), model,
+                String.format(ConvertCommand.MESSAGE_SUCCESS, filePath), expectedModel);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_existingFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.writeString(filePath, "");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new ConvertCommand(filePath), model,
+                String.format(ConvertCommand.MESSAGE_FILE_EXISTS, filePath));
+        assertEquals(0, Files.size(filePath));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertCommand = new ConvertCommand(Paths.get("addressbook.bin"));
+
+        assertTrue(convertCommand.equals(convertCommand));
+        assertTrue(convertCommand.equals(new ConvertCommand(Paths.get("addressbook.bin"))));
+        assertFalse(convertCommand.equals(new ConvertCommand(Paths.get("addressbook.json"))));
+        assertFalse(convertCommand.equals(null));
+        assertFalse(convertCommand.equals(1));
+    }
+}
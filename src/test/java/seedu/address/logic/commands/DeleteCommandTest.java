@@ -12,10 +12,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -32,6 +34,14 @@ public class DeleteCommandTest {
         assertThrows(NullPointerException.class, () -> deleteCommand.execute(model));
     }
 
+    @Test
+    public void execute_sharedShortUuid_throwsCommandException() {
+        model.addPerson(new PersonBuilder().withName("Amy Bee").buildWithUuid("10000000-0000-0000-0000-00000000abcd"));
+        model.addPerson(new PersonBuilder().withName("Bob Bee").buildWithUuid("20000000-0000-0000-0000-00000000abcd"));
+        assertCommandFailure(new DeleteCommand("abcd"), model,
+                String.format(AddressBook.MESSAGE_AMBIGUOUS_UUID, "abcd"));
+    }
+
     @Test
     public void execute_validUuid_success() {
         Person personToDelete = model.getFilteredPersonList().get(0);
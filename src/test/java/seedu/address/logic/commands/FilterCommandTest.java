@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttributeRange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.attribute.BirthdayAttribute;
+import seedu.address.model.person.attribute.IntegerAttribute;
+import seedu.address.model.person.attribute.NameAttribute;
+import seedu.address.model.person.attribute.SexAttribute;
+import seedu.address.model.person.attribute.SexAttribute.Gender;
+import seedu.address.model.person.attribute.StringAttribute;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+
+    private final Person amy = createPerson("Amy", Gender.FEMALE, LocalDate.of(1990, 5, 1), 34);
+    private final Person bob = createPerson("Bob", Gender.MALE, LocalDate.of(1995, 1, 1), 29);
+    private final Person cara = createPerson("Cara", Gender.FEMALE, LocalDate.of(2001, 7, 9), 23);
+    private final Model model = new ModelManager(createAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(createAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        List<AttributeRange<?>> firstRanges = Collections.singletonList(AttributeRange.greaterThan("Age", 30));
+        List<AttributeRange<?>> secondRanges = Collections.singletonList(AttributeRange.atLeast("Age", 30));
+        FilterCommand filterFirstCommand = new FilterCommand(firstRanges);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(
+                new FilterCommand(Collections.singletonList(AttributeRange.greaterThan("age", 30)))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different ranges -> returns false
+        assertFalse(filterFirstCommand.equals(new FilterCommand(secondRanges)));
+    }
+
+    @Test
+    public void execute_birthdayBetweenAndSexEqual_personsInAllRangesFound() {
+        List<AttributeRange<?>> ranges = Arrays.asList(
+                AttributeRange.between("Birthday", LocalDate.of(1990, 1, 1), LocalDate.of(2001, 7, 9)),
+                AttributeRange.equalTo("Sex", Gender.FEMALE));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(person -> person.equals(amy) || person.equals(cara));
+        assertCommandSuccess(new FilterCommand(ranges), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(amy, cara), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_attributeChanged_followsAttributes() {
+        List<AttributeRange<?>> ranges = Collections.singletonList(AttributeRange.greaterThan("Age", 30));
+        new FilterCommand(ranges).execute(model);
+        assertEquals(Collections.singletonList(amy), model.getFilteredPersonList());
+
+        model.updateAttribute(bob.getUuidString(), new IntegerAttribute("Age", 31));
+        model.deleteAttribute(amy.getUuidString(), "Age");
+        new FilterCommand(ranges).execute(model);
+        assertEquals(Collections.singletonList(bob), model.getFilteredPersonList());
+
+        // an age that is not a whole number is not in the range
+        model.updateAttribute(bob.getUuidString(), new StringAttribute("Age", "thirty-one"));
+        CommandResult result = new FilterCommand(ranges).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<AttributeRange<?>> ranges = Collections.singletonList(AttributeRange.lessThan("Age", 3));
+        FilterCommand filterCommand = new FilterCommand(ranges);
+        String expected = FilterCommand.class.getCanonicalName() + "{ranges=" + ranges + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+
+    private AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : Arrays.asList(amy, bob, cara)) {
+            addressBook.addPerson(new Person(person.getUuid(), person.getAttributes().toArray(new Attribute[0])));
+        }
+        return addressBook;
+    }
+
+    private static Person createPerson(String name, Gender sex, LocalDate birthday, int age) {
+        return new Person(new Attribute[] {new NameAttribute("Name", name), new SexAttribute("Sex", sex),
+            new BirthdayAttribute("Birthday", birthday), new IntegerAttribute("Age", age)});
+    }
+}
@@ -19,6 +19,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +77,20 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_shortKeywordAndAttributeChanged_sameAsFullScan() throws Exception {
+        Person person = new PersonBuilder().withName("Ellen Goh").build();
+        model.addPerson(person);
+        model.updateAttribute(person.getUuidString(), new StringAttribute("Nickname", "Ellie"));
+        expectedModel.addPerson(person);
+        for (String keywords : Arrays.asList("elli", "el", "Kurz ie", "nobody")) {
+            NameContainsKeywordsPredicate predicate = preparePredicate(keywords);
+            new FindCommand(predicate).execute(model);
+            expectedModel.updateFilteredPersonList(predicate);
+            assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList(), keywords);
+        }
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
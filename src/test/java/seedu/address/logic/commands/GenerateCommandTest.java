@@ -0,0 +1,126 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.FamilyTreeGenerator;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class GenerateCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // leaves out the outcomes of generations started by other tests
+        GenerateCommand.awaitGenerations();
+        GenerateCommand.takeFinishedGenerations();
+    }
+
+    @Test
+    public void execute_jsonFile_generatedAddressBookSaved() throws Exception {
+        Path filePath = testFolder.resolve("families.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook expectedAddressBook = new FamilyTreeGenerator(3).generate(200);
+
+        assertCommandSuccess(new GenerateCommand(200, filePath, 3), model,
+                String.format(GenerateCommand.MESSAGE_STARTED, 200, filePath), expectedModel);
+        GenerateCommand.awaitGenerations();
+        assertEquals(List.of(String.format(GenerateCommand.MESSAGE_SUCCESS, 200,
+                expectedAddressBook.getRelationshipList().size(), filePath)),
+                GenerateCommand.takeFinishedGenerations());
+        assertEquals(expectedAddressBook,
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_binaryFile_generatedAddressBookSaved() throws Exception {
+        Path filePath = testFolder.resolve("families.bin");
+        Model model = new ModelManager();
+        AddressBook expectedAddressBook = new FamilyTreeGenerator(3).generate(200);
+
+        new GenerateCommand(200, filePath, 3).execute(model);
+        GenerateCommand.awaitGenerations();
+        assertEquals(expectedAddressBook,
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_existingFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("families.json");
+        Files.writeString(filePath, "");
+        Model model = new ModelManager();
+
+        assertCommandFailure(new GenerateCommand(10, filePath, 3), model,
+                String.format(ConvertCommand.MESSAGE_FILE_EXISTS, filePath));
+        assertEquals(0, Files.size(filePath));
+    }
+
+    @Test
+    public void execute_earlierGenerationFinished_outcomeShown() throws Exception {
+        Path firstFilePath = testFolder.resolve("first.json");
+        Path secondFilePath = testFolder.resolve("second.json");
+        Model model = new ModelManager();
+        AddressBook expectedAddressBook = new FamilyTreeGenerator(3).generate(10);
+
+        new GenerateCommand(10, firstFilePath, 3).execute(model);
+        GenerateCommand.awaitGenerations();
+        String expectedMessage = String.format(GenerateCommand.MESSAGE_FINISHED,
+                String.format(GenerateCommand.MESSAGE_STARTED, 10, secondFilePath),
+                String.format(GenerateCommand.MESSAGE_SUCCESS, 10,
+                        expectedAddressBook.getRelationshipList().size(), firstFilePath));
+        assertEquals(expectedMessage, new GenerateCommand(10, secondFilePath, 3).execute(model).getFeedbackToUser());
+
+        // outcomes are only shown once
+        GenerateCommand.awaitGenerations();
+        assertEquals(1, GenerateCommand.takeFinishedGenerations().size());
+    }
+
+    @Test
+    public void execute_saveFails_failureShownLater() throws Exception {
+        // a file cannot be saved inside another file
+        Path parentFilePath = testFolder.resolve("parent.json");
+        Files.writeString(parentFilePath, "");
+        Path filePath = parentFilePath.resolve("families.json");
+
+        new GenerateCommand(10, filePath, 3).execute(new ModelManager());
+        GenerateCommand.awaitGenerations();
+        List<String> outcomes = GenerateCommand.takeFinishedGenerations();
+        assertEquals(1, outcomes.size());
+        assertTrue(outcomes.get(0).startsWith(String.format(ConvertCommand.MESSAGE_SAVE_FAILED, filePath, "")));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void equals() {
+        GenerateCommand generateCommand = new GenerateCommand(10, Paths.get("families.bin"), 1);
+
+        assertTrue(generateCommand.equals(generateCommand));
+        assertTrue(generateCommand.equals(new GenerateCommand(10, Paths.get("families.bin"), 1)));
+        assertFalse(generateCommand.equals(new GenerateCommand(11, Paths.get("families.bin"), 1)));
+        assertFalse(generateCommand.equals(new GenerateCommand(10, Paths.get("families.json"), 1)));
+        assertFalse(generateCommand.equals(new GenerateCommand(10, Paths.get("families.bin"), 2)));
+        assertFalse(generateCommand.equals(null));
+        assertFalse(generateCommand.equals(1));
+    }
+}
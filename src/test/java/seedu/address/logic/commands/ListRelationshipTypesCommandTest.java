@@ -7,7 +7,6 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.person.relationship.Relationship;
 
 public class ListRelationshipTypesCommandTest {
 
@@ -23,6 +22,7 @@ public class ListRelationshipTypesCommandTest {
             // Not expected to throw CommandException
         }
 
-        assertEquals(Relationship.showRelationshipTypes(), result.getFeedbackToUser());
+        assertEquals("Valid relationship types are: [friends, siblings, spouses, bioparents]",
+                result.getFeedbackToUser());
     }
 }
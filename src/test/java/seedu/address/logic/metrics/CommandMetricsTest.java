@@ -0,0 +1,71 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandTiming;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void commandExecuted_timings_recordedByCommandWordAndAll() {
+        CommandMetrics metrics = new CommandMetrics();
+        assertFalse(metrics.getStats(CommandMetrics.ALL_COMMANDS).isPresent());
+
+        metrics.commandExecuted(new CommandTiming("list", 1, 1, 0, true));
+        metrics.commandExecuted(new CommandTiming("add", 1, 1, 1, true));
+        metrics.commandExecuted(new CommandTiming("add", 1, 0, 0, false));
+
+        assertEquals(3, metrics.getCommandCount());
+        assertEquals(1, metrics.getStats("list").get().getCommandCount());
+        assertEquals(2, metrics.getStats("add").get().getCommandCount());
+        assertEquals(1, metrics.getStats("add").get().getFailedCount());
+        assertFalse(metrics.getStats("delete").isPresent());
+        assertEquals(3, metrics.getStats(CommandMetrics.ALL_COMMANDS).get().getCommandCount());
+        assertEquals(List.of("add", "list"), metrics.getAllStats().stream()
+                .map(CommandStats::getCommandWord).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void commandExecuted_manyThreads_noCommandsLost() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String commandWord = "command" + (i % 2);
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 5_000; j++) {
+                    metrics.commandExecuted(new CommandTiming(commandWord, j, j, 0, true));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(20_000, metrics.getCommandCount());
+        assertEquals(10_000, metrics.getStats("command0").get().getCommandCount());
+        assertEquals(10_000, metrics.getStats("command1").get().getCommandCount());
+    }
+
+    @Test
+    public void toStringMethod() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.commandExecuted(new CommandTiming("list", 1, 1, 0, true));
+        metrics.commandExecuted(new CommandTiming("add", 1, 1, 1, true));
+
+        String[] lines = metrics.toString().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("add: 1 commands"));
+        assertTrue(lines[1].startsWith("list: 1 commands"));
+        assertTrue(lines[2].startsWith(CommandMetrics.ALL_COMMANDS + ": 2 commands"));
+    }
+}
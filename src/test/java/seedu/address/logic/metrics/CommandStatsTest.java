@@ -0,0 +1,45 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandTiming;
+import seedu.address.logic.CommandTiming.Phase;
+
+public class CommandStatsTest {
+
+    @Test
+    public void record_timings_recordedByPhase() {
+        CommandStats stats = new CommandStats("add");
+        stats.record(new CommandTiming("add", 1, 2, 3, true));
+        stats.record(new CommandTiming("add", 1, 0, 0, false));
+
+        assertEquals("add", stats.getCommandWord());
+        assertEquals(2, stats.getCommandCount());
+        assertEquals(1, stats.getFailedCount());
+        assertEquals(6, stats.getLatencies(Phase.TOTAL).getMax());
+        assertEquals(1, stats.getLatencies(Phase.PARSE).getPercentile(100));
+        assertEquals(2, stats.getLatencies(Phase.EXECUTE).getMax());
+        assertEquals(3, stats.getLatencies(Phase.SAVE).getMax());
+    }
+
+    @Test
+    public void formatMillis() {
+        assertEquals("0.00 ms", CommandStats.formatMillis(0));
+        assertEquals("1.50 ms", CommandStats.formatMillis(1_500_000));
+        assertEquals("1234.57 ms", CommandStats.formatMillis(1_234_567_890));
+    }
+
+    @Test
+    public void toStringMethod() {
+        CommandStats stats = new CommandStats("list");
+        stats.record(new CommandTiming("list", 1_000_000, 2_000_000, 0, true));
+        String expected = "list: 1 commands, 0 failed; total p50 3.00 ms, p95 3.00 ms, p99 3.00 ms; "
+                + "p95 parse 1.00 ms, execute 2.00 ms, save 0.00 ms";
+        assertEquals(expected, stats.toString());
+
+        stats.record(new CommandTiming("list", 1_000_000, 2_000_000, 0, true));
+        assertEquals(expected.replace("1 commands", "2 commands"), stats.toString());
+    }
+}
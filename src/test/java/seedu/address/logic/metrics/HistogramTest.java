@@ -0,0 +1,102 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Histogram.MESSAGE_CONSTRAINTS, () -> new Histogram().record(-1));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(100.5));
+    }
+
+    @Test
+    public void getPercentile_noValues_zero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getPercentile(50));
+        assertEquals(19, histogram.getPercentile(95));
+        assertEquals(20, histogram.getPercentile(100));
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(20, histogram.getCount());
+        assertEquals(20, histogram.getMax());
+        assertEquals(10.5, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinBucketError() {
+        Random random = new Random(1);
+        Histogram histogram = new Histogram();
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long value = (long) Math.exp(random.nextDouble() * 30);
+            histogram.record(value);
+            values.add(value);
+        }
+        values.sort(null);
+
+        for (double percentile : new double[] {1, 50, 90, 95, 99, 99.9, 100}) {
+            long expected = values.get((int) Math.ceil(percentile / 100 * values.size()) - 1);
+            long actual = histogram.getPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected + expected / 16, percentile + ": " + actual);
+        }
+        assertEquals((long) values.get(values.size() - 1), histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getBucketUpperBound_everyBucket_largestValueOfBucket() {
+        int lastBucket = Histogram.getBucketIndex(Long.MAX_VALUE);
+        for (int bucket = 0; bucket < lastBucket; bucket++) {
+            long upperBound = Histogram.getBucketUpperBound(bucket);
+            assertEquals(bucket, Histogram.getBucketIndex(upperBound));
+            assertEquals(bucket + 1, Histogram.getBucketIndex(upperBound + 1));
+        }
+        assertEquals(Long.MAX_VALUE, Histogram.getBucketUpperBound(lastBucket));
+    }
+
+    @Test
+    public void record_manyThreads_noValuesLost() throws Exception {
+        Histogram histogram = new Histogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int value = 0; value < 10_000; value++) {
+                    histogram.record(value);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+        assertEquals(4_999.5, histogram.getMean());
+    }
+}
@@ -7,7 +7,9 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsUuid.ALICE_UUID;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,6 +22,7 @@ import seedu.address.logic.commands.AddRelationshipCommand;
 import seedu.address.logic.commands.AnySearchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteAttributeCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteRelationshipCommand;
@@ -27,11 +30,16 @@ import seedu.address.logic.commands.EditAttributeCommand;
 import seedu.address.logic.commands.EditRelationshipCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FamilySearchCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GenerateCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListRelationshipTypesCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AttributeRange;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.attribute.Attribute;
@@ -59,6 +67,27 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_convert() throws Exception {
+        ConvertCommand command = (ConvertCommand) parser.parseCommand(ConvertCommand.COMMAND_WORD + " addressbook.bin");
+        assertEquals(new ConvertCommand(Paths.get("addressbook.bin")), command);
+    }
+
+    @Test
+    public void parseCommand_generate() throws Exception {
+        GenerateCommand command = (GenerateCommand) parser.parseCommand(
+                GenerateCommand.COMMAND_WORD + " 100 families.json 7");
+        assertEquals(new GenerateCommand(100, Paths.get("families.json"), 7), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        AddressBookParser metricsParser = new AddressBookParser(metrics);
+        assertEquals(new StatsCommand(metrics), metricsParser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(metrics), metricsParser.parseCommand(StatsCommand.COMMAND_WORD_SHORT + " 3"));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -72,6 +101,13 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " /Age >= 18");
+        assertEquals(new FilterCommand(Collections.singletonList(AttributeRange.atLeast("Age", 18))), command);
+        assertEquals(command, parser.parseCommand(FilterCommand.COMMAND_WORD_SHORT + " /age >= 18"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.AttributeRange;
+import seedu.address.model.person.attribute.SexAttribute;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(Arrays.asList(
+                AttributeRange.between("Birthday", LocalDate.of(1990, 1, 1), LocalDate.of(1999, 12, 31)),
+                AttributeRange.equalTo("Sex", SexAttribute.Gender.FEMALE),
+                AttributeRange.greaterThan("Age", 30)));
+        assertParseSuccess(parser, " /Birthday between 1990-01-01 1999-12-31 /Sex = f /Age > 30",
+                expectedFilterCommand);
+
+        // multiple whitespaces and operator in upper case
+        assertParseSuccess(parser, "  /Birthday  BETWEEN 1990-01-01  1999-12-31 /Sex = FEMALE   /Age >  30 ",
+                expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_eachOperator_returnsRange() {
+        assertParseSuccess(parser, "/Age = -3",
+                new FilterCommand(Collections.singletonList(AttributeRange.equalTo("Age", -3))));
+        assertParseSuccess(parser, "/Age < 3",
+                new FilterCommand(Collections.singletonList(AttributeRange.lessThan("Age", 3))));
+        assertParseSuccess(parser, "/Age <= 3",
+                new FilterCommand(Collections.singletonList(AttributeRange.atMost("Age", 3))));
+        assertParseSuccess(parser, "/Joined >= 2020-02-29",
+                new FilterCommand(Collections.singletonList(
+                        AttributeRange.atLeast("Joined", LocalDate.of(2020, 2, 29)))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Age > 3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "/Age >", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "/Age > 3 4", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "/Age between 3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "/Age > 3 /", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "/Age ~ 3", FilterCommandParser.MESSAGE_INVALID_OPERATOR);
+        assertParseFailure(parser, "/Age > three",
+                String.format(FilterCommandParser.MESSAGE_INVALID_VALUE, "three"));
+        assertParseFailure(parser, "/Birthday between 1990-01-01 5",
+                String.format(FilterCommandParser.MESSAGE_INVALID_VALUE, "5"));
+        assertParseFailure(parser, "/Age between 5 3", FilterCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "/Sex = other", FilterCommandParser.MESSAGE_INVALID_SEX);
+        assertParseFailure(parser, "/Sex > f", FilterCommandParser.MESSAGE_SEX_NOT_EQUAL);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GenerateCommand;
+
+public class GenerateCommandParserTest {
+
+    private GenerateCommandParser parser = new GenerateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGenerateCommand() {
+        assertParseSuccess(parser, " 1000 data/families.bin ",
+                new GenerateCommand(1000, Paths.get("data", "families.bin"), GenerateCommand.DEFAULT_SEED));
+        assertParseSuccess(parser, "10 families.seg -3", new GenerateCommand(10, Paths.get("families.seg"), -3));
+    }
+
+    @Test
+    public void parse_wrongNumberOfArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, "1000", expectedMessage);
+        assertParseFailure(parser, "1000 families.json 1 2", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidPersonCount_throwsParseException() {
+        assertParseFailure(parser, "many families.json", GenerateCommandParser.MESSAGE_INVALID_PERSON_COUNT);
+        assertParseFailure(parser, "0 families.json", GenerateCommandParser.MESSAGE_INVALID_PERSON_COUNT);
+        assertParseFailure(parser, "10000001 families.json", GenerateCommandParser.MESSAGE_INVALID_PERSON_COUNT);
+    }
+
+    @Test
+    public void parse_unknownExtension_throwsParseException() {
+        assertParseFailure(parser, "1000 families.txt", ConvertCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidSeed_throwsParseException() {
+        assertParseFailure(parser, "1000 families.json seed", GenerateCommandParser.MESSAGE_INVALID_SEED);
+    }
+}
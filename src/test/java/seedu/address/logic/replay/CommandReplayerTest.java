@@ -0,0 +1,80 @@
+package seedu.address.logic.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandReplayerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replay_noDataFile_sampleDataReplayedAndSaved() throws Exception {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        Config config = new Config();
+        CommandReplayer replayer = CommandReplayer.create(dataFilePath, testFolder.resolve("prefs.json"), config);
+
+        ReplayReport report = replayer.replay(List.of(ListCommand.COMMAND_WORD, "unknowncommand",
+                ClearCommand.COMMAND_WORD));
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(1, report.getCommandCount(ListCommand.COMMAND_WORD));
+        assertEquals(1, report.getFailedCount("unknowncommand"));
+        assertEquals(1, report.getFailedCount(ReplayReport.ALL_COMMANDS));
+        assertTrue(report.getThroughput() > 0);
+        // pending saves are written out by the end of the replay
+        assertEquals(new AddressBook(), new AddressBook(
+                StorageManager.createAddressBookStorage(dataFilePath, config).readAddressBook().get()));
+    }
+
+    @Test
+    public void replay_existingDataFile_commandsReplayedOnIt() throws Exception {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(getTypicalAddressBook());
+        Config config = new Config();
+        config.setAddressBookJournalEnabled(false);
+        CommandReplayer replayer = CommandReplayer.create(dataFilePath, testFolder.resolve("prefs.json"), config);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(dataFilePath).readAddressBook().get()));
+        ReplayReport report = replayer.replay(List.of(ClearCommand.COMMAND_WORD));
+
+        assertEquals(0, report.getFailedCount(ClearCommand.COMMAND_WORD));
+        assertEquals(new AddressBook(),
+                new AddressBook(new JsonAddressBookStorage(dataFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void copyDataFile_dataFileAndCompanionFiles_copied() throws Exception {
+        Path sourceFolder = Files.createDirectory(testFolder.resolve("source"));
+        Path targetFolder = Files.createDirectory(testFolder.resolve("target"));
+        for (String name : List.of("ab.seg", "ab.seg.people", "ab.seg.3", "abc.seg", "ab.json")) {
+            Files.writeString(sourceFolder.resolve(name), name);
+        }
+
+        Path copyPath = CommandReplayer.copyDataFile(sourceFolder.resolve("ab.seg"), targetFolder);
+
+        assertEquals(targetFolder.resolve("ab.seg"), copyPath);
+        for (String name : List.of("ab.seg", "ab.seg.people", "ab.seg.3")) {
+            assertEquals(name, Files.readString(targetFolder.resolve(name)));
+        }
+        assertFalse(Files.exists(targetFolder.resolve("abc.seg")));
+        assertFalse(Files.exists(targetFolder.resolve("ab.json")));
+    }
+}
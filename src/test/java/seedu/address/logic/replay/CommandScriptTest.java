@@ -0,0 +1,43 @@
+package seedu.address.logic.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandScriptTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void parse_script_commandsWithoutBlankLinesAndComments() {
+        List<String> lines = List.of("# set up", "add /Name Alice", "", "   ", "  list  ", "  # check", "clear");
+        assertEquals(List.of("add /Name Alice", "list", "clear"), CommandScript.parse(lines));
+    }
+
+    @Test
+    public void parse_log_onlyLoggedCommands() {
+        List<String> lines = List.of(
+                "Oct 17, 2026 10:00:00 AM seedu.address.MainApp start",
+                "INFO: Starting AddressBook 0.2.2.1",
+                "Oct 17, 2026 10:00:05 AM seedu.address.logic.LogicManager execute",
+                "INFO: ----------------[USER COMMAND][list]",
+                "Oct 17, 2026 10:00:09 AM seedu.address.logic.LogicManager execute",
+                "INFO: ----------------[USER COMMAND][add /Name [Alice] /Phone 123]",
+                "# not a comment in a log",
+                "INFO: ----------------[USER COMMAND][  find alice ]");
+        assertEquals(List.of("list", "add /Name [Alice] /Phone 123", "  find alice "), CommandScript.parse(lines));
+    }
+
+    @Test
+    public void read_file_commandsInOrder() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of("list", "# comment", "delete /1a2b"));
+        assertEquals(List.of("list", "delete /1a2b"), CommandScript.read(scriptPath));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandTiming;
+import seedu.address.logic.CommandTiming.Phase;
+
+public class ReplayReportTest {
+
+    @Test
+    public void getPercentile_nearestRank() {
+        ReplayReport report = new ReplayReport();
+        // parse latencies 100 down to 1, execute latencies 1000 down to 10, saved every tenth command
+        for (int i = 100; i >= 1; i--) {
+            report.commandExecuted(new CommandTiming("list", i, i * 10, i % 10 == 0 ? 5 : 0, true));
+        }
+
+        assertEquals(50, report.getPercentile("list", Phase.PARSE, 50));
+        assertEquals(95, report.getPercentile("list", Phase.PARSE, 95));
+        assertEquals(990, report.getPercentile("list", Phase.EXECUTE, 99));
+        assertEquals(1000, report.getPercentile("list", Phase.EXECUTE, 100));
+        assertEquals(0, report.getPercentile("list", Phase.SAVE, 90));
+        assertEquals(5, report.getPercentile("list", Phase.SAVE, 91));
+        assertEquals(1, report.getPercentile("list", Phase.PARSE, 0));
+        assertEquals(11 * 90 + 5, report.getPercentile("list", Phase.TOTAL, 90));
+    }
+
+    @Test
+    public void getPercentile_noCommands_zero() {
+        ReplayReport report = new ReplayReport();
+        assertEquals(0, report.getPercentile("list", Phase.TOTAL, 50));
+        assertEquals(0, report.getPercentile(ReplayReport.ALL_COMMANDS, Phase.TOTAL, 50));
+    }
+
+    @Test
+    public void commandExecuted_countsPerCommandWordAndAll() {
+        ReplayReport report = new ReplayReport();
+        report.commandExecuted(new CommandTiming("list", 1, 1, 0, true));
+        report.commandExecuted(new CommandTiming("add", 1, 1, 1, true));
+        report.commandExecuted(new CommandTiming("add", 1, 0, 0, false));
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(1, report.getCommandCount("list"));
+        assertEquals(2, report.getCommandCount("add"));
+        assertEquals(0, report.getCommandCount("delete"));
+        assertEquals(1, report.getFailedCount("add"));
+        assertEquals(1, report.getFailedCount(ReplayReport.ALL_COMMANDS));
+        assertEquals(1, report.getPercentile("add", Phase.TOTAL, 50));
+        assertEquals(3, report.getPercentile("add", Phase.TOTAL, 100));
+        assertEquals(3, report.getPercentile(ReplayReport.ALL_COMMANDS, Phase.TOTAL, 100));
+
+        // percentiles stay exact as commands keep coming after a percentile was taken
+        report.commandExecuted(new CommandTiming("list", 7, 0, 0, true));
+        assertEquals(7, report.getPercentile("list", Phase.PARSE, 100));
+    }
+
+    @Test
+    public void getThroughput() {
+        ReplayReport report = new ReplayReport();
+        assertEquals(0, report.getThroughput());
+
+        for (int i = 0; i < 4; i++) {
+            report.commandExecuted(new CommandTiming("list", 1, 1, 0, true));
+        }
+        report.setElapsedNanos(2_000_000_000L, 0);
+        assertEquals(2.0, report.getThroughput(), 1e-9);
+    }
+
+    @Test
+    public void toStringMethod() {
+        ReplayReport report = new ReplayReport();
+        report.commandExecuted(new CommandTiming("list", 1_000_000, 2_000_000, 0, true));
+        report.commandExecuted(new CommandTiming("add", 1_000_000, 0, 0, false));
+        report.setElapsedNanos(1_000_000_000L, 500_000);
+        String reportText = report.toString();
+
+        assertTrue(reportText.startsWith("Replayed 2 commands in 1.000 s (2.0 commands/s), 1 failed\n"));
+        assertTrue(reportText.contains("took 0.500 ms"));
+        // rows of each command word in order, then of all commands
+        int addIndex = reportText.indexOf("\nadd ");
+        int listIndex = reportText.indexOf("\nlist ");
+        int allIndex = reportText.indexOf("\n" + ReplayReport.ALL_COMMANDS + " ");
+        assertTrue(addIndex != -1 && addIndex < listIndex && listIndex < allIndex);
+        assertTrue(reportText.contains("execute        2.000       2.000       2.000"));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsUuid.ALICE_BENSON;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangeTest {
+    private static final UUID PERSON_UUID = UUID.fromString("00000000-0000-0000-0000-000000000099");
+
+    @Test
+    public void factoryMethods_nullArguments_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookChange.addPerson(null));
+        assertThrows(NullPointerException.class, () -> AddressBookChange.removePerson(null));
+        assertThrows(NullPointerException.class, () -> AddressBookChange.addRoleBasedDescriptor("a", "b", null));
+    }
+
+    @Test
+    public void applyTo_recordedChanges_reproducesAddressBook() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        long initialCount = original.getModificationCount();
+
+        Person person = new PersonBuilder().withName("Replayed Person").buildWithUuid(PERSON_UUID.toString());
+        original.addPerson(person);
+        original.updateAttribute(PERSON_UUID.toString(), new StringAttribute("Hobby", "Chess"));
+        original.deleteRelationship(ALICE_BENSON);
+        original.addRoleBasedDescriptor("mentorship", "mentor", "mentee");
+
+        List<AddressBookChange> changes = original.getChangesSince(initialCount).get();
+        for (AddressBookChange change : changes) {
+            change.applyTo(copy);
+        }
+        assertEquals(original, copy);
+        assertTrue(copy.hasRoleBasedDescriptor("mentorship", "mentor", "mentee"));
+    }
+
+    @Test
+    public void applyTo_changeAlreadyApplied_addressBookUnchanged() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person person = new PersonBuilder().withName("Replayed Person").buildWithUuid(PERSON_UUID.toString());
+        addressBook.addPerson(person);
+        addressBook.removePerson(person);
+        addressBook.deleteRelationship(ALICE_BENSON);
+        AddressBook expected = new AddressBook(addressBook);
+
+        AddressBookChange.removePerson(PERSON_UUID).applyTo(addressBook);
+        AddressBookChange.deleteRelationship(ALICE_BENSON).applyTo(addressBook);
+        AddressBookChange.deleteAttribute(PERSON_UUID, "Email").applyTo(addressBook);
+        AddressBookChange.deleteRelationType("housemates").applyTo(addressBook);
+
+        assertEquals(expected, addressBook);
+        assertFalse(addressBook.hasPerson(person));
+    }
+}
@@ -13,6 +13,8 @@ import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -67,6 +69,56 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void addRolelessDescriptor_anotherAddressBook_notAffected() {
+        AddressBook otherAddressBook = new AddressBook();
+        addressBook.addRolelessDescriptor("housemates");
+        addressBook.addRelationship(new Relationship(UUID.randomUUID(), UUID.randomUUID(), "colleagues"));
+
+        assertTrue(addressBook.isRelationRoleless("housemates"));
+        assertFalse(otherAddressBook.isRelationRoleless("housemates"));
+        assertEquals("Valid relationship types are: [friends, siblings, spouses, bioparents]",
+                otherAddressBook.showRelationshipTypes());
+        assertEquals("Valid relationship types are: [friends, siblings, spouses, bioparents, housemates, "
+                + "colleagues]", new AddressBook(addressBook).showRelationshipTypes());
+    }
+
+    @Test
+    public void getModificationCount_changedOnlyByMutations() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        addressBook.addRolelessDescriptor("housemates");
+        assertTrue(addressBook.getModificationCount() > countAfterAdd);
+    }
+
+    @Test
+    public void getChangesSince_changesRecorded_returnsChangesInOrder() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        addressBook.addRolelessDescriptor("housemates");
+
+        assertEquals(List.of(), addressBook.getChangesSince(addressBook.getModificationCount()).get());
+        List<AddressBookChange> changes = addressBook.getChangesSince(initialCount).get();
+        assertEquals(2, changes.size());
+        assertEquals(AddressBookChange.Type.ADD_PERSON, changes.get(0).getType());
+        assertEquals(AddressBookChange.Type.ADD_ROLELESS_DESCRIPTOR, changes.get(1).getType());
+    }
+
+    @Test
+    public void getChangesSince_dataReplaced_returnsEmpty() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.resetData(getTypicalAddressBook());
+        assertFalse(addressBook.getChangesSince(initialCount).isPresent());
+        assertFalse(addressBook.getChangesSince(addressBook.getModificationCount() + 1).isPresent());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + ","
@@ -142,6 +194,16 @@ public class AddressBookTest {
         public RelationshipUtil getRelationshipDescriptors() {
             return relationshipUtil;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public Optional<List<AddressBookChange>> getChangesSince(long modificationCount) {
+            return Optional.empty();
+        }
     }
 
     @Test
@@ -100,6 +100,19 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void showPersons_filteredBefore_onlyGivenPersonsShownInBookOrder() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(HOON).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        modelManager.showPersons(Arrays.asList(HOON.getUuid(), ALICE.getUuid(), UUID.randomUUID()));
+        assertEquals(Arrays.asList(ALICE, HOON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON, HOON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -144,7 +157,7 @@ public class ModelManagerTest {
     }
 
     @Test
-    void getFullUuid_callsGetFullUuidOnAddressBook() {
+    void getFullUuid_callsGetFullUuidOnAddressBook() throws CommandException {
         modelManager.addPerson(ALICE);
         UUID result = modelManager.getFullUuid(ALICE.getUuidString().substring(32, 36));
         assertEquals(ALICE.getUuidString(), result.toString());
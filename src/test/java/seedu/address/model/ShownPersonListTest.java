@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShownPersonListTest {
+
+    private final Person amy = new PersonBuilder().withName("Amy").build();
+    private final Person bob = new PersonBuilder().withName("Bob").build();
+    private final Person cat = new PersonBuilder().withName("Cat").build();
+    private final Person dan = new PersonBuilder().withName("Dan").build();
+
+    private ObservableList<Person> source;
+    private ShownPersonList shownPersons;
+    // contents of shownPersons as its listeners see them
+    private List<Person> seenPersons;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(amy, bob, cat, dan);
+        shownPersons = new ShownPersonList(source);
+        seenPersons = new ArrayList<>(shownPersons);
+        shownPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    seenPersons = new ArrayList<>(change.getList());
+                    continue;
+                }
+                seenPersons.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                seenPersons.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_showsAll() {
+        assertTrue(shownPersons.isShowingAll());
+        assertEquals(source, shownPersons);
+    }
+
+    @Test
+    public void showOnly_personsAtPositionsShown() {
+        shownPersons.showOnly(new int[] {1, 3});
+        assertFalse(shownPersons.isShowingAll());
+        assertEquals(List.of(bob, dan), shownPersons);
+        assertEquals(shownPersons, seenPersons);
+        assertEquals(3, shownPersons.getSourceIndex(1));
+        assertEquals(1, shownPersons.getViewIndex(3));
+        assertEquals(-1, shownPersons.getViewIndex(2));
+
+        shownPersons.showOnly(new int[0]);
+        assertEquals(List.of(), shownPersons);
+        assertEquals(shownPersons, seenPersons);
+    }
+
+    @Test
+    public void showAll_afterShowOnly_allShown() {
+        shownPersons.showOnly(new int[] {2});
+        shownPersons.showAll();
+        assertTrue(shownPersons.isShowingAll());
+        assertEquals(source, shownPersons);
+        assertEquals(source, seenPersons);
+    }
+
+    @Test
+    public void sourceChanged_showingAll_changesPassedOn() {
+        Person eve = new PersonBuilder().withName("Eve").build();
+        source.add(1, eve);
+        source.remove(cat);
+        source.set(0, new PersonBuilder(amy).buildWithUuid(amy.getUuidString()));
+        assertEquals(source, shownPersons);
+        assertEquals(source, seenPersons);
+    }
+
+    @Test
+    public void sourceChanged_showingSome_shownPersonsKept() {
+        shownPersons.showOnly(new int[] {1, 3});
+
+        // persons added or removed before the shown persons -> shown persons moved
+        source.add(0, new PersonBuilder().withName("Eve").build());
+        source.remove(amy);
+        assertEquals(List.of(bob, dan), shownPersons);
+        assertEquals(3, shownPersons.getSourceIndex(1));
+
+        // shown person edited -> still shown
+        Person editedBob = new PersonBuilder(bob).withPhone(123).buildWithUuid(bob.getUuidString());
+        source.set(1, editedBob);
+        assertEquals(List.of(editedBob, dan), shownPersons);
+
+        // shown person removed -> no longer shown
+        source.remove(dan);
+        assertEquals(List.of(editedBob), shownPersons);
+
+        // person not shown replaced by another -> still not shown
+        source.set(2, new PersonBuilder().withName("Fay").build());
+        assertEquals(List.of(editedBob), shownPersons);
+        assertEquals(shownPersons, seenPersons);
+    }
+
+    @Test
+    public void sourceChanged_allReplaced_samePersonsShown() {
+        shownPersons.showOnly(new int[] {0, 2});
+        source.setAll(dan, cat, bob, amy);
+        assertEquals(List.of(cat, amy), shownPersons);
+        assertEquals(shownPersons, seenPersons);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.attribute.Attribute;
+import seedu.address.model.person.attribute.DateAttribute;
+import seedu.address.model.person.attribute.IntegerAttribute;
+import seedu.address.model.person.attribute.NameAttribute;
+import seedu.address.model.person.attribute.SexAttribute;
+import seedu.address.model.person.attribute.SexAttribute.Gender;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.model.util.FamilyTreeGenerator;
+
+public class AttributeIndexTest {
+
+    private final Person amy = new Person(new Attribute[] {new NameAttribute("Name", "Amy"),
+        new SexAttribute("Sex", Gender.FEMALE), new IntegerAttribute("Age", 34)});
+    private final Person bob = new Person(new Attribute[] {new NameAttribute("Name", "Bob"),
+        new SexAttribute("Sex", Gender.MALE), new DateAttribute("Age", LocalDate.of(1990, 1, 1))});
+
+    @Test
+    public void getPersonsInAll_ranges_personsInEveryRange() {
+        AttributeIndex index = new AttributeIndex();
+        index.build(Arrays.asList(amy, bob));
+
+        assertEquals(Set.of(amy.getUuid()),
+                index.getPersonsInAll(List.of(AttributeRange.equalTo("sex", Gender.FEMALE))));
+        assertEquals(Set.of(amy.getUuid()), index.getPersonsInAll(List.of(AttributeRange.atLeast("Age", 0))));
+        assertEquals(Set.of(bob.getUuid()),
+                index.getPersonsInAll(List.of(AttributeRange.lessThan("Age", LocalDate.of(2000, 1, 1)))));
+        assertEquals(Set.of(), index.getPersonsInAll(List.of(AttributeRange.equalTo("Sex", Gender.MALE),
+                AttributeRange.atLeast("Age", 0))));
+        assertEquals(Set.of(), index.getPersonsInAll(List.of(AttributeRange.atLeast("Height", 0))));
+        assertEquals(Set.of(), index.getPersonsInAll(Collections.emptyList()));
+    }
+
+    @Test
+    public void addRemoveUpdate_afterBuild_followPersons() {
+        AttributeIndex index = new AttributeIndex();
+        List<AttributeRange<?>> adults = List.of(AttributeRange.atLeast("Age", 18));
+        index.build(Collections.singletonList(amy));
+        Person carl = new Person(new Attribute[] {new IntegerAttribute("Age", 20)});
+        index.add(carl);
+        assertEquals(Set.of(amy.getUuid(), carl.getUuid()), index.getPersonsInAll(adults));
+
+        index.remove(amy);
+        assertEquals(Set.of(carl.getUuid()), index.getPersonsInAll(adults));
+
+        carl.updateAttribute(new IntegerAttribute("Age", 17));
+        index.update(carl);
+        assertEquals(Set.of(), index.getPersonsInAll(adults));
+        assertEquals(Set.of(carl.getUuid()), index.getPersonsInAll(List.of(AttributeRange.equalTo("Age", 17))));
+    }
+
+    @Test
+    public void add_beforeBuild_ignored() {
+        AttributeIndex index = new AttributeIndex();
+        index.add(amy);
+        assertFalse(index.isBuilt());
+
+        index.build(Collections.singletonList(bob));
+        assertTrue(index.isBuilt());
+        assertEquals(Set.of(), index.getPersonsInAll(List.of(AttributeRange.equalTo("Sex", Gender.FEMALE))));
+
+        index.clear();
+        assertFalse(index.isBuilt());
+    }
+
+    @Test
+    public void getIndexedValue() {
+        assertEquals(3, AttributeIndex.getIndexedValue(new IntegerAttribute("Age", 3)));
+        assertEquals(Gender.MALE, AttributeIndex.getIndexedValue(new SexAttribute("Sex", Gender.MALE)));
+        assertNull(AttributeIndex.getIndexedValue(new StringAttribute("Age", "3")));
+    }
+
+    @Test
+    public void getPersonsInAll_generatedBook_sameAsFullScan() {
+        AddressBook addressBook = new FamilyTreeGenerator(42).generate(300);
+        AttributeIndex index = new AttributeIndex();
+        index.build(addressBook.getPersonList());
+
+        AttributeRange<LocalDate> eighties =
+                AttributeRange.between("Birthday", LocalDate.of(1980, 1, 1), LocalDate.of(1989, 12, 31));
+        AttributeRange<Gender> women = AttributeRange.equalTo("Sex", Gender.FEMALE);
+        Set<UUID> expected = addressBook.getPersonList().stream()
+                .filter(person -> person.hasAttribute("Birthday") && person.hasAttribute("Sex"))
+                .filter(person -> isInEighties(((DateAttribute) person.getAttribute("Birthday")).getValue()))
+                .filter(person -> ((SexAttribute) person.getAttribute("Sex")).getGender() == Gender.FEMALE)
+                .map(Person::getUuid)
+                .collect(Collectors.toSet());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, index.getPersonsInAll(List.of(eighties, women)));
+    }
+
+    private static boolean isInEighties(LocalDate date) {
+        return date.getYear() >= 1980 && date.getYear() <= 1989;
+    }
+}
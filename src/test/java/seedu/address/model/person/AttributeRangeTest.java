@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class AttributeRangeTest {
+
+    @Test
+    public void between_lowerAboveUpper_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, AttributeRange.MESSAGE_CONSTRAINTS, () ->
+                AttributeRange.between("Age", 5, 3));
+    }
+
+    @Test
+    public void select() {
+        TreeMap<Integer, String> map = new TreeMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, Integer.toString(i));
+        }
+        assertEquals(List.of(3), List.copyOf(AttributeRange.equalTo("Age", 3).select(map).keySet()));
+        assertEquals(List.of(0, 1, 2), List.copyOf(AttributeRange.lessThan("Age", 3).select(map).keySet()));
+        assertEquals(List.of(0, 1, 2, 3), List.copyOf(AttributeRange.atMost("Age", 3).select(map).keySet()));
+        assertEquals(List.of(8, 9), List.copyOf(AttributeRange.greaterThan("Age", 7).select(map).keySet()));
+        assertEquals(List.of(7, 8, 9), List.copyOf(AttributeRange.atLeast("Age", 7).select(map).keySet()));
+        assertEquals(List.of(3, 4, 5, 6), List.copyOf(AttributeRange.between("Age", 3, 6).select(map).keySet()));
+        assertEquals(List.of(), List.copyOf(AttributeRange.greaterThan("Age", 9).select(map).keySet()));
+
+        TreeMap<LocalDate, String> dates = new TreeMap<>();
+        for (LocalDate date : List.of(LocalDate.of(1989, 12, 31), LocalDate.of(1990, 1, 1),
+                LocalDate.of(1999, 12, 31), LocalDate.of(2000, 1, 1))) {
+            dates.put(date, date.toString());
+        }
+        AttributeRange<LocalDate> nineties =
+                AttributeRange.between("Birthday", LocalDate.of(1990, 1, 1), LocalDate.of(1999, 12, 31));
+        assertEquals(List.of(LocalDate.of(1990, 1, 1), LocalDate.of(1999, 12, 31)),
+                List.copyOf(nineties.select(dates).keySet()));
+    }
+
+    @Test
+    public void getValueType() {
+        assertEquals(Integer.class, AttributeRange.atLeast("Age", 3).getValueType());
+        assertEquals(LocalDate.class, AttributeRange.lessThan("Birthday", LocalDate.of(2000, 1, 1)).getValueType());
+    }
+
+    @Test
+    public void equals() {
+        AttributeRange<Integer> range = AttributeRange.between("Age", 3, 6);
+
+        // same values, attribute name in another case -> returns true
+        assertEquals(range, AttributeRange.between("AGE", 3, 6));
+        assertEquals(range.hashCode(), AttributeRange.between("AGE", 3, 6).hashCode());
+
+        // different name, end or inclusiveness -> returns false
+        assertNotEquals(range, AttributeRange.between("Height", 3, 6));
+        assertNotEquals(range, AttributeRange.between("Age", 3, 7));
+        assertNotEquals(AttributeRange.atLeast("Age", 3), AttributeRange.greaterThan("Age", 3));
+        assertNotEquals(range, null);
+    }
+}
@@ -300,4 +300,24 @@ public class PersonTest {
         assertEquals(name, attributesMap.get("Name"));
         assertEquals(email, attributesMap.get("Email"));
     }
+
+    @Test
+    public void getAttribute_attributeLoader_attributesLoadedOnce() {
+        UUID uuid = UUID.randomUUID();
+        Attribute name = new NameAttribute("Name", "John Doe");
+        int[] loadCount = new int[1];
+        Person person = new Person(uuid, loadedUuid -> {
+            assertEquals(uuid, loadedUuid);
+            loadCount[0]++;
+            return new Attribute[]{name};
+        });
+
+        assertFalse(person.hasLoadedAttributes());
+        assertEquals(uuid, person.getUuid());
+        assertEquals(0, loadCount[0]);
+        assertEquals(name, person.getAttribute("Name"));
+        assertTrue(person.hasLoadedAttributes());
+        assertTrue(person.hasAttribute("Name"));
+        assertEquals(1, loadCount[0]);
+    }
 }
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.model.util.FamilyTreeGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTrigramIndexTest {
+
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withAddress("Jurong West")
+            .buildWithUuid("10000000-0000-0000-0000-00000000abcd");
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+            .withAddress("Clementi").buildWithUuid("20000000-0000-0000-0000-0000000012ab");
+
+    @Test
+    public void getCandidates_phrases_personsWithEveryTrigram() {
+        PersonTrigramIndex index = new PersonTrigramIndex();
+        index.build(Arrays.asList(amy, bob));
+
+        assertEquals(Optional.of(Set.of(amy.getUuid())), index.getCandidates(List.of("AMY")));
+        assertEquals(Optional.of(Set.of(amy.getUuid(), bob.getUuid())), index.getCandidates(List.of("bee", "choo")));
+        assertEquals(Optional.of(Set.of(bob.getUuid())), index.getCandidates(List.of("12ab")));
+        assertEquals(Optional.of(Set.of()), index.getCandidates(List.of("zzz")));
+        assertEquals(Optional.of(Set.of()), index.getCandidates(Collections.emptyList()));
+    }
+
+    @Test
+    public void getCandidates_phraseTooShort_notNarrowedDown() {
+        PersonTrigramIndex index = new PersonTrigramIndex();
+        index.build(Arrays.asList(amy, bob));
+        assertEquals(Optional.empty(), index.getCandidates(List.of("amy", "ab")));
+    }
+
+    @Test
+    public void addRemoveUpdate_afterBuild_followPersons() {
+        PersonTrigramIndex index = new PersonTrigramIndex();
+        index.build(Collections.singletonList(amy));
+        index.add(bob);
+        assertEquals(Optional.of(Set.of(bob.getUuid())), index.getCandidates(List.of("clementi")));
+
+        index.remove(amy);
+        assertEquals(Optional.of(Set.of()), index.getCandidates(List.of("amy")));
+
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        index.add(carl);
+        carl.updateAttribute(new StringAttribute("Name", "Carla"));
+        index.update(carl);
+        assertEquals(Optional.of(Set.of()), index.getCandidates(List.of("kurz")));
+        assertEquals(Optional.of(Set.of(carl.getUuid())), index.getCandidates(List.of("carla")));
+    }
+
+    @Test
+    public void add_beforeBuild_ignored() {
+        PersonTrigramIndex index = new PersonTrigramIndex();
+        index.add(amy);
+        assertFalse(index.isBuilt());
+
+        index.build(Collections.singletonList(bob));
+        assertTrue(index.isBuilt());
+        assertEquals(Optional.of(Set.of()), index.getCandidates(List.of("amy")));
+
+        index.clear();
+        assertFalse(index.isBuilt());
+    }
+
+    @Test
+    public void getCandidates_generatedBook_includeEveryMatchingPerson() {
+        AddressBook addressBook = new FamilyTreeGenerator(42).generate(300);
+        PersonTrigramIndex index = new PersonTrigramIndex();
+        index.build(addressBook.getPersonList());
+
+        for (String phrase : Arrays.asList("mar", "TAN", "@example", "1990", "fem", "son")) {
+            List<String> phrases = Collections.singletonList(phrase);
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(phrases);
+            Set<UUID> matching = addressBook.getPersonList().stream()
+                    .filter(predicate)
+                    .map(Person::getUuid)
+                    .collect(Collectors.toSet());
+            Set<UUID> candidates = index.getCandidates(phrases).get();
+            assertTrue(candidates.containsAll(matching), phrase);
+        }
+    }
+}
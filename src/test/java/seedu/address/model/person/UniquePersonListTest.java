@@ -14,14 +14,18 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.attribute.Attribute;
 import seedu.address.model.person.attribute.NameAttribute;
+import seedu.address.model.person.attribute.PhoneNumberAttribute;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
 
@@ -181,6 +185,78 @@ public class UniquePersonListTest {
         assertEquals(ALICE.getUuid(), foundUuid);
     }
 
+    @Test
+    public void getFullUuid_afterRemoveAndSetPersons_followsList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getFullUuid(ALICE.getLastFourCharacterOfUuid()));
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, IDA));
+        assertEquals(IDA.getUuid(), uniquePersonList.getFullUuid(IDA.getLastFourCharacterOfUuid()));
+
+        uniquePersonList.setPerson(IDA, BOB);
+        assertNull(uniquePersonList.getFullUuid(IDA.getLastFourCharacterOfUuid()));
+        assertEquals(BOB.getUuid(), uniquePersonList.getFullUuid(BOB.getLastFourCharacterOfUuid()));
+    }
+
+    @Test
+    public void getCandidatesContainingAny_afterChanges_followsPersons() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        uniquePersonList.add(amy);
+        assertEquals(Optional.of(Set.of(amy.getUuid())), uniquePersonList.getCandidatesContainingAny(List.of("bee")));
+
+        // changes after the index is built
+        uniquePersonList.add(bob);
+        assertEquals(Optional.of(Set.of(bob.getUuid())), uniquePersonList.getCandidatesContainingAny(List.of("choo")));
+        uniquePersonList.updateAttribute(bob.getUuidString(), new NameAttribute("Name", "Bob Tan"));
+        assertEquals(Optional.of(Set.of()), uniquePersonList.getCandidatesContainingAny(List.of("choo")));
+        uniquePersonList.deleteAttribute(amy.getUuidString(), "Name");
+        assertEquals(Optional.of(Set.of()), uniquePersonList.getCandidatesContainingAny(List.of("bee")));
+        uniquePersonList.remove(bob);
+        assertEquals(Optional.of(Set.of()), uniquePersonList.getCandidatesContainingAny(List.of("tan")));
+        uniquePersonList.setPersons(Collections.singletonList(bob));
+        assertEquals(Optional.of(Set.of(bob.getUuid())), uniquePersonList.getCandidatesContainingAny(List.of("tan")));
+
+        // too short to narrow down
+        assertEquals(Optional.empty(), uniquePersonList.getCandidatesContainingAny(List.of("ta")));
+    }
+
+    @Test
+    public void getPersonsInAllRanges_afterChanges_followsPersons() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone(91234567).build();
+        List<AttributeRange<?>> ranges = List.of(AttributeRange.greaterThan("Phone", 90000000));
+        uniquePersonList.add(amy);
+        assertEquals(Set.of(amy.getUuid()), uniquePersonList.getPersonsInAllRanges(ranges));
+
+        // changes after the index is built
+        uniquePersonList.updateAttribute(amy.getUuidString(), new PhoneNumberAttribute("Phone", 81234567));
+        assertEquals(Set.of(), uniquePersonList.getPersonsInAllRanges(ranges));
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone(98765432).build();
+        uniquePersonList.setPerson(amy, bob);
+        assertEquals(Set.of(bob.getUuid()), uniquePersonList.getPersonsInAllRanges(ranges));
+        uniquePersonList.deleteAttribute(bob.getUuidString(), "Phone");
+        assertEquals(Set.of(), uniquePersonList.getPersonsInAllRanges(ranges));
+        uniquePersonList.setPersons(Collections.singletonList(new PersonBuilder().withPhone(99999999).build()));
+        assertEquals(1, uniquePersonList.getPersonsInAllRanges(ranges).size());
+    }
+
+    @Test
+    public void hasShortUuidCollision_sharedLastFourCharacters_detectedAndFirstAddedReturned() {
+        Person first = new PersonBuilder().withName("Amy Bee").buildWithUuid("10000000-0000-0000-0000-00000000abcd");
+        Person second = new PersonBuilder().withName("Bob Bee").buildWithUuid("20000000-0000-0000-0000-00000000abcd");
+        uniquePersonList.add(first);
+        assertFalse(uniquePersonList.hasShortUuidCollision("abcd"));
+
+        uniquePersonList.add(second);
+        assertTrue(uniquePersonList.hasShortUuidCollision("abcd"));
+        assertEquals(first.getUuid(), uniquePersonList.getFullUuid("abcd"));
+
+        uniquePersonList.remove(first);
+        assertFalse(uniquePersonList.hasShortUuidCollision("abcd"));
+        assertEquals(second.getUuid(), uniquePersonList.getFullUuid("abcd"));
+    }
+
     @Test
     void hasAttribute_existingAttribute_returnsTrue() {
         uniquePersonList.add(ALICE);
@@ -188,6 +264,27 @@ public class UniquePersonListTest {
         assertTrue(result);
     }
 
+    @Test
+    public void getPersonByUuid_afterRemovingEarlierPerson_returnsLaterPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, IDA));
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getPersonByUuid(ALICE.getUuid()));
+        assertEquals(BOB, uniquePersonList.getPersonByUuid(BOB.getUuid()));
+        assertEquals(IDA, uniquePersonList.getPersonByUuid(IDA.getUuid()));
+
+        uniquePersonList.setPerson(IDA, ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(IDA));
+    }
+
+    @Test
+    void hasAttribute_malformedUuid_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.hasAttribute("not a uuid", "Phone"));
+        assertFalse(uniquePersonList.hasAttribute("0-0-0-0-1", "Phone"));
+    }
+
     @Test
     void hasAttribute_nonExistingAttribute_returnsFalse() {
         boolean result = uniquePersonList.hasAttribute(ALICE.getUuidString(), "NonExistentAttribute");
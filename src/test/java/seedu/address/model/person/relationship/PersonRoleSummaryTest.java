@@ -0,0 +1,60 @@
+package seedu.address.model.person.relationship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonRoleSummaryTest {
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CHARLIE = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Test
+    public void add_bioparentsRelationships_countsOnlyThoseAsChild() {
+        PersonRoleSummary summary = new PersonRoleSummary(ALICE);
+        summary.add(new BioParentsRelationship(BOB, ALICE, "parent", "child"));
+        summary.add(new BioParentsRelationship(ALICE, CHARLIE, "parent", "child"));
+        summary.add(new Relationship(ALICE, BOB, "friends"));
+
+        assertEquals(1, summary.getBioparentsCount());
+        assertEquals(2, summary.getDegree("bioparents"));
+        assertEquals(1, summary.getDegree("friends"));
+        assertEquals(0, summary.getDegree("siblings"));
+    }
+
+    @Test
+    public void getInferredGenderRole_severalRelationships_returnsLatestRole() {
+        PersonRoleSummary summary = new PersonRoleSummary(ALICE);
+        assertNull(summary.getInferredGenderRole());
+
+        Relationship siblings = new SiblingRelationship(ALICE, BOB, "brother", "sister");
+        Relationship spouses = new SpousesRelationship(CHARLIE, ALICE, "wife", "husband");
+        summary.add(siblings);
+        summary.add(spouses);
+        assertEquals("husband", summary.getInferredGenderRole());
+
+        summary.remove(spouses);
+        assertEquals("brother", summary.getInferredGenderRole());
+    }
+
+    @Test
+    public void getRoleConflictingWithGender_conflictingRoles_returnsEarliestConflict() {
+        PersonRoleSummary summary = new PersonRoleSummary(ALICE);
+        Relationship siblings = new SiblingRelationship(ALICE, BOB, "brother", "sister");
+        Relationship spouses = new SpousesRelationship(ALICE, CHARLIE, "husband", "wife");
+        summary.add(siblings);
+        summary.add(spouses);
+
+        assertEquals("brother", summary.getRoleConflictingWithGender("F"));
+        assertNull(summary.getRoleConflictingWithGender("male"));
+
+        summary.remove(siblings);
+        assertEquals("husband", summary.getRoleConflictingWithGender("female"));
+        summary.remove(spouses);
+        assertNull(summary.getRoleConflictingWithGender("female"));
+        assertEquals(0, summary.getDegree("spouses"));
+    }
+}
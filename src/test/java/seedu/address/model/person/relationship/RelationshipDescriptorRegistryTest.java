@@ -0,0 +1,72 @@
+package seedu.address.model.person.relationship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RelationshipDescriptorRegistryTest {
+
+    @Test
+    public void constructor_defaultDescriptors() {
+        RelationshipDescriptorRegistry registry = new RelationshipDescriptorRegistry();
+        assertEquals(List.of("friends", "siblings", "spouses", "bioparents"), registry.getDescriptors());
+        assertTrue(registry.isRoleless("friends"));
+        assertTrue(registry.isRoleBased("siblings"));
+        assertEquals(List.of("parent", "child"), registry.getRoles("bioparents"));
+    }
+
+    @Test
+    public void register_differentCase_sameId() {
+        RelationshipDescriptorRegistry registry = new RelationshipDescriptorRegistry();
+        int id = registry.register("housemates");
+        assertEquals(id, registry.register("Housemates"));
+        assertEquals(id, registry.getId("HOUSEMATES"));
+        assertEquals(-1, registry.getId("colleagues"));
+        assertEquals("housemates", registry.getDescriptors().get(4));
+    }
+
+    @Test
+    public void addRoleBased_duplicatePairs_storedOnce() {
+        RelationshipDescriptorRegistry registry = new RelationshipDescriptorRegistry();
+        registry.addRoleBased("mentors", "mentor", "mentee");
+        registry.addRoleBased("mentors", "mentee", "mentor");
+        assertEquals(List.of("mentor", "mentee"), registry.getRoles("Mentors"));
+        assertTrue(registry.hasRoles("mentors", "mentee", "mentor"));
+        assertFalse(registry.hasRoles("mentors", "mentor", "mentor"));
+    }
+
+    @Test
+    public void remove_roleBasedDescriptor_rolesRemoved() {
+        RelationshipDescriptorRegistry registry = new RelationshipDescriptorRegistry();
+        registry.addRoleBased("mentors", "mentor", "mentee");
+        registry.remove("mentors");
+        assertFalse(registry.isRegistered("mentors"));
+        assertFalse(registry.isRoleBased("mentors"));
+        assertFalse(registry.hasRoles("mentors", "mentor", "mentee"));
+
+        registry.addRoleBased("mentors", "teacher", "student");
+        assertEquals(List.of("teacher", "student"), registry.getRoles("mentors"));
+    }
+
+    @Test
+    public void setDescriptors_copiesAreIndependent() {
+        RelationshipDescriptorRegistry registry = new RelationshipDescriptorRegistry();
+        registry.setDescriptors(new ArrayList<>(Arrays.asList("friends", "colleagues")),
+                List.of(List.of("bioparents", "parent", "child")));
+        assertTrue(registry.isRoleless("colleagues"));
+        assertFalse(registry.isRoleBased("siblings"));
+        assertEquals(List.of(new ArrayList<>(Arrays.asList("bioparents", "parent", "child"))),
+                registry.getRoleBasedDescriptors());
+
+        RelationshipDescriptorRegistry copy = new RelationshipDescriptorRegistry(registry);
+        copy.addRoleless("housemates");
+        assertTrue(copy.isRoleless("colleagues"));
+        assertFalse(registry.isRegistered("housemates"));
+    }
+}
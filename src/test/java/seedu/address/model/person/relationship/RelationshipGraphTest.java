@@ -0,0 +1,96 @@
+package seedu.address.model.person.relationship;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class RelationshipGraphTest {
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CHARLIE = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID DIANA = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    private final Relationship aliceBobFriends = new Relationship(ALICE, BOB, "friends");
+    private final Relationship bobDianaFriends = new Relationship(BOB, DIANA, "friends");
+    private final Relationship aliceCharlieParent = new BioParentsRelationship(ALICE, CHARLIE, "parent", "child");
+    private final Relationship charlieDianaSiblings = new SiblingRelationship(CHARLIE, DIANA, "brother", "sister");
+
+    @Test
+    public void search_anyMask_usesFirstAddedRelationshipsFirst() {
+        RelationshipGraph graph = new RelationshipGraph();
+        graph.rebuild(List.of(aliceBobFriends, aliceCharlieParent, bobDianaFriends, charlieDianaSiblings));
+
+        RelationshipGraph.Path path = graph.search(ALICE, DIANA, RelationshipGraph.ANY_MASK);
+        assertArrayEquals(new UUID[] {ALICE, BOB, DIANA}, path.getPersons());
+        assertArrayEquals(new Relationship[] {aliceBobFriends, bobDianaFriends}, path.getRelationships());
+    }
+
+    @Test
+    public void search_familyMask_skipsOtherRelationships() {
+        RelationshipGraph graph = new RelationshipGraph();
+        graph.rebuild(List.of(aliceBobFriends, aliceCharlieParent, bobDianaFriends, charlieDianaSiblings));
+
+        RelationshipGraph.Path path = graph.search(ALICE, DIANA, RelationshipGraph.FAMILY_MASK);
+        assertArrayEquals(new UUID[] {ALICE, CHARLIE, DIANA}, path.getPersons());
+        assertNull(graph.search(ALICE, BOB, RelationshipGraph.FAMILY_MASK));
+
+        RelationshipGraph.Path bidirectionalPath = graph.bidirectionalSearch(DIANA, ALICE,
+                RelationshipGraph.FAMILY_MASK);
+        assertArrayEquals(new UUID[] {DIANA, CHARLIE, ALICE}, bidirectionalPath.getPersons());
+        assertArrayEquals(new Relationship[] {charlieDianaSiblings, aliceCharlieParent},
+                bidirectionalPath.getRelationships());
+    }
+
+    @Test
+    public void getExpandedCount_afterSearch_personsWhoseRelationshipsWereGoneThrough() {
+        RelationshipGraph graph = new RelationshipGraph();
+        graph.rebuild(List.of(aliceBobFriends, aliceCharlieParent, bobDianaFriends, charlieDianaSiblings));
+
+        // alice, then bob, who is related to diana
+        graph.search(ALICE, DIANA, RelationshipGraph.ANY_MASK);
+        assertEquals(2, graph.getExpandedCount());
+
+        // alice, charlie and diana, none of whom is family of bob
+        graph.search(ALICE, BOB, RelationshipGraph.FAMILY_MASK);
+        assertEquals(3, graph.getExpandedCount());
+
+        // alice from the origin, then diana from the target, who is related to bob
+        graph.bidirectionalSearch(ALICE, DIANA, RelationshipGraph.ANY_MASK);
+        assertEquals(2, graph.getExpandedCount());
+
+        graph.search(ALICE, UUID.randomUUID(), RelationshipGraph.ANY_MASK);
+        assertEquals(0, graph.getExpandedCount());
+    }
+
+    @Test
+    public void rebuild_removedRelationships_noLongerTraversed() {
+        RelationshipGraph graph = new RelationshipGraph();
+        graph.rebuild(List.of(aliceBobFriends, bobDianaFriends));
+        assertEquals(2, graph.bidirectionalSearch(ALICE, DIANA, RelationshipGraph.ANY_MASK)
+                .getRelationships().length);
+
+        graph.rebuild(List.of(aliceBobFriends));
+        assertNull(graph.search(ALICE, DIANA, RelationshipGraph.ANY_MASK));
+        assertNull(graph.bidirectionalSearch(ALICE, DIANA, RelationshipGraph.ANY_MASK));
+    }
+
+    @Test
+    public void descriptorMask_differentDescriptors_differentBits() {
+        RelationshipGraph graph = new RelationshipGraph();
+        graph.rebuild(List.of(aliceBobFriends, aliceCharlieParent));
+
+        int friendsMask = graph.descriptorMask("friends");
+        int bioparentsMask = graph.descriptorMask("bioparents");
+        assertNotEquals(0, friendsMask);
+        assertEquals(0, friendsMask & bioparentsMask);
+        assertEquals(0, friendsMask & RelationshipGraph.FAMILY_MASK);
+        assertArrayEquals(new UUID[] {ALICE, BOB}, graph.search(ALICE, BOB, friendsMask).getPersons());
+        assertNull(graph.search(ALICE, CHARLIE, friendsMask));
+    }
+}
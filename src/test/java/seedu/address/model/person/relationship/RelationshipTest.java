@@ -60,6 +60,12 @@ public class RelationshipTest {
         assertEquals(test1.equals(test4), false);
     }
     @Test
+    public void hashCode_equalRelationshipsInEitherOrder_sameHashCode() {
+        Relationship test1 = new Relationship(PERSON_1_UUID, PERSON_2_UUID, SIBLINGS_RELATIONSHIP_DESCRIPTOR);
+        Relationship test2 = new Relationship(PERSON_2_UUID, PERSON_1_UUID, SIBLINGS_RELATIONSHIP_DESCRIPTOR);
+        assertEquals(test1.hashCode(), test2.hashCode());
+    }
+    @Test
     public void testStringMethod() {
         Relationship test1 = new Relationship(PERSON_1_UUID, PERSON_2_UUID, SIBLINGS_RELATIONSHIP_DESCRIPTOR);
         assertEquals(
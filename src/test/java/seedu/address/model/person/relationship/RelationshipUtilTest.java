@@ -2,15 +2,19 @@ package seedu.address.model.person.relationship;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.util.ResultContainer;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.attribute.Attribute;
 import seedu.address.model.person.attribute.NameAttribute;
@@ -249,6 +253,17 @@ public class RelationshipUtilTest {
         assertFalse(relationshipUtil2.hasRelationship(relationship5));
     }
 
+    @Test
+    public void deleteRelationshipsOfPerson_onlySelfRelationships_notFoundBySearch() {
+        UUID uuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        relationshipUtil.addRelationship(new Relationship(uuid, uuid, "friends"));
+        assertNotNull(relationshipUtil.anySearchForTreeMap(uuid, uuid));
+
+        relationshipUtil.deleteRelationshipsOfPerson(uuid);
+        assertNull(relationshipUtil.anySearchForTreeMap(uuid, uuid));
+    }
+
     @Test
     public void testSuccessfulAnySearchForTreeMapReturnsNull() {
         UUID aliceUuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
@@ -477,6 +492,133 @@ public class RelationshipUtilTest {
         relationshipUtil.addRelationship(new Relationship(aliceUuid, bobUuid, relationType));
         relationshipUtil.deleteRelationship(new Relationship(aliceUuid, bobUuid, relationType));
         relationshipUtil.deleteRelationType(relationType);
-        assertFalse(RelationshipUtil.rolelessDescriptors.contains(relationType));
+        assertFalse(relationshipUtil.isRelationRoleless(relationType));
+        assertThrows(IllegalArgumentException.class, () -> relationshipUtil.deleteRelationType(relationType));
+    }
+
+    @Test
+    public void anySearchForTreeMap_deletedRelationship_notTraversed() {
+        UUID aliceUuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID bobUuid = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID charlieUuid = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        relationshipUtil.addRelationship(new Relationship(aliceUuid, bobUuid, "friends"));
+        relationshipUtil.addRelationship(new Relationship(bobUuid, charlieUuid, "friends"));
+
+        ResultContainer result = relationshipUtil.anySearchForTreeMap(aliceUuid, charlieUuid);
+        assertEquals("0001 --> friends of --> 0002 --> friends of --> 0003", result.getRelationshipPathway());
+        assertEquals(2, result.getRelationships().size());
+
+        relationshipUtil.deleteRelationship(new Relationship(charlieUuid, bobUuid, "friends"));
+        assertEquals(null, relationshipUtil.anySearchForTreeMap(aliceUuid, charlieUuid));
+        assertTrue(relationshipUtil.getRelationshipsOfPerson(charlieUuid).isEmpty());
+    }
+
+    @Test
+    public void getRelationshipsOfPerson_afterSetAndDeleteOfPerson_consistentWithTracker() {
+        UUID aliceUuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID bobUuid = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID charlieUuid = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        Relationship aliceBob = new Relationship(aliceUuid, bobUuid, "friends");
+        Relationship bobCharlie = new Relationship(bobUuid, charlieUuid, "friends");
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        relationshipUtil.setRelationships(List.of(aliceBob, bobCharlie));
+
+        assertEquals(List.of(aliceBob, bobCharlie), relationshipUtil.getRelationshipsOfPerson(bobUuid));
+
+        relationshipUtil.deleteRelationshipsOfPerson(bobUuid);
+        assertTrue(relationshipUtil.getRelationshipsOfPerson(aliceUuid).isEmpty());
+        assertTrue(relationshipUtil.getRelationshipsOfPerson(bobUuid).isEmpty());
+        assertTrue(relationshipUtil.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void bidirectionalSearchForTreeMap_sameShapeAsOneSidedSearch() {
+        UUID aliceUuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID bobUuid = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID charlieUuid = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        UUID dianaUuid = UUID.fromString("00000000-0000-0000-0000-000000000004");
+        UUID elenaUuid = UUID.fromString("00000000-0000-0000-0000-000000000005");
+        UUID fionaUuid = UUID.fromString("00000000-0000-0000-0000-000000000006");
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        relationshipUtil.addRelationship(new BioParentsRelationship(aliceUuid, bobUuid, "parent", "child"));
+        relationshipUtil.addRelationship(new BioParentsRelationship(bobUuid, charlieUuid, "parent", "child"));
+        relationshipUtil.addRelationship(new SiblingRelationship(charlieUuid, dianaUuid, "brother", "sister"));
+        relationshipUtil.addRelationship(new BioParentsRelationship(dianaUuid, elenaUuid, "parent", "child"));
+        relationshipUtil.addRelationship(new Relationship(aliceUuid, fionaUuid, "friends"));
+        relationshipUtil.addRelationship(new Relationship(fionaUuid, elenaUuid, "friends"));
+
+        ResultContainer oneSided = relationshipUtil.familySearchForTreeMap(aliceUuid, elenaUuid);
+        ResultContainer bidirectional = relationshipUtil.bidirectionalSearchForTreeMap(aliceUuid, elenaUuid, true);
+        assertEquals(oneSided.getPersons(), bidirectional.getPersons());
+        assertEquals(oneSided.getRelationships(), bidirectional.getRelationships());
+        assertEquals(oneSided.getRelationshipPathway(), bidirectional.getRelationshipPathway());
+        assertEquals(4, bidirectional.getRelationships().size());
+
+        // friends relationships give a shorter path when any relationship may be used
+        bidirectional = relationshipUtil.bidirectionalSearchForTreeMap(aliceUuid, elenaUuid, false);
+        assertEquals("0001 --> friends of --> 0006 --> friends of --> 0005", bidirectional.getRelationshipPathway());
+        assertEquals(List.of(aliceUuid, fionaUuid, elenaUuid), bidirectional.getPersons());
+    }
+
+    @Test
+    public void bidirectionalSearchForTreeMap_noPath_returnsNull() {
+        UUID aliceUuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID bobUuid = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID charlieUuid = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        relationshipUtil.addRelationship(new Relationship(aliceUuid, bobUuid, "friends"));
+
+        assertEquals(null, relationshipUtil.bidirectionalSearchForTreeMap(aliceUuid, charlieUuid, false));
+        assertEquals(null, relationshipUtil.bidirectionalSearchForTreeMap(aliceUuid, bobUuid, true));
+    }
+
+    @Test
+    public void hasRelationshipWithDescriptor_afterAddAndDelete_matchesTrackerIgnoringCase() {
+        UUID aliceUuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID bobUuid = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        Relationship friends = new Relationship(aliceUuid, bobUuid, "friends");
+        Relationship duplicateFriends = new Relationship(bobUuid, aliceUuid, "friends");
+        relationshipUtil.addRelationship(friends);
+        relationshipUtil.addRelationship(duplicateFriends);
+
+        Relationship upperCaseFriends = new Relationship(bobUuid, aliceUuid, "Friends");
+        assertTrue(relationshipUtil.hasRelationshipWithDescriptor(upperCaseFriends));
+        assertFalse(relationshipUtil.hasRelationship(upperCaseFriends));
+        assertEquals(friends.toString(), relationshipUtil.getExistingRelationship(duplicateFriends));
+
+        relationshipUtil.deleteRelationship(friends);
+        assertTrue(relationshipUtil.hasRelationship(friends));
+        assertTrue(relationshipUtil.descriptorExists("friends"));
+        assertEquals(duplicateFriends.toString(), relationshipUtil.getExistingRelationship(friends));
+
+        relationshipUtil.deleteRelationshipsOfPerson(aliceUuid);
+        assertFalse(relationshipUtil.hasRelationshipWithDescriptor(upperCaseFriends));
+        assertFalse(relationshipUtil.descriptorExists("friends"));
+        assertThrows(IllegalArgumentException.class, () -> relationshipUtil.getExistingRelationship(friends));
+    }
+
+    @Test
+    public void genderCheck_afterRelationshipsChange_usesCurrentRoles() throws Exception {
+        UUID aliceUuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID bobUuid = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID charlieUuid = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        RelationshipUtil relationshipUtil = new RelationshipUtil();
+        Relationship siblings = new SiblingRelationship(aliceUuid, bobUuid, "brother", "sister");
+        relationshipUtil.addRelationship(siblings);
+        relationshipUtil.addRelationship(new BioParentsRelationship(charlieUuid, aliceUuid, "parent", "child"));
+
+        assertThrows(CommandException.class, () -> relationshipUtil.genderCheck(aliceUuid, "female"));
+        relationshipUtil.genderCheck(bobUuid, "female");
+        assertEquals(1, relationshipUtil.getRoleSummary(aliceUuid).getBioparentsCount());
+        assertEquals("sister", relationshipUtil.getRoleSummary(bobUuid).getInferredGenderRole());
+
+        relationshipUtil.deleteRelationship(siblings);
+        relationshipUtil.genderCheck(aliceUuid, "female");
+        assertEquals(null, relationshipUtil.getRoleSummary(bobUuid).getInferredGenderRole());
+
+        relationshipUtil.deleteRelationshipsOfPerson(charlieUuid);
+        assertEquals(0, relationshipUtil.getRoleSummary(aliceUuid).getBioparentsCount());
     }
 }
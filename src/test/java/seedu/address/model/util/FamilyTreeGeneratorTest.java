@@ -0,0 +1,86 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.DateAttribute;
+import seedu.address.model.person.relationship.BioParentsRelationship;
+import seedu.address.model.person.relationship.Relationship;
+
+public class FamilyTreeGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        assertEquals(new FamilyTreeGenerator(1).generate(500), new FamilyTreeGenerator(1).generate(500));
+
+        FamilyTreeGenerator generator = new FamilyTreeGenerator(1);
+        assertEquals(generator.generate(500), generator.generate(500));
+    }
+
+    @Test
+    public void generate_differentSeeds_differentAddressBooks() {
+        assertNotEquals(new FamilyTreeGenerator(1).generate(500), new FamilyTreeGenerator(2).generate(500));
+    }
+
+    @Test
+    public void generate_personCount_exactlyThatManyPersons() {
+        for (int personCount : new int[] {0, 1, 2, 3, 99, 1000}) {
+            assertEquals(personCount, new FamilyTreeGenerator(1).generate(personCount).getPersonList().size());
+        }
+    }
+
+    @Test
+    public void generate_invalidPersonCount_throwsIllegalArgumentException() {
+        FamilyTreeGenerator generator = new FamilyTreeGenerator(1);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                generator.generate(FamilyTreeGenerator.MAX_PERSON_COUNT + 1));
+    }
+
+    @Test
+    public void generate_largeAddressBook_allKindsOfRelationships() {
+        AddressBook addressBook = new FamilyTreeGenerator(1).generate(2000);
+        Set<String> descriptors = new HashSet<>();
+        for (Relationship relationship : addressBook.getRelationshipList()) {
+            descriptors.add(relationship.getRelationshipDescriptor());
+        }
+        assertEquals(Set.of("bioparents", "siblings", "spouses", "friends", FamilyTreeGenerator.COLLEAGUES_DESCRIPTOR,
+                FamilyTreeGenerator.GODPARENTS_DESCRIPTOR), descriptors);
+        assertTrue(addressBook.hasRoleBasedDescriptor(FamilyTreeGenerator.GODPARENTS_DESCRIPTOR, "godparent",
+                "godchild"));
+        assertTrue(addressBook.isRelationRoleless(FamilyTreeGenerator.COLLEAGUES_DESCRIPTOR));
+    }
+
+    @Test
+    public void generate_largeAddressBook_twoParentsBornBeforeEachChild() {
+        AddressBook addressBook = new FamilyTreeGenerator(1).generate(2000);
+        Map<UUID, LocalDate> birthdays = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            birthdays.put(person.getUuid(), ((DateAttribute) person.getAttribute("Birthday")).getValue());
+        }
+        Map<UUID, Integer> parentCounts = new HashMap<>();
+        for (Relationship relationship : addressBook.getRelationshipList()) {
+            if (relationship instanceof BioParentsRelationship) {
+                UUID parent = relationship.getPerson1();
+                UUID child = relationship.getPerson2();
+                assertTrue(birthdays.get(parent).isBefore(birthdays.get(child)));
+                parentCounts.merge(child, 1, Integer::sum);
+            }
+        }
+        assertTrue(parentCounts.size() > 1000);
+        parentCounts.values().forEach(count -> assertEquals(2, (int) count));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.SexAttribute;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.model.person.relationship.SiblingRelationship;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookAssemblerTest {
+    private static final String UUID_1 = "00000000-0000-0000-0000-000000000001";
+    private static final String UUID_2 = "00000000-0000-0000-0000-000000000002";
+
+    @Test
+    public void addPerson_duplicatePerson_throwsIllegalValueException() throws Exception {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.addPerson(new PersonBuilder().withName("Alice").buildWithUuid(UUID_1));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                assembler.addPerson(new PersonBuilder().withName("Bob").buildWithUuid(UUID_1)));
+    }
+
+    @Test
+    public void addRelationship_duplicateRelationship_throwsIllegalValueException() throws Exception {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.addPerson(new PersonBuilder().withName("Alice").buildWithUuid(UUID_1));
+        assembler.addPerson(new PersonBuilder().withName("Bob").buildWithUuid(UUID_2));
+        assembler.addRelationship(new Relationship(UUID.fromString(UUID_1), UUID.fromString(UUID_2), "friends"));
+        assertThrows(IllegalValueException.class, "Duplicate relationship found.", () ->
+                assembler.addRelationship(new Relationship(UUID.fromString(UUID_2), UUID.fromString(UUID_1),
+                        "friends")));
+    }
+
+    @Test
+    public void addRelationship_roleContradictsSex_throwsIllegalValueException() throws Exception {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        Person alice = new PersonBuilder().withName("Alice").buildWithUuid(UUID_1);
+        alice.updateAttribute(new SexAttribute("Sex", SexAttribute.Gender.FEMALE));
+        assembler.addPerson(alice);
+        assembler.addPerson(new PersonBuilder().withName("Bob").buildWithUuid(UUID_2));
+        assertThrows(IllegalValueException.class, "Relationship role brother does not match with " + UUID_1
+                + "'s sex attribute gender", () -> assembler.addRelationship(new SiblingRelationship(
+                        UUID.fromString(UUID_1), UUID.fromString(UUID_2), "brother", "brother")));
+    }
+
+    @Test
+    public void addRelationship_manyPersonsWithSex_finishesQuickly() {
+        int personCount = 20_000;
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            Person person = new PersonBuilder().withName("Person").buildWithUuid(new UUID(0, i + 1).toString());
+            person.updateAttribute(new SexAttribute("Sex", i % 2 == 0 ? SexAttribute.Gender.MALE
+                    : SexAttribute.Gender.FEMALE));
+            persons.add(person);
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (Person person : persons) {
+                assembler.addPerson(person);
+            }
+            for (int i = 0; i + 1 < personCount; i += 2) {
+                assembler.addRelationship(new SiblingRelationship(persons.get(i).getUuid(),
+                        persons.get(i + 1).getUuid(), "brother", "sister"));
+                assembler.addRelationship(new Relationship(persons.get(i).getUuid(),
+                        persons.get((i + 2) % personCount).getUuid(), "friends"));
+            }
+        });
+        assertEquals(personCount, assembler.getAddressBook().getRelationshipList().size());
+    }
+}
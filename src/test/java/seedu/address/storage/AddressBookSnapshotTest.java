@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void toJsonSerializable_unchangedAddressBook_sameAsConverted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook fromSnapshot = new AddressBookSnapshot(addressBook).toJsonSerializable().toModelType();
+        assertEquals(new JsonSerializableAddressBook(addressBook).toModelType(), fromSnapshot);
+        assertEquals(addressBook.getRelationshipList(), fromSnapshot.getRelationshipList());
+    }
+
+    @Test
+    public void toJsonSerializable_changedAfterSnapshot_snapshotStateConverted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person person = new PersonBuilder().withName("Ellen Goh").build();
+        addressBook.addPerson(person);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        person.updateAttribute(new StringAttribute("Name", "Ellen Tan"));
+        person.deleteAttribute("Phone");
+        Person other = new PersonBuilder().withName("Fiona Kunz").build();
+        addressBook.addPerson(other);
+        addressBook.addRelationship(new Relationship(person.getUuid(), other.getUuid(), "friend"));
+
+        AddressBook converted = snapshot.toJsonSerializable().toModelType();
+        Person convertedPerson = converted.getPersonByUuid(person.getUuid());
+        assertEquals("Ellen Goh", convertedPerson.getAttribute("Name").getValueAsString());
+        assertEquals(person.getAttributesMap().size() + 1, convertedPerson.getAttributesMap().size());
+        assertEquals(addressBook.getPersonList().size() - 1, converted.getPersonList().size());
+        assertEquals(addressBook.getRelationshipList().size() - 1, converted.getRelationshipList().size());
+    }
+}
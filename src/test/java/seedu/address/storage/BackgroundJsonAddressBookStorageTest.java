@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsUuid.HOON;
+import static seedu.address.testutil.TypicalPersonsUuid.IDA;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.testutil.PersonBuilder;
+
+public class BackgroundJsonAddressBookStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_latestAddressBookWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        BackgroundJsonAddressBookStorage storage = new BackgroundJsonAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+
+        AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_savedStateWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        BackgroundJsonAddressBookStorage storage = new BackgroundJsonAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_attributeChangedInPlaceAfterSave_savedStateWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        BackgroundJsonAddressBookStorage storage = new BackgroundJsonAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        Person person = new PersonBuilder().withName("Ellen Goh").build();
+        addressBook.addPerson(person);
+
+        storage.saveAddressBook(addressBook);
+        person.updateAttribute(new StringAttribute("Name", "Ellen Tan"));
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals("Ellen Goh", readBack.getPersonByUuid(person.getUuid()).getAttribute("Name").getValueAsString());
+    }
+
+    @Test
+    public void saveAddressBook_writeFailed_nextSaveThrows() throws Exception {
+        // a directory cannot be replaced by the data file
+        Path filePath = Files.createDirectories(testFolder.resolve("addressBook.json").resolve("child")).getParent();
+        BackgroundJsonAddressBookStorage storage = new BackgroundJsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flushAddressBook);
+
+        // failure is only reported once
+        storage.flushAddressBook();
+    }
+
+    @Test
+    public void flushAddressBook_nothingSaved_fileNotCreated() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new BackgroundJsonAddressBookStorage(filePath).flushAddressBook();
+        assertFalse(Files.exists(filePath));
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsUuid.ALICE;
+import static seedu.address.testutil.TypicalPersonsUuid.HOON;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.BirthdayAttribute;
+import seedu.address.model.person.attribute.DateAttribute;
+import seedu.address.model.person.attribute.IntegerAttribute;
+import seedu.address.model.person.attribute.SexAttribute;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final String TYPED_PERSON_UUID = "00000000-0000-0000-0000-000000000099";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("addressbook.BIN")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("bin")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addRolelessDescriptor("housemates");
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getRelationshipList(), readBack.getRelationshipList());
+        assertTrue(readBack.isRelationRoleless("housemates"));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_typedAttributes_typesKept() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        Person person = new PersonBuilder().withName("Typed Person").buildWithUuid(TYPED_PERSON_UUID);
+        person.updateAttribute(new IntegerAttribute("Age", 42));
+        person.updateAttribute(new DateAttribute("Anniversary", LocalDate.of(2020, 2, 29)));
+        person.updateAttribute(new BirthdayAttribute("Birthday", LocalDate.of(1990, 1, 1)));
+        person.updateAttribute(new SexAttribute("Sex", SexAttribute.Gender.FEMALE));
+        original.addPerson(person);
+
+        storage.saveAddressBook(original);
+        Person readPerson = storage.readAddressBook().get().getPersonList().get(0);
+        assertEquals(42, ((IntegerAttribute) readPerson.getAttribute("Age")).getValue());
+        assertEquals(LocalDate.of(2020, 2, 29), ((DateAttribute) readPerson.getAttribute("Anniversary")).getValue());
+        assertTrue(readPerson.getAttribute("Birthday") instanceof BirthdayAttribute);
+        assertEquals(SexAttribute.Gender.FEMALE, ((SexAttribute) readPerson.getAttribute("Sex")).getGender());
+        assertEquals(person.getAttribute("Name").getValueAsString(),
+                readPerson.getAttribute("Name").getValueAsString());
+    }
+
+    @Test
+    public void readAddressBook_typedNamesStoredAsStrings_sameTypesAsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        Person person = new PersonBuilder().withName("Typed Person").buildWithUuid(TYPED_PERSON_UUID);
+        person.updateAttribute(new StringAttribute("Sex", "male"));
+        person.updateAttribute(new StringAttribute("Birthday", "1990-01-01"));
+        person.updateAttribute(new StringAttribute("Age", "42"));
+        original.addPerson(person);
+
+        storage.saveAddressBook(original);
+        Person readPerson = storage.readAddressBook().get().getPersonList().get(0);
+        assertEquals(SexAttribute.Gender.MALE, ((SexAttribute) readPerson.getAttribute("Sex")).getGender());
+        assertTrue(readPerson.getAttribute("Birthday") instanceof BirthdayAttribute);
+        assertEquals(42, ((IntegerAttribute) readPerson.getAttribute("Age")).getValue());
+    }
+
+    @Test
+    public void readAddressBook_invalidPhone_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        for (int phone : new int[] {-5, 123456789}) {
+            AddressBook original = new AddressBook();
+            Person person = new PersonBuilder().withName("Typed Person").buildWithUuid(TYPED_PERSON_UUID);
+            person.updateAttribute(new IntegerAttribute("Phone", phone));
+            original.addPerson(person);
+
+            storage.saveAddressBook(original);
+            assertThrows(DataLoadingException.class, storage::readAddressBook);
+        }
+    }
+
+    @Test
+    public void readAndSaveAddressBook_valueLongerThanModifiedUtf8Limit_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        Person person = new PersonBuilder().withName("Typed Person").buildWithUuid(TYPED_PERSON_UUID);
+        String notes = "\u00e9".repeat(40000);
+        person.updateAttribute(new StringAttribute("Notes", notes));
+        original.addPerson(person);
+
+        storage.saveAddressBook(original);
+        Person readPerson = storage.readAddressBook().get().getPersonList().get(0);
+        assertEquals(notes, readPerson.getAttribute("Notes").getValueAsString());
+    }
+
+    @Test
+    public void readAddressBook_countLargerThanFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // a string table of more strings than the file holds
+        Files.write(filePath, header(Integer.MAX_VALUE));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // a person record longer than the file
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(header(0));
+        out.writeInt(0); // roleless descriptors
+        out.writeInt(0); // role-based descriptors
+        out.writeInt(1); // persons
+        out.writeInt(Integer.MAX_VALUE);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 10));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    /**
+     * Returns the start of a binary file up to the number of strings in its string table.
+     */
+    private static byte[] header(int stringCount) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+        out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+        out.writeInt(stringCount);
+        return bytes.toByteArray();
+    }
+}
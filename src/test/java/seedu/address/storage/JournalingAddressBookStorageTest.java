@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsUuid.ALICE_BENSON;
+import static seedu.address.testutil.TypicalPersonsUuid.HOON;
+import static seedu.address.testutil.TypicalPersonsUuid.IDA;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+    private static final String JOURNALED_UUID = "00000000-0000-0000-0000-000000000099";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        String snapshot = Files.readString(filePath);
+
+        Person person = new PersonBuilder().withName("Journal Person").buildWithUuid(JOURNALED_UUID);
+        addressBook.addPerson(person);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.updateAttribute(JOURNALED_UUID, new StringAttribute("Hobby", "Chess"));
+        addressBook.deleteAttribute(JOURNALED_UUID, "Email");
+        addressBook.removePerson(HOON);
+        addressBook.deleteRelationship(ALICE_BENSON);
+        addressBook.addRolelessDescriptor("housemates");
+        addressBook.addRelationship(new Relationship(UUID.fromString(JOURNALED_UUID), IDA.getUuid(), "housemates"));
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+
+        // only the journal is written
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        AddressBook readBack = new AddressBook(new JournalingAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        Person readPerson = readBack.getPersonByUuid(UUID.fromString(JOURNALED_UUID));
+        assertEquals("Chess", readPerson.getAttribute("Hobby").getValueAsString());
+        assertFalse(readPerson.hasAttribute("Email"));
+        assertTrue(readBack.showRelationshipTypes().contains("housemates"));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_dataReplaced_wholeAddressBookWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        addressBook.resetData(new AddressBook());
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        Files.write(storage.getJournalFilePath(), "{\"type\":\"ADD_PER".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, new AddressBook(new JournalingAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        Files.writeString(storage.getJournalFilePath(), "{\"type\":\"UNKNOWN\"}\n{\"type\":\"ADD_PERSON\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournalingAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final List<Integer> RECORDS = IntStream.range(0, ParallelRecordConverter.BATCH_SIZE).boxed()
+            .collect(Collectors.toList());
+
+    @Test
+    public void convertEach_validRecords_handledInOrder() throws Exception {
+        List<String> handled = new ArrayList<>();
+        ParallelRecordConverter.convertEach(RECORDS, record -> "record " + record, handled::add);
+
+        assertEquals(RECORDS.stream().map(record -> "record " + record).collect(Collectors.toList()), handled);
+    }
+
+    @Test
+    public void convertEach_failedConversions_firstFailureThrown() {
+        List<Integer> handled = new ArrayList<>();
+        assertThrows(IllegalValueException.class, "record 100", () ->
+                ParallelRecordConverter.convertEach(RECORDS, record -> {
+                    if (record == 100 || record == 900) {
+                        throw new IllegalValueException("record " + record);
+                    }
+                    return record;
+                }, handled::add));
+        assertEquals(RECORDS.subList(0, 100), handled);
+    }
+
+    @Test
+    public void convertEach_handlerFailsBeforeConversionFailure_handlerFailureThrown() {
+        assertThrows(IllegalValueException.class, "handled 10", () ->
+                ParallelRecordConverter.convertEach(RECORDS, record -> {
+                    if (record == 500) {
+                        throw new IllegalArgumentException("record " + record);
+                    }
+                    return record;
+                }, record -> {
+                    if (record == 10) {
+                        throw new IllegalValueException("handled " + record);
+                    }
+                }));
+    }
+
+    @Test
+    public void convertEach_runtimeException_rethrown() {
+        assertThrows(IllegalArgumentException.class, "record 3", () ->
+                ParallelRecordConverter.convertEach(List.of(1, 2, 3), record -> {
+                    if (record == 3) {
+                        throw new IllegalArgumentException("record " + record);
+                    }
+                    return record;
+                }, record -> { }));
+    }
+}
@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsUuid.ALICE;
+import static seedu.address.testutil.TypicalPersonsUuid.HOON;
+import static seedu.address.testutil.TypicalPersonsUuid.IDA;
+import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.attribute.StringAttribute;
+import seedu.address.model.person.relationship.Relationship;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+    private static final int SEGMENT_SIZE = 3;
+    private static final String CHANGED_PERSON_UUID = "00000000-0000-0000-0000-000000000099";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSegmentedFile() {
+        assertTrue(SegmentedAddressBookStorage.isSegmentedFile(Paths.get("data", "addressbook.seg")));
+        assertTrue(SegmentedAddressBookStorage.isSegmentedFile(Paths.get("addressbook.SEG")));
+        assertFalse(SegmentedAddressBookStorage.isSegmentedFile(Paths.get("data", "addressbook.bin")));
+        assertFalse(SegmentedAddressBookStorage.isSegmentedFile(Paths.get("seg")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.seg");
+        assertFalse(new SegmentedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook original = getTypicalAddressBook();
+        original.addRolelessDescriptor("housemates");
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getRelationshipList(), readBack.getRelationshipList());
+        assertTrue(readBack.isRelationRoleless("housemates"));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFile_attributesLoadedWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        for (Person person : readBack.getPersonList()) {
+            assertFalse(person.hasLoadedAttributes());
+        }
+        Person readPerson = readBack.getPersonList().get(0);
+        Person originalPerson = original.getPersonList().get(0);
+        assertEquals(originalPerson.getAttribute("Name").getValueAsString(),
+                readPerson.getAttribute("Name").getValueAsString());
+        assertTrue(readPerson.hasLoadedAttributes());
+        assertFalse(readBack.getPersonList().get(1).hasLoadedAttributes());
+    }
+
+    @Test
+    public void saveAddressBook_attributesNotLoaded_recordsCopied() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(readBack.getPersonList().get(0));
+        storage.saveAddressBook(readBack);
+        for (Person person : readBack.getPersonList()) {
+            assertFalse(person.hasLoadedAttributes());
+        }
+        // the new segment files hold the same records
+        assertFalse(Files.exists(SegmentedAddressBookStorage.getSegmentFilePath(filePath, 0, 0)));
+        assertTrue(Files.exists(SegmentedAddressBookStorage.getSegmentFilePath(filePath, 1, 0)));
+
+        // persons read before the save load their attributes from the new segment files
+        original.removePerson(original.getPersonList().get(0));
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_attributeUpdated_onlyChangedSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        Person person = new PersonBuilder().withName("Changed Person").buildWithUuid(CHANGED_PERSON_UUID);
+        addressBook.addPerson(person);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertSegmentGenerations(filePath, 0, 0, 0);
+
+        // the added person is in the last segment
+        addressBook.updateAttribute(CHANGED_PERSON_UUID, new StringAttribute("Hobby", "Chess"));
+        storage.saveAddressBook(addressBook);
+        assertSegmentGenerations(filePath, 0, 0, 2);
+
+        AddressBook readBack = new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        assertEquals("Chess", readBack.getPersonByUuid(person.getUuid()).getAttribute("Hobby").getValueAsString());
+    }
+
+    @Test
+    public void saveAddressBook_personsAddedAndRemoved_segmentsUpdated() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // new persons fill up the last segment before going to a new one
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertSegmentGenerations(filePath, 0, 0, 1);
+        addressBook.addPerson(IDA);
+        addressBook.addPerson(new PersonBuilder().withName("Changed Person").buildWithUuid(CHANGED_PERSON_UUID));
+        storage.saveAddressBook(addressBook);
+        assertSegmentGenerations(filePath, 0, 0, 2, 2);
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertSegmentGenerations(filePath, 3, 0, 2, 2);
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_relationshipDeleted_noSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.deleteRelationship(addressBook.getRelationshipList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertSegmentGenerations(filePath, 0, 0, 0);
+        AddressBook readBack = new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook.getRelationshipList(), readBack.getRelationshipList());
+    }
+
+    @Test
+    public void saveAddressBook_changesKnown_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        Path journalFilePath = SegmentedAddressBookStorage.getJournalFilePath(filePath);
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] index = Files.readAllBytes(filePath);
+
+        Relationship relationship = addressBook.getRelationshipList().get(0);
+        addressBook.deleteRelationship(relationship);
+        addressBook.addRolelessDescriptor("housemates");
+        addressBook.updateAttribute(ALICE.getUuidString(), new StringAttribute("Hobby", "Chess"));
+        storage.saveAddressBook(addressBook);
+        addressBook.addRelationship(relationship);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(index, Files.readAllBytes(filePath));
+        assertTrue(Files.exists(journalFilePath));
+
+        AddressBook readBack = new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        assertEquals(addressBook.getRelationshipList(), readBack.getRelationshipList());
+        assertTrue(readBack.isRelationRoleless("housemates"));
+        assertEquals("Chess", readBack.getPersonByUuid(ALICE.getUuid()).getAttribute("Hobby").getValueAsString());
+    }
+
+    @Test
+    public void saveAddressBook_journalLargerThanIndex_compactedIntoIndex() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        Path journalFilePath = SegmentedAddressBookStorage.getJournalFilePath(filePath);
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long indexSize = Files.size(filePath);
+
+        for (int i = 0; Files.size(filePath) == indexSize; i++) {
+            addressBook.addRolelessDescriptor("descriptor" + i);
+            storage.saveAddressBook(addressBook);
+            assertTrue(Files.exists(journalFilePath) ? Files.size(journalFilePath) <= indexSize
+                    : Files.size(filePath) > indexSize);
+        }
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook.getRelationshipDescriptors().getRolelessDescriptors(),
+                new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get())
+                        .getRelationshipDescriptors().getRolelessDescriptors());
+    }
+
+    @Test
+    public void readAddressBook_incompleteJournalEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        Path journalFilePath = SegmentedAddressBookStorage.getJournalFilePath(filePath);
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // an entry cut short by a crash while it was being appended
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        byte[] journalWithEntry = Files.readAllBytes(journalFilePath);
+        Files.write(journalFilePath, Arrays.copyOf(journalWithEntry, journalWithEntry.length - 1));
+        addressBook.removePerson(IDA);
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_otherFile_attributesLoaded() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.seg");
+        new SegmentedAddressBookStorage(otherFilePath, SEGMENT_SIZE).saveAddressBook(getTypicalAddressBook());
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("addressBook.seg"));
+        ReadOnlyAddressBook readBack = storage.readAddressBook(otherFilePath).get();
+        for (Person person : readBack.getPersonList()) {
+            assertTrue(person.hasLoadedAttributes());
+        }
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.seg");
+        new SegmentedAddressBookStorage(otherFilePath, SEGMENT_SIZE).saveAddressBook(getTypicalAddressBook());
+        Files.delete(SegmentedAddressBookStorage.getSegmentFilePath(otherFilePath, 0, 1));
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("addressBook.seg"));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook(otherFilePath));
+    }
+
+    @Test
+    public void readAddressBook_notSegmentedFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new SegmentedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressBook.seg");
+        assertThrows(NullPointerException.class, () -> new SegmentedAddressBookStorage(filePath)
+                .saveAddressBook(null));
+    }
+
+    /**
+     * Asserts that the segment files of the data file at {@code filePath} are of the given generations, and that they
+     * are the only segment files of the data file.
+     */
+    private void assertSegmentGenerations(Path filePath, int... segmentGenerations) throws Exception {
+        for (int segment = 0; segment < segmentGenerations.length; segment++) {
+            Path segmentPath = SegmentedAddressBookStorage.getSegmentFilePath(filePath, segmentGenerations[segment],
+                    segment);
+            assertTrue(Files.exists(segmentPath));
+        }
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            long segmentFileCount = files.filter(file -> file.getFileName().toString()
+                    .startsWith(filePath.getFileName() + "."))
+                    .filter(file -> !file.equals(SegmentedAddressBookStorage.getJournalFilePath(filePath))).count();
+            assertEquals(segmentGenerations.length, segmentFileCount);
+        }
+    }
+}
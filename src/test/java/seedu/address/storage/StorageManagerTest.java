@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersonsUuid.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -65,4 +68,21 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void createAddressBookStorage_fileExtensionAndConfig_matchingStorage() {
+        Config config = new Config();
+        assertTrue(StorageManager.createAddressBookStorage(getTempFilePath("ab.bin"), config)
+                instanceof BinaryAddressBookStorage);
+        assertTrue(StorageManager.createAddressBookStorage(getTempFilePath("ab.seg"), config)
+                instanceof SegmentedAddressBookStorage);
+        AddressBookStorage storage = StorageManager.createAddressBookStorage(getTempFilePath("ab.json"), config);
+        assertTrue(storage instanceof BackgroundJsonAddressBookStorage);
+        assertFalse(storage instanceof JournalingAddressBookStorage);
+        assertEquals(getTempFilePath("ab.json"), storage.getAddressBookFilePath());
+
+        config.setAddressBookJournalEnabled(true);
+        assertTrue(StorageManager.createAddressBookStorage(getTempFilePath("ab.json"), config)
+                instanceof JournalingAddressBookStorage);
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class StreamingJsonAddressBookReaderTest {
+
+    private static final Path SERIALIZABLE_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path STORAGE_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path TYPICAL_PERSONS_FILE = SERIALIZABLE_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_sameAsDataBinding() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(expected, StreamingJsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_relationshipsBeforePersons_sameAsDataBinding() throws Exception {
+        Path filePath = testFolder.resolve("relationshipsFirst.json");
+        Files.writeString(filePath, "{ \"relationships\": [ { \"person1\": \"00000000-0000-0000-0000-000000000001\","
+                + " \"person2\": \"00000000-0000-0000-0000-000000000002\", \"relationshipDescriptor\": \"friends\" } ],"
+                + " \"persons\": [ { \"uuid\": \"00000000-0000-0000-0000-000000000001\", \"attributes\": [] },"
+                + " { \"uuid\": \"00000000-0000-0000-0000-000000000002\", \"attributes\": [] } ] }");
+
+        AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        AddressBook actual = StreamingJsonAddressBookReader.read(filePath);
+        assertEquals(expected, actual);
+        assertEquals(1, actual.getRelationshipList().size());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        Path filePath = SERIALIZABLE_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                StreamingJsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                StreamingJsonAddressBookReader.read(STORAGE_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () ->
+                StreamingJsonAddressBookReader.read(STORAGE_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")));
+    }
+
+    @Test
+    public void read_missingPersons_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("missingPersons.json");
+        Files.writeString(filePath, "{ \"relationships\": [] }");
+        assertThrows(IllegalValueException.class, StreamingJsonAddressBookReader.MESSAGE_MISSING_PERSONS, () ->
+                StreamingJsonAddressBookReader.read(filePath));
+    }
+}